@@ -0,0 +1,120 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the single-pass {@link ArgumentTokenizer} with the previous tokenizer, which searched the arguments
+ * string once per prefix and then sorted the positions found.
+ * Run with {@code gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArgumentTokenizerBenchmark {
+
+    private static final Prefix[] PREFIXES = {PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG};
+
+    /** Number of {@code t/} arguments in the arguments string. */
+    @Param({"2", "50"})
+    private int tagCount;
+
+    private String argsString;
+
+    @Setup
+    public void setUp() {
+        StringBuilder builder = new StringBuilder(" n/John Doe p/98765432 e/johnd@example.com"
+                + " a/311, Clementi Ave 2, #02-25");
+        for (int i = 0; i < tagCount; i++) {
+            builder.append(" t/tag").append(i);
+        }
+        argsString = builder.toString();
+    }
+
+    @Benchmark
+    public ArgumentMultimap singlePass() {
+        return ArgumentTokenizer.tokenize(argsString, PREFIXES);
+    }
+
+    @Benchmark
+    public ArgumentMultimap searchPerPrefix() {
+        return SearchPerPrefixTokenizer.tokenize(argsString, PREFIXES);
+    }
+
+    /**
+     * The previous implementation of {@link ArgumentTokenizer}, kept as the baseline.
+     */
+    private static class SearchPerPrefixTokenizer {
+
+        static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
+            List<PrefixPosition> positions = Arrays.stream(prefixes)
+                    .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
+                    .collect(Collectors.toList());
+            return extractArguments(argsString, positions);
+        }
+
+        private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
+            List<PrefixPosition> positions = new ArrayList<>();
+            int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
+            while (prefixPosition != -1) {
+                positions.add(new PrefixPosition(prefix, prefixPosition));
+                prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
+            }
+            return positions;
+        }
+
+        private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
+            int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
+            return prefixIndex == -1 ? -1 : prefixIndex + 1;
+        }
+
+        private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
+            prefixPositions.sort((prefix1, prefix2) -> prefix1.startPosition - prefix2.startPosition);
+            prefixPositions.add(0, new PrefixPosition(new Prefix(""), 0));
+            prefixPositions.add(new PrefixPosition(new Prefix(""), argsString.length()));
+
+            ArgumentMultimap argMultimap = new ArgumentMultimap();
+            for (int i = 0; i < prefixPositions.size() - 1; i++) {
+                PrefixPosition current = prefixPositions.get(i);
+                int valueStartPos = current.startPosition + current.prefix.getPrefix().length();
+                argMultimap.put(current.prefix,
+                        argsString.substring(valueStartPos, prefixPositions.get(i + 1).startPosition).trim());
+            }
+            return argMultimap;
+        }
+
+        private static class PrefixPosition {
+            private final Prefix prefix;
+            private final int startPosition;
+
+            PrefixPosition(Prefix prefix, int startPosition) {
+                this.prefix = prefix;
+                this.startPosition = startPosition;
+            }
+        }
+    }
+}
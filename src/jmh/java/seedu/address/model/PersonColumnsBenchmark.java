@@ -0,0 +1,85 @@
+package seedu.address.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SyntheticPersonGenerator;
+
+/**
+ * Compares the reports computed from the {@link PersonColumns} of a model with the same reports computed by
+ * streaming over the persons, for books of generated persons.
+ * Run with {@code gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PersonColumnsBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int personCount;
+
+    private ModelManager model;
+    private List<Person> persons;
+    private LocalDate firstDay;
+
+    @Setup
+    public void setUp() {
+        persons = new ArrayList<>(personCount);
+        SyntheticPersonGenerator.Settings settings = new SyntheticPersonGenerator.Settings();
+        new SyntheticPersonGenerator(personCount, settings).forEachRemaining(persons::add);
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        model = new ModelManager(addressBook, new UserPrefs());
+        firstDay = settings.getFirstMeetingDate();
+        model.countPersonsByTag(); // builds the columns
+    }
+
+    @Benchmark
+    public Map<String, Long> countByTagFromColumns() {
+        return model.countPersonsByTag();
+    }
+
+    @Benchmark
+    public Map<String, Long> countByTagFromPersons() {
+        return persons.stream()
+                .flatMap(person -> person.getTags().stream())
+                .collect(Collectors.groupingBy(tag -> tag.tagName, Collectors.counting()));
+    }
+
+    @Benchmark
+    public long[] countMeetingsFromColumns() {
+        return model.countMeetingsPerDay(firstDay, 30);
+    }
+
+    @Benchmark
+    public Map<LocalDate, Long> countMeetingsFromPersons() {
+        LocalDate lastDay = firstDay.plusDays(30);
+        return persons.stream()
+                .map(person -> person.getAppointment().getDateTime())
+                .flatMap(dateTime -> dateTime.map(LocalDateTime::toLocalDate).stream())
+                .filter(day -> !day.isBefore(firstDay) && day.isBefore(lastDay))
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+    }
+}
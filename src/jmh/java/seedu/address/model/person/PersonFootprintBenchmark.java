@@ -0,0 +1,108 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.SyntheticPersonGenerator;
+
+/**
+ * Measures the heap retained by a million generated persons, reported as the {@code retainedBytesPerPerson}
+ * secondary result, for the current {@link Person} and for the previous representation, which had a
+ * {@code HashSet} of tags and no shared values.
+ * Every string is copied before it is given to a person, as it would be when read from a file.
+ * Run with {@code gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PersonFootprintBenchmark {
+
+    @Param({"1000000"})
+    private int personCount;
+
+    @Param({"current", "previous"})
+    private String representation;
+
+    /**
+     * Secondary results of the benchmark.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Footprint {
+        public long retainedBytesPerPerson;
+    }
+
+    @Benchmark
+    public List<Object> build(Footprint footprint) {
+        long usedBefore = usedHeapAfterGc();
+        List<Object> persons = new ArrayList<>(personCount);
+        SyntheticPersonGenerator generator =
+                new SyntheticPersonGenerator(personCount, new SyntheticPersonGenerator.Settings());
+        boolean isCurrent = representation.equals("current");
+        while (generator.hasNext()) {
+            Person person = generator.next();
+            persons.add(isCurrent ? copy(person) : new PreviousPerson(person));
+        }
+        footprint.retainedBytesPerPerson = (usedHeapAfterGc() - usedBefore) / personCount;
+        return persons;
+    }
+
+    private static Person copy(Person person) {
+        Set<Tag> tags = new HashSet<>();
+        person.getTags().forEach(tag -> tags.add(new Tag(new String(tag.tagName))));
+        return new Person(new Name(new String(person.getName().fullName)),
+                new Phone(new String(person.getPhone().value)), new Email(new String(person.getEmail().value)),
+                new Address(new String(person.getAddress().value)), tags,
+                new Appointment(new String(person.getAppointment().getValue())));
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * The fields of a {@code Person} before values were shared, kept as the baseline.
+     */
+    private static class PreviousPerson {
+        private final Name name;
+        private final Phone phone;
+        private final Email email;
+        private final Address address;
+        private final Set<Tag> tags = new HashSet<>();
+        private final Appointment appointment;
+
+        PreviousPerson(Person person) {
+            Person copy = copy(person);
+            name = copy.getName();
+            phone = copy.getPhone();
+            email = copy.getEmail();
+            address = new Address(new String(person.getAddress().value));
+            person.getTags().forEach(tag -> tags.add(new Tag(new String(tag.tagName))));
+            appointment = new Appointment(person.getAppointment().getValue());
+        }
+    }
+}
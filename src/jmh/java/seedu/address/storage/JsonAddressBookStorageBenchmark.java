@@ -0,0 +1,78 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.util.SyntheticPersonGenerator;
+
+/**
+ * Measures reading and saving address books of generated persons with {@link JsonAddressBookStorage}, at several
+ * compression levels. The size of the file at each level is printed when it is generated, to weigh the time spent
+ * compressing against the time saved writing to and reading from slow drives.
+ * Run with {@code gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class JsonAddressBookStorageBenchmark {
+
+    @Param({"10000", "100000"})
+    private int personCount;
+
+    @Param({"0", "1", "6", "9"})
+    private int compressionLevel;
+
+    private Path directory;
+    private Path generatedFile;
+    private JsonAddressBookStorage storage;
+    private ReadOnlyAddressBook addressBook;
+
+    @Setup
+    public void setUp() throws IOException, DataConversionException {
+        directory = Files.createTempDirectory("storage-benchmark");
+        generatedFile = directory.resolve("generated.json");
+        JsonAddressBookStorage.savePersons(new SyntheticPersonGenerator(personCount,
+                new SyntheticPersonGenerator.Settings()), generatedFile, compressionLevel);
+        System.out.printf("%n%d persons at compression level %d: %d bytes%n", personCount, compressionLevel,
+                Files.size(generatedFile));
+        storage = new JsonAddressBookStorage(generatedFile, compressionLevel);
+        addressBook = storage.readAddressBook().get();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(directory.resolve("saved.json"));
+        Files.deleteIfExists(generatedFile);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook read() throws DataConversionException {
+        return storage.readAddressBook().get();
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        storage.saveAddressBook(addressBook, directory.resolve("saved.json"));
+    }
+}
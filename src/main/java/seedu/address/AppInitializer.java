@@ -0,0 +1,186 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.CompressionUtil;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.PersonArchive;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.OffHeapStore;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.ArchiveFile;
+import seedu.address.storage.BTreeAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.RecordFileAddressBookStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Contains the start-up steps shared by the GUI ({@link MainApp}) and headless ({@link HeadlessApp}) launchers.
+ * None of these steps touch the {@code ui} package.
+ */
+public class AppInitializer {
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    public static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataConversionException e) {
+            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
+                    + "Using default config properties");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields (only if it changed)
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    public static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using prefs file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataConversionException e) {
+            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
+                    + "Using default user prefs");
+            initializedPrefs = new UserPrefs();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields (only if it changed)
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+    /**
+     * Returns the storage of the address book at {@code filePath}: a page file of B+trees if its name ends with
+     * {@link BTreeAddressBookStorage#FILE_EXTENSION}, a file of checksummed records if it ends with
+     * {@link RecordFileAddressBookStorage#FILE_EXTENSION}, or a JSON file, compressed at the level given by
+     * {@code config}, otherwise.
+     */
+    public static AddressBookStorage createAddressBookStorage(Path filePath, Config config) {
+        if (BTreeAddressBookStorage.isBTreeFile(filePath)) {
+            logger.info("Keeping the address book in a page file");
+            return new BTreeAddressBookStorage(filePath);
+        }
+        if (RecordFileAddressBookStorage.isRecordFile(filePath)) {
+            logger.info("Keeping the address book in a file of checksummed records");
+            return new RecordFileAddressBookStorage(filePath);
+        }
+        int compressionLevel = config.getDataCompressionLevel();
+        if (!CompressionUtil.isValidLevel(compressionLevel)) {
+            logger.warning(CompressionUtil.MESSAGE_LEVEL_CONSTRAINTS + ". Saving the data file uncompressed");
+            compressionLevel = CompressionUtil.NO_COMPRESSION;
+        }
+        return new JsonAddressBookStorage(filePath, compressionLevel);
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs},
+     * which keeps the details of the persons off the heap if {@code config} says so. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     */
+    public static Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs, Config config) {
+        Model model = createModelManager(new AddressBook(), userPrefs, config);
+        loadAddressBook(storage, model);
+        return model;
+    }
+
+    /**
+     * Returns a {@code ModelManager} with {@code addressBook} and {@code userPrefs}, which keeps the details of
+     * the persons off the heap if {@code config} says so, and archived persons in the archive file of
+     * {@code userPrefs}' address book file.
+     */
+    public static ModelManager createModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs,
+            Config config) {
+        ModelManager modelManager;
+        if (config.isOffHeapPersons()) {
+            logger.info("Keeping the details of persons off the heap");
+            modelManager = new ModelManager(addressBook, userPrefs, new OffHeapStore());
+        } else {
+            modelManager = new ModelManager(addressBook, userPrefs);
+        }
+        Path archiveFilePath = ArchiveFile.getArchiveFilePath(userPrefs.getAddressBookFilePath());
+        modelManager.setPersonArchive(new PersonArchive(new ArchiveFile(archiveFilePath)));
+        return modelManager;
+    }
+
+    /**
+     * Sets {@code model}'s address book to the data from {@code storage}'s address book, and marks it as
+     * {@link Storage#markSaved(ReadOnlyAddressBook) saved}, so that it is not written back until it changes. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not
+     * found, or an empty address book if errors occur when reading {@code storage}'s address book; neither is
+     * marked as saved.
+     */
+    public static void loadAddressBook(Storage storage, Model model) {
+        try {
+            Optional<ReadOnlyAddressBook> addressBookOptional = storage.readAddressBook();
+            if (addressBookOptional.isPresent()) {
+                model.setAddressBook(addressBookOptional.get());
+                storage.markSaved(model.getAddressBook());
+                return;
+            }
+            logger.info("Data file not found. Will be starting with a sample AddressBook");
+            model.setAddressBook(SampleDataUtil.getSampleAddressBook());
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
+            model.setAddressBook(new AddressBook());
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
+            model.setAddressBook(new AddressBook());
+        }
+    }
+}
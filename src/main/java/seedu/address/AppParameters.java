@@ -2,6 +2,8 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -14,9 +16,13 @@ import seedu.address.commons.util.FileUtil;
  * Represents the parsed command-line parameters given to the application.
  */
 public class AppParameters {
+    /** Prints how long each start-up phase took once the app has started. */
+    public static final String FLAG_PROFILE_STARTUP = "--profile-startup";
+
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private boolean isStartupProfiled;
 
     public Path getConfigPath() {
         return configPath;
@@ -26,12 +32,35 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    public boolean isStartupProfiled() {
+        return isStartupProfiled;
+    }
+
+    public void setStartupProfiled(boolean isStartupProfiled) {
+        this.isStartupProfiled = isStartupProfiled;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed(), parameters.getUnnamed());
+    }
+
+    /**
+     * Parses the named command-line parameters, e.g. {@code config} for {@code --config=config.json}.
+     */
+    public static AppParameters parse(Map<String, String> namedParameters) {
+        return parse(namedParameters, Collections.emptyList());
+    }
+
+    /**
+     * Parses the named command-line parameters, e.g. {@code config} for {@code --config=config.json},
+     * and the flags among the other parameters, e.g. {@link #FLAG_PROFILE_STARTUP}.
+     */
+    public static AppParameters parse(Map<String, String> namedParameters, List<String> otherParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
+        appParameters.setStartupProfiled(otherParameters.contains(FLAG_PROFILE_STARTUP));
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -54,11 +83,12 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && isStartupProfiled() == otherAppParameters.isStartupProfiled();
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, isStartupProfiled);
     }
 }
@@ -0,0 +1,124 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+
+import seedu.address.commons.util.CompressionUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.util.SyntheticPersonGenerator;
+import seedu.address.storage.BTreeAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.RecordFileAddressBookStorage;
+
+/**
+ * Writes a data file of generated persons, for load testing and benchmarks.
+ * Persons are generated and written one at a time, so files of any size are written in constant memory.
+ * Files whose names end with {@link BTreeAddressBookStorage#FILE_EXTENSION} are written as page files, those that
+ * end with {@link RecordFileAddressBookStorage#FILE_EXTENSION} as files of checksummed records, and other files as
+ * JSON, compressed at {@code --compression} if given.
+ *
+ * Usage: {@code --generate --count=COUNT --file=PATH [--seed=SEED] [--tags=MEAN_TAG_COUNT] [--tag-skew=SKEW]
+ * [--meetings=MEETING_RATIO] [--meeting-days=DAYS] [--compression=LEVEL]}; see
+ * {@link SyntheticPersonGenerator.Settings} for the meaning of the distribution parameters.
+ */
+public class DataGenerator {
+
+    public static final String FLAG_GENERATE = "--generate";
+
+    static final String MESSAGE_USAGE = "Usage: " + FLAG_GENERATE + " --count=COUNT --file=PATH [--seed=SEED]"
+            + " [--tags=MEAN_TAG_COUNT] [--tag-skew=SKEW] [--meetings=MEETING_RATIO] [--meeting-days=DAYS]"
+            + " [--compression=LEVEL]";
+
+    private static final String PARAMETER_COUNT = "count";
+    private static final String PARAMETER_FILE = "file";
+    private static final String PARAMETER_SEED = "seed";
+    private static final String PARAMETER_TAGS = "tags";
+    private static final String PARAMETER_TAG_SKEW = "tag-skew";
+    private static final String PARAMETER_MEETINGS = "meetings";
+    private static final String PARAMETER_MEETING_DAYS = "meeting-days";
+    private static final String PARAMETER_COMPRESSION = "compression";
+
+    /**
+     * Writes the generated persons to the file given by {@code --file}.
+     * The exit status is 0 on success, 1 if the parameters are invalid and 2 if the file could not be written.
+     */
+    public static void main(String[] args) {
+        Map<String, String> namedParameters = HeadlessApp.parseNamedParameters(args);
+        long count;
+        Path filePath;
+        int compressionLevel;
+        SyntheticPersonGenerator.Settings settings;
+        try {
+            count = Long.parseLong(require(namedParameters, PARAMETER_COUNT));
+            String file = require(namedParameters, PARAMETER_FILE);
+            if (count < 0 || !FileUtil.isValidPath(file)) {
+                throw new IllegalArgumentException();
+            }
+            filePath = Paths.get(file);
+            compressionLevel = namedParameters.containsKey(PARAMETER_COMPRESSION)
+                    ? Integer.parseInt(namedParameters.get(PARAMETER_COMPRESSION))
+                    : CompressionUtil.NO_COMPRESSION;
+            if (!CompressionUtil.isValidLevel(compressionLevel)) {
+                throw new IllegalArgumentException();
+            }
+            settings = parseSettings(namedParameters);
+        } catch (IllegalArgumentException e) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        try {
+            SyntheticPersonGenerator persons = new SyntheticPersonGenerator(count, settings);
+            if (BTreeAddressBookStorage.isBTreeFile(filePath)) {
+                BTreeAddressBookStorage.savePersons(persons, filePath);
+            } else if (RecordFileAddressBookStorage.isRecordFile(filePath)) {
+                RecordFileAddressBookStorage.savePersons(persons, filePath);
+            } else {
+                JsonAddressBookStorage.savePersons(persons, filePath, compressionLevel);
+            }
+        } catch (IOException e) {
+            System.err.println("Could not write " + filePath + ": " + e.getMessage());
+            System.exit(2);
+            return;
+        }
+        System.out.printf("Wrote %d persons to %s in %.1f s%n", count, filePath,
+                (System.nanoTime() - startNanos) / 1e9);
+    }
+
+    /**
+     * Returns the generator settings given by {@code namedParameters}, with defaults for the missing ones.
+     *
+     * @throws IllegalArgumentException if any of the parameters is invalid.
+     */
+    static SyntheticPersonGenerator.Settings parseSettings(Map<String, String> namedParameters) {
+        SyntheticPersonGenerator.Settings settings = new SyntheticPersonGenerator.Settings();
+        if (namedParameters.containsKey(PARAMETER_SEED)) {
+            settings.setSeed(Long.parseLong(namedParameters.get(PARAMETER_SEED)));
+        }
+        if (namedParameters.containsKey(PARAMETER_TAGS)) {
+            settings.setMeanTagCount(Double.parseDouble(namedParameters.get(PARAMETER_TAGS)));
+        }
+        if (namedParameters.containsKey(PARAMETER_TAG_SKEW)) {
+            settings.setTagSkew(Double.parseDouble(namedParameters.get(PARAMETER_TAG_SKEW)));
+        }
+        if (namedParameters.containsKey(PARAMETER_MEETINGS)) {
+            settings.setMeetingRatio(Double.parseDouble(namedParameters.get(PARAMETER_MEETINGS)));
+        }
+        if (namedParameters.containsKey(PARAMETER_MEETING_DAYS)) {
+            settings.setMeetingWindowDays(Integer.parseInt(namedParameters.get(PARAMETER_MEETING_DAYS)));
+        }
+        return settings;
+    }
+
+    private static String require(Map<String, String> namedParameters, String name) {
+        String value = namedParameters.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing --" + name);
+        }
+        return value;
+    }
+}
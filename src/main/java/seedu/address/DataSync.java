@@ -0,0 +1,198 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.sync.AddressBookSyncPeer;
+import seedu.address.model.sync.SyncBase;
+import seedu.address.model.sync.SyncPeer;
+import seedu.address.model.sync.SyncResult;
+import seedu.address.model.sync.Synchronizer;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.StreamSyncPeer;
+import seedu.address.storage.SyncBaseFile;
+
+/**
+ * Syncs the address book in a data file with another one, such as an agent's copy with the office copy, exchanging
+ * only the persons in which they differ, as found by comparing the {@link seedu.address.model.sync.MerkleTree}s of
+ * their persons. Changes made to either since the last sync are copied to the other, and persons changed in both
+ * are reported as conflicts and left as they are; see {@link Synchronizer}.
+ *
+ * The other address book is either another data file, given by {@code --with}, or one served by another process
+ * on a loopback {@code --port}, started with {@code --serve}, which keeps serving and saving its data file until it
+ * is terminated. What the address books agreed on at the last sync is kept in the {@link SyncBaseFile} of the
+ * data file given by {@code --file}, so each data file should be synced with a single other one. The application
+ * should not be running on either data file.
+ *
+ * Usage: {@code --sync --file=PATH (--with=PATH | --port=PORT | --serve=PORT)}.
+ */
+public class DataSync {
+
+    public static final String FLAG_SYNC = "--sync";
+
+    static final String MESSAGE_USAGE = "Usage: " + FLAG_SYNC + " --file=PATH (--with=PATH | --port=PORT"
+            + " | --serve=PORT)";
+
+    private static final String PARAMETER_FILE = "file";
+    private static final String PARAMETER_WITH = "with";
+    private static final String PARAMETER_PORT = "port";
+    private static final String PARAMETER_SERVE = "serve";
+
+    private static final Logger logger = LogsCenter.getLogger(DataSync.class);
+
+    /**
+     * Syncs the data file given by {@code --file} as given by the other parameters.
+     * The exit status is 0 on success, 1 if the parameters are invalid and 2 if the sync failed.
+     */
+    public static void main(String[] args) {
+        Map<String, String> namedParameters = HeadlessApp.parseNamedParameters(args);
+        String file = namedParameters.get(PARAMETER_FILE);
+        long otherCount = namedParameters.keySet().stream()
+                .filter(name -> name.equals(PARAMETER_WITH) || name.equals(PARAMETER_PORT)
+                        || name.equals(PARAMETER_SERVE))
+                .count();
+        String with = namedParameters.get(PARAMETER_WITH);
+        if (file == null || !FileUtil.isValidPath(file) || otherCount != 1
+                || (with != null && !FileUtil.isValidPath(with))) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+            return;
+        }
+
+        Config config = AppInitializer.initConfig(null);
+        Path filePath = Paths.get(file);
+        try {
+            if (with != null) {
+                syncFiles(filePath, Paths.get(with), config);
+            } else if (namedParameters.containsKey(PARAMETER_PORT)) {
+                syncWithPort(filePath, Integer.parseInt(namedParameters.get(PARAMETER_PORT)), config);
+            } else {
+                serve(filePath, Integer.parseInt(namedParameters.get(PARAMETER_SERVE)), config);
+            }
+        } catch (NumberFormatException e) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        } catch (DataConversionException | IOException e) {
+            System.err.println("Could not sync " + filePath + ": " + e.getMessage());
+            System.exit(2);
+        }
+    }
+
+    /**
+     * Syncs the address books in the data files at {@code filePath} and {@code otherFilePath}.
+     */
+    static SyncResult syncFiles(Path filePath, Path otherFilePath, Config config)
+            throws DataConversionException, IOException {
+        return sync(filePath, SavingPeer.read(AppInitializer.createAddressBookStorage(otherFilePath, config)), config);
+    }
+
+    /**
+     * Syncs the address book in the data file at {@code filePath} with the one served on the loopback {@code port}.
+     */
+    static SyncResult syncWithPort(Path filePath, int port, Config config)
+            throws DataConversionException, IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+                StreamSyncPeer otherPeer = new StreamSyncPeer(socket.getInputStream(), socket.getOutputStream())) {
+            return sync(filePath, otherPeer, config);
+        }
+    }
+
+    /**
+     * Serves the address book in the data file at {@code filePath} on the loopback {@code port}, to one sync at a
+     * time, saving it after each sync that changed it, until the process is terminated.
+     */
+    static void serve(Path filePath, int port, Config config) throws DataConversionException, IOException {
+        SavingPeer peer = SavingPeer.read(AppInitializer.createAddressBookStorage(filePath, config));
+        try (ServerSocket serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress())) {
+            System.out.println("Serving " + filePath + " for syncs on port " + serverSocket.getLocalPort());
+            while (true) {
+                try (Socket socket = serverSocket.accept()) {
+                    StreamSyncPeer.serve(peer, socket.getInputStream(), socket.getOutputStream());
+                } catch (IOException e) {
+                    logger.warning("Sync failed: " + StringUtil.getDetails(e));
+                }
+            }
+        }
+    }
+
+    /**
+     * Syncs the address book in the data file at {@code filePath} with {@code otherPeer}, which must have saved the
+     * changes made to it by the time they are applied, then saves the data file and its sync base, and prints what
+     * was done. The sync base is saved last, so that a sync cut short is completed by the next one.
+     */
+    private static SyncResult sync(Path filePath, SyncPeer otherPeer, Config config)
+            throws DataConversionException, IOException {
+        SyncBaseFile baseFile = new SyncBaseFile(SyncBaseFile.getSyncBaseFilePath(filePath));
+        SyncBase base = baseFile.read();
+        SavingPeer peer = SavingPeer.read(AppInitializer.createAddressBookStorage(filePath, config));
+
+        long startNanos = System.nanoTime();
+        SyncResult result = Synchronizer.sync(peer, otherPeer, base);
+        long syncNanos = System.nanoTime() - startNanos;
+        baseFile.write(base);
+
+        System.out.printf("Synced %s in %.1f ms: %s%n", filePath, syncNanos / 1e6, result);
+        if (!result.getConflicts().isEmpty()) {
+            System.out.println("Changed in both, left as they are: " + result.getConflicts().stream()
+                    .map(name -> name.fullName)
+                    .collect(Collectors.joining(", ")));
+        }
+        return result;
+    }
+
+    /**
+     * A {@code SyncPeer} of the address book in a data file, which saves the file whenever changes are applied.
+     */
+    private static class SavingPeer implements SyncPeer {
+        private final AddressBookStorage storage;
+        private final AddressBookSyncPeer peer;
+
+        private SavingPeer(AddressBookStorage storage, AddressBook addressBook) {
+            this.storage = storage;
+            this.peer = new AddressBookSyncPeer(addressBook);
+        }
+
+        /**
+         * Returns a {@code SavingPeer} of the address book in {@code storage}, which is empty if there is no data file
+         * yet.
+         */
+        static SavingPeer read(AddressBookStorage storage) throws DataConversionException, IOException {
+            return new SavingPeer(storage, new AddressBook(storage.readAddressBook().orElseGet(AddressBook::new)));
+        }
+
+        @Override
+        public long[] getHashes(int level, int[] nodes) {
+            return peer.getHashes(level, nodes);
+        }
+
+        @Override
+        public List<Person> getPersons(int[] leaves) {
+            return peer.getPersons(leaves);
+        }
+
+        @Override
+        public void apply(List<Person> changedPersons, List<Name> removedNames) throws IOException {
+            if (changedPersons.isEmpty() && removedNames.isEmpty()) {
+                return;
+            }
+            peer.apply(changedPersons, removedNames);
+            storage.saveAddressBook(peer.getAddressBook());
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.UserPrefs;
+import seedu.address.server.ApiServer;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.DeferredSaveStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Runs the application without a GUI, for scripts and scheduled jobs.
+ * Commands are read line by line from standard input, or from the file given by {@code --file=PATH}.
+ * The feedback of each command is printed to standard output and errors are printed to standard error.
+ * Blank lines and lines starting with {@code #} are ignored.
+ *
+ * Only the Logic, Model and Storage components are created; nothing in the {@code ui} package is loaded.
+ * With {@code --save=exit}, the data file is written once when the run ends instead of after every command.
+ * With {@code --port=PORT}, commands are taken from a local {@link ApiServer} instead of the input,
+ * until the process is terminated.
+ * With {@link AppParameters#FLAG_PROFILE_STARTUP}, the time taken by each start-up phase is printed to standard
+ * error before any command is executed.
+ */
+public class HeadlessApp {
+
+    public static final String FLAG_HEADLESS = "--headless";
+
+    public static final String MESSAGE_UNEXPECTED_ERROR = "Unexpected error while executing %1$s: %2$s";
+
+    private static final String PARAMETER_FILE = "file";
+    private static final String PARAMETER_SAVE = "save";
+    private static final String PARAMETER_PORT = "port";
+    private static final String SAVE_ON_EXIT = "exit";
+    private static final String COMMENT_PREFIX = "#";
+    private static final String NAMED_PARAMETER_PREFIX = "--";
+    private static final String NAMED_PARAMETER_SEPARATOR = "=";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final Logic logic;
+    private final Model model;
+    private final Storage storage;
+
+    /**
+     * Creates a {@code HeadlessApp} that executes commands with {@code logic}.
+     * {@code storage} must be the storage that {@code logic} saves to.
+     */
+    public HeadlessApp(Logic logic, Model model, Storage storage) {
+        requireNonNull(logic);
+        requireNonNull(model);
+        requireNonNull(storage);
+        this.logic = logic;
+        this.model = model;
+        this.storage = storage;
+    }
+
+    /**
+     * Initializes the non-UI components, runs all commands from the input and exits.
+     * The exit status is 0 if every command succeeded, 1 if any command failed,
+     * and 2 if the input could not be read or the data could not be saved.
+     */
+    public static void main(String[] args) {
+        logger.info("=============================[ Initializing AddressBook (headless) ]=================");
+        StartupProfiler startupProfiler = new StartupProfiler();
+        Map<String, String> namedParameters = parseNamedParameters(args);
+        AppParameters appParameters = AppParameters.parse(namedParameters, Arrays.asList(args));
+        long phaseStart = System.nanoTime();
+        Config config = AppInitializer.initConfig(appParameters.getConfigPath());
+        phaseStart = startupProfiler.recordSince("config", phaseStart);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        AddressBookStorage addressBookStorage =
+                AppInitializer.createAddressBookStorage(userPrefs.getAddressBookFilePath(), config);
+        Storage storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        if (SAVE_ON_EXIT.equals(namedParameters.get(PARAMETER_SAVE))) {
+            storage = new DeferredSaveStorage(storage);
+        }
+        phaseStart = startupProfiler.recordSince("prefs", phaseStart);
+
+        LogsCenter.init(config);
+        MetricsCenter.init(config);
+        phaseStart = startupProfiler.recordSince("logging", phaseStart);
+
+        Model model = AppInitializer.initModelManager(storage, userPrefs, config);
+        Logic logic = new LogicManager(model, storage);
+        HeadlessApp app = new HeadlessApp(logic, model, storage);
+        startupProfiler.recordSince("address book load", phaseStart);
+        startupProfiler.finish();
+        logger.info(startupProfiler.format());
+        if (appParameters.isStartupProfiled()) {
+            System.err.println(startupProfiler.format());
+        }
+
+        String port = namedParameters.get(PARAMETER_PORT);
+        if (port != null) {
+            serve(app, logic, port);
+            return;
+        }
+
+        int failedCommands;
+        try (BufferedReader input = openInput(namedParameters.get(PARAMETER_FILE))) {
+            try {
+                failedCommands = app.run(input, System.out, System.err);
+            } finally {
+                // Even if the run is cut short, the changes made so far are saved and the metrics written.
+                app.stop();
+            }
+        } catch (IOException e) {
+            logger.severe("Headless run aborted " + StringUtil.getDetails(e));
+            System.exit(2);
+            return;
+        }
+
+        System.exit(failedCommands == 0 ? 0 : 1);
+    }
+
+    /**
+     * Starts an {@code ApiServer} for {@code logic} on {@code port}.
+     * The server runs until the process is terminated, after which {@code app} is stopped.
+     */
+    private static void serve(HeadlessApp app, Logic logic, String port) {
+        ApiServer server;
+        try {
+            server = new ApiServer(logic, Integer.parseInt(port), ApiServer.DEFAULT_THREAD_COUNT,
+                    ApiServer.DEFAULT_QUEUE_CAPACITY);
+        } catch (NumberFormatException | IOException e) {
+            logger.severe("Could not start API server on port " + port + " " + StringUtil.getDetails(e));
+            System.exit(2);
+            return;
+        }
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.stop();
+            try {
+                app.stop();
+            } catch (IOException e) {
+                logger.severe("Failed to save data " + StringUtil.getDetails(e));
+            }
+        }));
+        server.start();
+    }
+
+    /**
+     * Executes every command read from {@code input} until the input ends or an exit command is executed.
+     * A command that fails, even with an unexpected exception, is reported to {@code err} and does not stop the run.
+     *
+     * @return the number of commands that failed.
+     * @throws IOException if {@code input} could not be read.
+     */
+    public int run(BufferedReader input, PrintStream out, PrintStream err) throws IOException {
+        int failedCommands = 0;
+        String line;
+        while ((line = input.readLine()) != null) {
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                out.println(commandResult.getFeedbackToUser());
+                if (commandResult.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                failedCommands++;
+                err.println(e.getMessage());
+            } catch (RuntimeException e) {
+                failedCommands++;
+                logger.warning("Failed to execute " + commandText + ": " + StringUtil.getDetails(e));
+                err.println(String.format(MESSAGE_UNEXPECTED_ERROR, commandText, e));
+            }
+        }
+        return failedCommands;
+    }
+
+    /**
+     * Writes any deferred address book save and the user prefs.
+     * @throws IOException if there was any problem writing to the files.
+     */
+    public void stop() throws IOException {
+        logger.info("============================ [ Stopping Address Book (headless) ] ==================");
+        if (storage instanceof DeferredSaveStorage) {
+            DeferredSaveStorage deferredStorage = (DeferredSaveStorage) storage;
+            deferredStorage.flush();
+        }
+        storage.saveUserPrefs(model.getUserPrefs());
+        MetricsCenter.stop();
+    }
+
+    /**
+     * Returns the parameters of the form {@code --name=value} in {@code args}, keyed by {@code name}.
+     * Other arguments, such as {@link #FLAG_HEADLESS}, are ignored.
+     */
+    static Map<String, String> parseNamedParameters(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf(NAMED_PARAMETER_SEPARATOR);
+            if (!arg.startsWith(NAMED_PARAMETER_PREFIX) || separatorIndex == -1) {
+                continue;
+            }
+            namedParameters.put(arg.substring(NAMED_PARAMETER_PREFIX.length(), separatorIndex),
+                    arg.substring(separatorIndex + 1));
+        }
+        return namedParameters;
+    }
+
+    private static BufferedReader openInput(String scriptFile) throws IOException {
+        if (scriptFile == null) {
+            return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        }
+        if (!FileUtil.isValidPath(scriptFile)) {
+            throw new IOException("Invalid script file path " + scriptFile);
+        }
+        return Files.newBufferedReader(Paths.get(scriptFile), StandardCharsets.UTF_8);
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address;
 
+import java.util.Arrays;
+
 import javafx.application.Application;
 
 /**
@@ -17,9 +19,30 @@ import javafx.application.Application;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * When started with {@code --headless}, the application runs {@link HeadlessApp} instead,
+ * without initializing JavaFX at all. When started with {@code --generate}, it runs {@link DataGenerator} instead,
+ * and when started with {@code --sync}, {@link DataSync}.
  */
 public class Main {
+    /**
+     * Launches the GUI, or the headless launcher if {@code args} contains {@link HeadlessApp#FLAG_HEADLESS},
+     * or the data generator if {@code args} contains {@link DataGenerator#FLAG_GENERATE},
+     * or the data sync if {@code args} contains {@link DataSync#FLAG_SYNC}.
+     */
     public static void main(String[] args) {
+        if (Arrays.asList(args).contains(DataGenerator.FLAG_GENERATE)) {
+            DataGenerator.main(args);
+            return;
+        }
+        if (Arrays.asList(args).contains(DataSync.FLAG_SYNC)) {
+            DataSync.main(args);
+            return;
+        }
+        if (Arrays.asList(args).contains(HeadlessApp.FLAG_HEADLESS)) {
+            HeadlessApp.main(args);
+            return;
+        }
         Application.launch(MainApp.class, args);
     }
 }
@@ -0,0 +1,59 @@
+package seedu.address;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records how long each phase of the app's start-up takes, and on which thread it runs, so that phases that run
+ * concurrently can be told apart from those that run in sequence.
+ * Phases can be recorded from any thread.
+ */
+public class StartupProfiler {
+
+    private final long startNanos;
+    private final List<String> phases = new ArrayList<>();
+    private long endNanos;
+
+    /**
+     * Creates a profiler whose start-up starts now.
+     */
+    public StartupProfiler() {
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Records that {@code phase} ran from {@code phaseStartNanos} until now, as given by {@link System#nanoTime()},
+     * and returns the current time, which is when the next phase starts.
+     */
+    public long recordSince(String phase, long phaseStartNanos) {
+        long now = System.nanoTime();
+        String thread = Thread.currentThread().getName();
+        synchronized (this) {
+            phases.add(String.format("%n  %-20s %6d ms  [%s]", phase, toMillis(now - phaseStartNanos), thread));
+        }
+        return now;
+    }
+
+    /**
+     * Records that the start-up has finished.
+     */
+    public synchronized void finish() {
+        endNanos = System.nanoTime();
+    }
+
+    /**
+     * Returns a report of the phases recorded so far, in the order they finished, and of the total start-up time
+     * if it has finished.
+     */
+    public synchronized String format() {
+        StringBuilder report = new StringBuilder(endNanos == 0
+                ? "Start-up phases:"
+                : "Start-up took " + toMillis(endNanos - startNanos) + " ms:");
+        phases.forEach(report::append);
+        return report.toString();
+    }
+
+    private static long toMillis(long nanos) {
+        return nanos / 1_000_000;
+    }
+}
@@ -0,0 +1,193 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@link Handler} that hands log records to other handlers on a background thread, so that logging threads,
+ * e.g. the JavaFX application thread, never wait for the console or the log file.
+ *
+ * Records are queued in a bounded ring buffer, which a writer thread drains in batches. When the buffer is full,
+ * the {@link OverflowPolicy} decides whether the logging thread waits for space or the record is dropped; the number
+ * of dropped records is logged once there is space again.
+ *
+ * Closing the handler writes the records still queued and closes the other handlers.
+ * {@link java.util.logging.LogManager} closes the handlers of all loggers when the JVM shuts down, so queued records
+ * are not lost on exit.
+ */
+public class AsyncLogHandler extends Handler {
+
+    /**
+     * What to do with a record that is logged while the buffer is full.
+     */
+    public enum OverflowPolicy {
+        /** Wait until the writer thread has made space for the record. */
+        BLOCK,
+        /** Drop the record, so that logging never waits. */
+        DROP
+    }
+
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    /** Queued by {@link #close()} to tell the writer thread that no more records follow. */
+    private static final LogRecord END_OF_RECORDS = new LogRecord(Level.OFF, "");
+
+    private final List<Handler> handlers;
+    private final BlockingQueue<LogRecord> queue;
+    private final Thread writer;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong queuedCount = new AtomicLong();
+    /** Number of records written so far; guarded by {@code this}. */
+    private long writtenCount;
+    private volatile OverflowPolicy overflowPolicy;
+    private volatile boolean isClosed;
+
+    /**
+     * Creates a handler that passes records to {@code handlers}, queueing up to {@code capacity} records.
+     */
+    public AsyncLogHandler(int capacity, OverflowPolicy overflowPolicy, Handler... handlers) {
+        requireNonNull(overflowPolicy);
+        this.handlers = Arrays.asList(handlers.clone());
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+        this.writer = new Thread(this::writeRecords, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = requireNonNull(overflowPolicy);
+    }
+
+    /**
+     * Returns the number of records dropped because the buffer was full that have not been reported yet.
+     */
+    long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+
+        // the caller is inferred from the stack, so it has to be done before the record leaves this thread
+        record.getSourceClassName();
+        if (overflowPolicy == OverflowPolicy.DROP) {
+            if (!queue.offer(record)) {
+                droppedCount.incrementAndGet();
+                return;
+            }
+        } else {
+            try {
+                queue.put(record);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        queuedCount.incrementAndGet();
+    }
+
+    /**
+     * Waits until the records published so far have been written, then flushes the other handlers.
+     */
+    @Override
+    public void flush() {
+        long target = queuedCount.get();
+        synchronized (this) {
+            while (writtenCount < target && writer.isAlive()) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+        handlers.forEach(Handler::flush);
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+        }
+
+        try {
+            queue.put(END_OF_RECORDS);
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        handlers.forEach(Handler::close);
+    }
+
+    /**
+     * Writes the queued records to the other handlers until {@link #END_OF_RECORDS} is reached.
+     */
+    private void writeRecords() {
+        List<LogRecord> batch = new ArrayList<>();
+        while (true) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch);
+
+            reportDroppedRecords();
+            boolean isEnd = false;
+            for (LogRecord record : batch) {
+                if (record == END_OF_RECORDS) {
+                    isEnd = true;
+                    break;
+                }
+                write(record);
+            }
+
+            synchronized (this) {
+                writtenCount += batch.size();
+                notifyAll();
+            }
+            batch.clear();
+            if (isEnd) {
+                return;
+            }
+        }
+    }
+
+    private void reportDroppedRecords() {
+        long dropped = droppedCount.getAndSet(0);
+        if (dropped > 0) {
+            LogRecord report = new LogRecord(Level.WARNING, dropped + " log records dropped as the log queue was full");
+            report.setLoggerName(AsyncLogHandler.class.getSimpleName());
+            report.setSourceClassName(AsyncLogHandler.class.getName());
+            write(report);
+        }
+    }
+
+    private void write(LogRecord record) {
+        for (Handler handler : handlers) {
+            try {
+                handler.publish(record);
+            } catch (RuntimeException e) {
+                reportError("Failed to write log record", e, ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+}
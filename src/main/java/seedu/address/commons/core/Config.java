@@ -5,6 +5,8 @@ import java.nio.file.Paths;
 import java.util.Objects;
 import java.util.logging.Level;
 
+import seedu.address.commons.core.AsyncLogHandler.OverflowPolicy;
+
 /**
  * Config values used by the app
  */
@@ -14,7 +16,12 @@ public class Config {
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
+    private OverflowPolicy logOverflowPolicy = OverflowPolicy.DROP;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private Path metricsFilePath = Paths.get("metrics.log");
+    private long metricsDumpIntervalSeconds = 60;
+    private boolean isOffHeapPersons = false;
+    private int dataCompressionLevel = 0;
 
     public Level getLogLevel() {
         return logLevel;
@@ -24,6 +31,14 @@ public class Config {
         this.logLevel = logLevel;
     }
 
+    public OverflowPolicy getLogOverflowPolicy() {
+        return logOverflowPolicy;
+    }
+
+    public void setLogOverflowPolicy(OverflowPolicy logOverflowPolicy) {
+        this.logOverflowPolicy = logOverflowPolicy;
+    }
+
     public Path getUserPrefsFilePath() {
         return userPrefsFilePath;
     }
@@ -32,6 +47,45 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public Path getMetricsFilePath() {
+        return metricsFilePath;
+    }
+
+    public void setMetricsFilePath(Path metricsFilePath) {
+        this.metricsFilePath = metricsFilePath;
+    }
+
+    public long getMetricsDumpIntervalSeconds() {
+        return metricsDumpIntervalSeconds;
+    }
+
+    public void setMetricsDumpIntervalSeconds(long metricsDumpIntervalSeconds) {
+        this.metricsDumpIntervalSeconds = metricsDumpIntervalSeconds;
+    }
+
+    /**
+     * Returns true if the details of the persons in the address book are kept outside the Java heap.
+     */
+    public boolean isOffHeapPersons() {
+        return isOffHeapPersons;
+    }
+
+    public void setOffHeapPersons(boolean isOffHeapPersons) {
+        this.isOffHeapPersons = isOffHeapPersons;
+    }
+
+    /**
+     * Returns the level, from 1 (fastest) to 9 (smallest), at which the JSON data file is compressed when it is
+     * saved, or 0 if it is saved uncompressed.
+     */
+    public int getDataCompressionLevel() {
+        return dataCompressionLevel;
+    }
+
+    public void setDataCompressionLevel(int dataCompressionLevel) {
+        this.dataCompressionLevel = dataCompressionLevel;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,19 +98,30 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && logOverflowPolicy == o.logOverflowPolicy
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && Objects.equals(metricsFilePath, o.metricsFilePath)
+                && metricsDumpIntervalSeconds == o.metricsDumpIntervalSeconds
+                && isOffHeapPersons == o.isOffHeapPersons
+                && dataCompressionLevel == o.dataCompressionLevel;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, logOverflowPolicy, userPrefsFilePath, metricsFilePath,
+                metricsDumpIntervalSeconds, isOffHeapPersons, dataCompressionLevel);
     }
 
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
+        sb.append("\nLog overflow policy : " + logOverflowPolicy);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nMetrics file Location : " + metricsFilePath);
+        sb.append("\nMetrics dump interval (s) : " + metricsDumpIntervalSeconds);
+        sb.append("\nOff-heap persons : " + isOffHeapPersons);
+        sb.append("\nData compression level : " + dataCompressionLevel);
         return sb.toString();
     }
 
@@ -4,49 +4,58 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
 
+import seedu.address.commons.core.AsyncLogHandler.OverflowPolicy;
+
 /**
  * Configures and manages loggers and handlers, including their logging level
  * Named {@link Logger}s can be obtained from this class<br>
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Messages are written by a background thread through an {@link AsyncLogHandler}, so logging does not wait for
+ *   the console or the file. Messages that are costly to build should be logged with a {@code Supplier}, e.g.
+ *   {@code logger.fine(() -> "..." + value)}, so that they are only built if they will be logged.<br>
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
     private static final String LOG_FILE = "addressbook.log";
     private static Level currentLogLevel = Level.INFO;
+    private static AsyncLogHandler asyncHandler;
     private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
-    private static FileHandler fileHandler;
-    private static ConsoleHandler consoleHandler;
 
     /**
-     * Initializes with a custom log level (specified in the {@code config} object)
-     * Loggers obtained *AFTER* this initialization will have their logging level changed<br>
-     * Logging levels for existing loggers will only be updated if the logger with the same name
-     * is requested again from the LogsCenter.
+     * Initializes with a custom log level and overflow policy (specified in the {@code config} object).
+     * The log level applies to all loggers obtained from the LogsCenter, including existing ones.
      */
     public static void init(Config config) {
         currentLogLevel = config.getLogLevel();
+        AsyncLogHandler handler = getAsyncHandler();
+        handler.setLevel(currentLogLevel);
+        handler.setOverflowPolicy(config.getLogOverflowPolicy());
         logger.info("currentLogLevel: " + currentLogLevel);
     }
 
     /**
      * Creates a logger with the given name.
+     * The handlers of the logger are only replaced the first time it is requested.
      */
     public static Logger getLogger(String name) {
         Logger logger = Logger.getLogger(name);
-        logger.setUseParentHandlers(false);
-
-        removeHandlers(logger);
-        addConsoleHandler(logger);
-        addFileHandler(logger);
+        AsyncLogHandler handler = getAsyncHandler();
+        if (!Arrays.asList(logger.getHandlers()).contains(handler)) {
+            logger.setUseParentHandlers(false);
+            removeHandlers(logger);
+            logger.addHandler(handler);
+        }
 
-        return Logger.getLogger(name);
+        return logger;
     }
 
     /**
@@ -60,14 +69,29 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code consoleHandler} to the {@code logger}. <br>
-     * Creates the {@code consoleHandler} if it is null.
+     * Returns the handler shared by all loggers, which writes to the console and the log file. <br>
+     * Creates it if it is null.
      */
-    private static void addConsoleHandler(Logger logger) {
-        if (consoleHandler == null) {
-            consoleHandler = createConsoleHandler();
+    private static synchronized AsyncLogHandler getAsyncHandler() {
+        if (asyncHandler == null) {
+            asyncHandler = createAsyncHandler();
+        }
+        return asyncHandler;
+    }
+
+    private static AsyncLogHandler createAsyncHandler() {
+        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.ALL);
+        AsyncLogHandler handler;
+        try {
+            handler = new AsyncLogHandler(AsyncLogHandler.DEFAULT_CAPACITY, OverflowPolicy.DROP, consoleHandler,
+                    createFileHandler());
+        } catch (IOException e) {
+            handler = new AsyncLogHandler(AsyncLogHandler.DEFAULT_CAPACITY, OverflowPolicy.DROP, consoleHandler);
+            handler.publish(new LogRecord(Level.WARNING, "Error adding file handler for logger."));
         }
-        logger.addHandler(consoleHandler);
+        handler.setLevel(currentLogLevel);
+        return handler;
     }
 
     /**
@@ -78,35 +102,14 @@ public class LogsCenter {
                 .forEach(logger::removeHandler);
     }
 
-    /**
-     * Adds the {@code fileHandler} to the {@code logger}. <br>
-     * Creates {@code fileHandler} if it is null.
-     */
-    private static void addFileHandler(Logger logger) {
-        try {
-            if (fileHandler == null) {
-                fileHandler = createFileHandler();
-            }
-            logger.addHandler(fileHandler);
-        } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
-        }
-    }
-
     /**
      * Creates a {@code FileHandler} for the log file.
      * @throws IOException if there are problems opening the file.
      */
-    private static FileHandler createFileHandler() throws IOException {
+    private static Handler createFileHandler() throws IOException {
         FileHandler fileHandler = new FileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT, true);
         fileHandler.setFormatter(new SimpleFormatter());
-        fileHandler.setLevel(currentLogLevel);
+        fileHandler.setLevel(Level.ALL);
         return fileHandler;
     }
-
-    private static ConsoleHandler createConsoleHandler() {
-        ConsoleHandler consoleHandler = new ConsoleHandler();
-        consoleHandler.setLevel(currentLogLevel);
-        return consoleHandler;
-    }
 }
@@ -9,5 +9,8 @@ public class Messages {
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_PERSON_DISPLAYED_INDEX = "The person index provided is invalid";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
+    public static final String MESSAGE_ARCHIVE_ERROR = "Could not read or write the archive: ";
+    public static final String MESSAGE_ARCHIVED_PERSON = "An archived person is named %1$s; bring them back with "
+            + "unarchive instead";
 
 }
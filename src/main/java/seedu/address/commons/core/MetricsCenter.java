@@ -0,0 +1,96 @@
+package seedu.address.commons.core;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.metrics.CommandMetrics;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Holds the {@link CommandMetrics} of the app and periodically appends them to a metrics file.
+ * A snapshot is only appended if commands have been executed since the last one, so an idle app does not grow
+ * the file. The file path and dump interval are specified in the {@code config} object.
+ */
+public class MetricsCenter {
+    private static final Logger logger = LogsCenter.getLogger(MetricsCenter.class);
+    private static final CommandMetrics commandMetrics = new CommandMetrics();
+
+    private static ScheduledExecutorService dumpExecutor;
+    private static Path metricsFilePath;
+    private static long commandCountAtLastDump;
+
+    /**
+     * Returns the metrics of the commands executed by the app.
+     */
+    public static CommandMetrics getCommandMetrics() {
+        return commandMetrics;
+    }
+
+    /**
+     * Starts appending the metrics to the file specified in {@code config} at the interval specified there.
+     * Dumps are disabled if the interval is not positive.
+     */
+    public static synchronized void init(Config config) {
+        stopDumps();
+        metricsFilePath = config.getMetricsFilePath();
+        long intervalSeconds = config.getMetricsDumpIntervalSeconds();
+        if (intervalSeconds <= 0) {
+            logger.info("Metrics dumps disabled");
+            return;
+        }
+
+        logger.info("Dumping metrics to " + metricsFilePath + " every " + intervalSeconds + "s");
+        dumpExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-dump");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dumpExecutor.scheduleAtFixedRate(MetricsCenter::dump, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops the periodic dumps, and appends a final snapshot if commands have been executed since the last one.
+     */
+    public static synchronized void stop() {
+        if (dumpExecutor != null) {
+            stopDumps();
+            dump();
+        }
+    }
+
+    private static void stopDumps() {
+        if (dumpExecutor != null) {
+            dumpExecutor.shutdownNow();
+            dumpExecutor = null;
+        }
+    }
+
+    /**
+     * Appends a timestamped snapshot of the metrics to the metrics file, if commands have been executed since the
+     * last snapshot.
+     */
+    static synchronized void dump() {
+        long commandCount = commandMetrics.getCommandCount();
+        if (metricsFilePath == null || commandCount == commandCountAtLastDump) {
+            return;
+        }
+
+        String snapshot = "=== " + LocalDateTime.now() + " ===\n" + commandMetrics.format() + "\n\n";
+        try {
+            FileUtil.createIfMissing(metricsFilePath);
+            Files.write(metricsFilePath, snapshot.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+            commandCountAtLastDump = commandCount;
+        } catch (IOException e) {
+            logger.warning("Failed to dump metrics to " + metricsFilePath + ": " + StringUtil.getDetails(e));
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.address.commons.core.jfr;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+/**
+ * A JFR event spanning a read or write of an address book file.
+ * The fields are protected because JFR only records the fields of a superclass that are visible to subclasses.
+ */
+public abstract class AddressBookIoEvent extends Event {
+
+    @Label("File Path")
+    protected String filePath;
+
+    @Label("Record Count")
+    @Description("Number of persons read or written")
+    protected int recordCount;
+
+    @Label("Byte Count")
+    @Description("Size of the file read or written")
+    @DataAmount(DataAmount.BYTES)
+    protected long byteCount;
+
+    public void setFilePath(String filePath) {
+        this.filePath = filePath;
+    }
+
+    public void setRecordCount(int recordCount) {
+        this.recordCount = recordCount;
+    }
+
+    public void setByteCount(long byteCount) {
+        this.byteCount = byteCount;
+    }
+}
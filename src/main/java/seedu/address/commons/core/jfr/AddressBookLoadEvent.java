@@ -0,0 +1,16 @@
+package seedu.address.commons.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A JFR event spanning the reading and conversion of an address book file.
+ */
+@Name("seedu.address.AddressBookLoad")
+@Label("Address Book Load")
+@Category({"InsurancePal", "Storage"})
+@Description("Reading and conversion of an address book file")
+public class AddressBookLoadEvent extends AddressBookIoEvent {
+}
@@ -0,0 +1,16 @@
+package seedu.address.commons.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A JFR event spanning the conversion and writing of an address book file.
+ */
+@Name("seedu.address.AddressBookSave")
+@Label("Address Book Save")
+@Category({"InsurancePal", "Storage"})
+@Description("Conversion and writing of an address book file")
+public class AddressBookSaveEvent extends AddressBookIoEvent {
+}
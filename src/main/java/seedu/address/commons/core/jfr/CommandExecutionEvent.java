@@ -0,0 +1,41 @@
+package seedu.address.commons.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A JFR event spanning the parsing, execution and saving of one user command.
+ * Other events recorded on the same thread during this event, e.g. saves and GC pauses, can thereby be attributed
+ * to the command.
+ */
+@Name("seedu.address.CommandExecution")
+@Label("Command Execution")
+@Category({"InsurancePal", "Logic"})
+@Description("Parsing, execution and saving of a user command")
+public class CommandExecutionEvent extends Event {
+
+    @Label("Command Word")
+    private String commandWord;
+
+    @Label("Succeeded")
+    private boolean succeeded;
+
+    @Label("Record Count")
+    @Description("Number of persons in the address book after the command")
+    private int recordCount;
+
+    public void setCommandWord(String commandWord) {
+        this.commandWord = commandWord;
+    }
+
+    public void setSucceeded(boolean succeeded) {
+        this.succeeded = succeeded;
+    }
+
+    public void setRecordCount(int recordCount) {
+        this.recordCount = recordCount;
+    }
+}
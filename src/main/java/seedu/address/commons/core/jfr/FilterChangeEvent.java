@@ -0,0 +1,41 @@
+package seedu.address.commons.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A JFR event spanning a change of the filter predicate of the filtered person list, including the re-filtering of
+ * the list and the change events it fires to the UI.
+ */
+@Name("seedu.address.FilterChange")
+@Label("Filter Change")
+@Category({"InsurancePal", "Model"})
+@Description("A change of the filter of the displayed person list")
+public class FilterChangeEvent extends Event {
+
+    @Label("Predicate")
+    private String predicate;
+
+    @Label("Record Count")
+    @Description("Number of persons in the address book")
+    private int recordCount;
+
+    @Label("Match Count")
+    @Description("Number of persons shown after the change")
+    private int matchCount;
+
+    public void setPredicate(String predicate) {
+        this.predicate = predicate;
+    }
+
+    public void setRecordCount(int recordCount) {
+        this.recordCount = recordCount;
+    }
+
+    public void setMatchCount(int matchCount) {
+        this.matchCount = matchCount;
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.address.commons.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A JFR event spanning a change to the persons in the model, including the change events it fires to the UI
+ * outside of a batch.
+ */
+@Name("seedu.address.PersonListChange")
+@Label("Person List Change")
+@Category({"InsurancePal", "Model"})
+@Description("A change to the persons in the model")
+public class PersonListChangeEvent extends Event {
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Record Count")
+    @Description("Number of persons in the address book after the change")
+    private int recordCount;
+
+    public void setOperation(String operation) {
+        this.operation = operation;
+    }
+
+    public void setRecordCount(int recordCount) {
+        this.recordCount = recordCount;
+    }
+}
@@ -0,0 +1,175 @@
+package seedu.address.commons.core.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and allocation statistics of executed commands, kept per command word.
+ * Each phase of a command's execution has its own {@link Histogram} of durations, so that e.g. a slow save can be
+ * told apart from a slow command. Statistics can be recorded from any thread without locking.
+ */
+public class CommandMetrics {
+
+    /**
+     * The phases of a command's execution whose durations are recorded.
+     */
+    public enum Phase {
+        PARSE("parse"),
+        EXECUTE("execute"),
+        SAVE("save"),
+        UI_REFRESH("ui refresh");
+
+        private final String description;
+
+        Phase(String description) {
+            this.description = description;
+        }
+    }
+
+    private static final com.sun.management.ThreadMXBean threadMxBean = getAllocationTrackingBean();
+
+    private final ConcurrentMap<String, CommandStats> statsByCommandWord = new ConcurrentHashMap<>();
+    private final LongAdder skippedSaves = new LongAdder();
+
+    /**
+     * Returns the number of bytes allocated so far by the current thread, or -1 if the JVM does not track it.
+     */
+    public static long getAllocatedBytes() {
+        return threadMxBean == null ? -1 : threadMxBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static com.sun.management.ThreadMXBean getAllocationTrackingBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) bean;
+        return allocationBean.isThreadAllocatedMemorySupported() && allocationBean.isThreadAllocatedMemoryEnabled()
+                ? allocationBean
+                : null;
+    }
+
+    /**
+     * Records that {@code phase} of a {@code commandWord} command took from {@code startNanos} until now, as given
+     * by {@link System#nanoTime()}, and returns the current time, which is when the next phase starts.
+     */
+    public long recordSince(String commandWord, Phase phase, long startNanos) {
+        long now = System.nanoTime();
+        recordDuration(commandWord, phase, now - startNanos);
+        return now;
+    }
+
+    /**
+     * Records that {@code phase} of a {@code commandWord} command took {@code durationNanos} nanoseconds.
+     */
+    public void recordDuration(String commandWord, Phase phase, long durationNanos) {
+        requireNonNull(phase);
+        getStats(commandWord).durations.get(phase).record(durationNanos);
+    }
+
+    /**
+     * Records that a {@code commandWord} command allocated {@code bytes} bytes.
+     */
+    public void recordAllocation(String commandWord, long bytes) {
+        getStats(commandWord).allocations.record(bytes);
+    }
+
+    /**
+     * Records that a {@code commandWord} command failed.
+     */
+    public void recordFailure(String commandWord) {
+        getStats(commandWord).failures.increment();
+    }
+
+    /**
+     * Records that a save of the address book was skipped, as it had not changed since it was last saved.
+     */
+    public void recordSkippedSave() {
+        skippedSaves.increment();
+    }
+
+    /**
+     * Returns the number of saves of the address book that were skipped, as it had not changed since it was last
+     * saved.
+     */
+    public long getSkippedSaveCount() {
+        return skippedSaves.sum();
+    }
+
+    /**
+     * Returns the total number of commands that have been parsed or have failed.
+     */
+    public long getCommandCount() {
+        return statsByCommandWord.values().stream()
+                .mapToLong(stats -> stats.durations.get(Phase.PARSE).getCount() + stats.failures.sum())
+                .sum();
+    }
+
+    private CommandStats getStats(String commandWord) {
+        requireNonNull(commandWord);
+        CommandStats stats = statsByCommandWord.get(commandWord);
+        return stats != null ? stats : statsByCommandWord.computeIfAbsent(commandWord, unused -> new CommandStats());
+    }
+
+    /**
+     * Returns a report of the statistics of every command word, in alphabetical order, followed by the number of
+     * skipped saves. Durations are given in milliseconds as the median, 99th percentile and maximum.
+     */
+    public String format() {
+        if (statsByCommandWord.isEmpty()) {
+            return "No commands have been executed yet.";
+        }
+
+        StringBuilder report = new StringBuilder("Command statistics (ms: p50 / p99 / max):");
+        new TreeMap<>(statsByCommandWord).forEach((commandWord, stats) -> stats.appendTo(report, commandWord));
+        long skippedSaveCount = skippedSaves.sum();
+        if (skippedSaveCount > 0) {
+            report.append("\n").append(skippedSaveCount).append(" saves skipped, as nothing had changed");
+        }
+        return report.toString();
+    }
+
+    /**
+     * The statistics of one command word.
+     */
+    private static class CommandStats {
+        private final Map<Phase, Histogram> durations = new EnumMap<>(Phase.class);
+        private final Histogram allocations = new Histogram();
+        private final LongAdder failures = new LongAdder();
+
+        CommandStats() {
+            for (Phase phase : Phase.values()) {
+                durations.put(phase, new Histogram());
+            }
+        }
+
+        void appendTo(StringBuilder report, String commandWord) {
+            report.append("\n").append(commandWord).append(": ")
+                    .append(durations.get(Phase.PARSE).getCount()).append(" parsed, ")
+                    .append(failures.sum()).append(" failed");
+            for (Phase phase : Phase.values()) {
+                Histogram histogram = durations.get(phase);
+                if (histogram.getCount() > 0) {
+                    report.append(String.format("\n  %s %.3f / %.3f / %.3f", phase.description,
+                            toMillis(histogram.getValueAtPercentile(50)), toMillis(histogram.getValueAtPercentile(99)),
+                            toMillis(histogram.getMax())));
+                }
+            }
+            if (allocations.getCount() > 0) {
+                report.append(String.format("\n  allocated %.1f KB median, %.1f KB max",
+                        allocations.getValueAtPercentile(50) / 1024.0, allocations.getMax() / 1024.0));
+            }
+        }
+
+        private static double toMillis(long nanos) {
+            return nanos / 1e6;
+        }
+    }
+}
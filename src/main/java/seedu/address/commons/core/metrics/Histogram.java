@@ -0,0 +1,97 @@
+package seedu.address.commons.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A histogram of non-negative long values, such as durations in nanoseconds or sizes in bytes, that can be recorded
+ * from any number of threads without locking.
+ *
+ * Like an HDR histogram, values are counted in buckets of equal relative width: each power of two is split into
+ * {@value #SUB_BUCKET_COUNT} buckets, so a recorded value is known to within 1/{@value #SUB_BUCKET_COUNT} (6.25%)
+ * whatever its magnitude, and the histogram takes the same fixed space however many values are recorded.
+ * Values below {@value #SUB_BUCKET_COUNT} are counted exactly.
+ *
+ * Reading while other threads record gives counts that may be slightly out of step with each other.
+ */
+public class Histogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    /** Enough buckets for every non-negative long, whose highest set bit is at most bit 62. */
+    private static final int BUCKET_COUNT = (62 - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records {@code value}. Negative values are recorded as 0.
+     */
+    public void record(long value) {
+        long clampedValue = Math.max(0, value);
+        counts.incrementAndGet(bucketOf(clampedValue));
+        totalCount.incrementAndGet();
+        max.accumulateAndGet(clampedValue, Math::max);
+    }
+
+    /**
+     * Returns the number of values recorded.
+     */
+    public long getCount() {
+        return totalCount.get();
+    }
+
+    /**
+     * Returns the largest value recorded, or 0 if there is none.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the value that {@code percentile} percent of the recorded values are at or below, to within the
+     * histogram's precision, or 0 if no value has been recorded.
+     */
+    public long getValueAtPercentile(double percentile) {
+        long count = getCount();
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(Math.min(100, percentile) / 100 * count));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            seen += counts.get(bucket);
+            if (seen >= rank) {
+                return Math.min(highestValueIn(bucket), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Returns the bucket that counts {@code value}.
+     */
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        int shift = magnitude - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKET_COUNT - 1);
+        return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * Returns the highest value counted by {@code bucket}.
+     */
+    static long highestValueIn(int bucket) {
+        if (bucket < SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKET_COUNT - 1;
+        long lowest = (long) (SUB_BUCKET_COUNT + bucket % SUB_BUCKET_COUNT) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
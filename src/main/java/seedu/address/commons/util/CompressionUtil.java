@@ -0,0 +1,130 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Reads and writes files that may be compressed with {@link Deflater}.
+ *
+ * A compressed file starts with {@link #HEADER}, which no text file starts with, followed by a zlib stream of the
+ * content. Files are read through {@link #newInputStream(Path)}, which recognises the header, so a file can be read
+ * whether or not it was compressed.
+ */
+public class CompressionUtil {
+
+    /** Compression level that writes files uncompressed, without a header. */
+    public static final int NO_COMPRESSION = 0;
+    public static final int MAX_LEVEL = Deflater.BEST_COMPRESSION;
+
+    public static final String MESSAGE_LEVEL_CONSTRAINTS = "Compression level should be from " + NO_COMPRESSION
+            + " (uncompressed) to " + MAX_LEVEL + " (smallest)";
+
+    /** The start of a compressed file: a byte that is not valid UTF-8 on its own, a name and a format version. */
+    static final byte[] HEADER = {(byte) 0xAB, 'Z', 'J', 1};
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private CompressionUtil() {
+    }
+
+    /**
+     * Returns whether {@code level} is a valid compression level.
+     */
+    public static boolean isValidLevel(int level) {
+        return level >= NO_COMPRESSION && level <= MAX_LEVEL;
+    }
+
+    /**
+     * Returns a stream that writes to {@code file}, replacing its content, compressed at {@code level}, or
+     * uncompressed if {@code level} is {@link #NO_COMPRESSION}. The content is compressed as it is written.
+     */
+    public static OutputStream newOutputStream(Path file, int level) throws IOException {
+        requireNonNull(file);
+        checkArgument(isValidLevel(level), MESSAGE_LEVEL_CONSTRAINTS);
+
+        OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE);
+        if (level == NO_COMPRESSION) {
+            return out;
+        }
+        try {
+            out.write(HEADER);
+        } catch (IOException e) {
+            out.close();
+            throw e;
+        }
+        Deflater deflater = new Deflater(level);
+        return new DeflaterOutputStream(out, deflater, BUFFER_SIZE) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    deflater.end();
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns a stream that reads the content of {@code file}, uncompressing it if it is compressed.
+     */
+    public static InputStream newInputStream(Path file) throws IOException {
+        requireNonNull(file);
+        BufferedInputStream in = new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE);
+        try {
+            if (!startsWithHeader(in)) {
+                return in;
+            }
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+        Inflater inflater = new Inflater();
+        return new InflaterInputStream(in, inflater, BUFFER_SIZE) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    inflater.end();
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns whether {@code file} is compressed.
+     */
+    public static boolean isCompressed(Path file) throws IOException {
+        requireNonNull(file);
+        try (BufferedInputStream in = new BufferedInputStream(Files.newInputStream(file), HEADER.length)) {
+            return startsWithHeader(in);
+        }
+    }
+
+    /**
+     * Returns whether {@code in} starts with {@link #HEADER}, skipping the header if it does.
+     */
+    private static boolean startsWithHeader(BufferedInputStream in) throws IOException {
+        in.mark(HEADER.length);
+        byte[] start = in.readNBytes(HEADER.length);
+        if (Arrays.equals(start, HEADER)) {
+            return true;
+        }
+        in.reset();
+        return false;
+    }
+}
@@ -3,18 +3,24 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -45,11 +51,14 @@ public class JsonUtil {
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream in = CompressionUtil.newInputStream(jsonFile)) {
+            return objectMapper.readValue(in, classOfObjectToDeserialize);
+        }
     }
 
     /**
      * Returns the Json object from the given file or {@code Optional.empty()} object if the file is not found.
+     * The file may be compressed by {@link CompressionUtil}.
      * If any values are missing from the file, default values will be used, as long as the file is a valid json file.
      * @param filePath cannot be null.
      * @param classOfObjectToDeserialize Json file has to correspond to the structure in the class given here.
@@ -90,6 +99,88 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Saves the Json object to the specified file, compressed at {@code compressionLevel} by
+     * {@link CompressionUtil}. The Json is compressed as it is generated, and is not indented unless it is
+     * uncompressed.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * @param jsonFile cannot be null
+     * @param filePath cannot be null
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, int compressionLevel) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(jsonFile);
+
+        if (compressionLevel == CompressionUtil.NO_COMPRESSION) {
+            serializeObjectToJsonFile(filePath, jsonFile);
+            return;
+        }
+        try (OutputStream out = CompressionUtil.newOutputStream(filePath, compressionLevel)) {
+            objectMapper.writer().writeValue(out, jsonFile);
+        }
+    }
+
+    /**
+     * Saves a Json object with a single field {@code arrayFieldName}, whose value is an array of {@code elements},
+     * to the specified file. The elements are serialized one at a time as they are read from the iterator,
+     * so they never need to be in memory together.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * @param elements cannot be null
+     * @param arrayFieldName cannot be null
+     * @param filePath cannot be null
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void saveJsonArrayFile(Iterator<T> elements, String arrayFieldName, Path filePath)
+            throws IOException {
+        saveJsonArrayFile(elements, arrayFieldName, filePath, CompressionUtil.NO_COMPRESSION);
+    }
+
+    /**
+     * Similar to {@link #saveJsonArrayFile(Iterator, String, Path)}, but compresses the file at
+     * {@code compressionLevel} as in {@link #saveJsonFile(Object, Path, int)}.
+     */
+    public static <T> void saveJsonArrayFile(Iterator<T> elements, String arrayFieldName, Path filePath,
+            int compressionLevel) throws IOException {
+        requireNonNull(elements);
+        requireNonNull(arrayFieldName);
+        requireNonNull(filePath);
+
+        ObjectWriter elementWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (OutputStream out = CompressionUtil.newOutputStream(filePath, compressionLevel);
+                JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            if (compressionLevel == CompressionUtil.NO_COMPRESSION) {
+                generator.useDefaultPrettyPrinter();
+            }
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(arrayFieldName);
+            while (elements.hasNext()) {
+                elementWriter.writeValue(generator, elements.next());
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Saves the Json object to the specified file, unless the file already contains exactly that Json.
+     * Creates the file if it doesn't exist.
+     * @param jsonFile cannot be null
+     * @param filePath cannot be null
+     * @return true if the file was written.
+     * @throws IOException if there was an error during reading or writing the file
+     */
+    public static <T> boolean saveJsonFileIfChanged(T jsonFile, Path filePath) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(jsonFile);
+
+        String json = toJsonString(jsonFile);
+        if (Files.exists(filePath) && json.equals(FileUtil.readFromFile(filePath))) {
+            return false;
+        }
+        FileUtil.writeToFile(filePath, json);
+        return true;
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
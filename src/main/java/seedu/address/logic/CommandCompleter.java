@@ -0,0 +1,134 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.ALL_PREFIXES;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.parser.Prefix;
+import seedu.address.model.Model;
+
+/**
+ * Completes partially typed commands.
+ * <ul>
+ *     <li>The first word is completed with the command words.</li>
+ *     <li>The value after a {@code n/} prefix is completed with the names of persons.</li>
+ *     <li>The value after a {@code t/} prefix is completed with the names of existing tags.</li>
+ *     <li>Any other last word is completed with the prefixes that it starts.</li>
+ * </ul>
+ * Names and tags are looked up in the model's tries, so completions can be computed on any thread.
+ */
+public class CommandCompleter {
+
+    public static final int MAX_COMPLETIONS = 10;
+
+    private final List<String> commandWords;
+    private final Model model;
+
+    /**
+     * Creates a {@code CommandCompleter} for {@code commandWords} and the persons in {@code model}.
+     */
+    public CommandCompleter(List<String> commandWords, Model model) {
+        requireAllNonNull(commandWords, model);
+        this.commandWords = List.copyOf(commandWords);
+        this.model = model;
+    }
+
+    /**
+     * Returns up to {@link #MAX_COMPLETIONS} completions of {@code commandText}.
+     * Each completion is {@code commandText} with its last word or argument value completed.
+     * Returns an empty list if there are no completions other than {@code commandText} itself.
+     */
+    public List<String> complete(String commandText) {
+        List<String> completions = new ArrayList<>();
+        int lastSpace = lastIndexOfWhitespace(commandText);
+        if (lastSpace == -1) {
+            if (!commandText.isEmpty()) {
+                completeFrom(commandWords, "", commandText, completions);
+            }
+            return completions;
+        }
+
+        int prefixPosition = lastPrefixPosition(commandText);
+        if (prefixPosition != -1) {
+            completeArgumentValue(commandText, prefixPosition, completions);
+        }
+
+        String lastWord = commandText.substring(lastSpace + 1);
+        if (!lastWord.isEmpty() && completions.size() < MAX_COMPLETIONS) {
+            List<String> prefixes = new ArrayList<>();
+            ALL_PREFIXES.forEach(prefix -> prefixes.add(prefix.getPrefix()));
+            completeFrom(prefixes, commandText.substring(0, lastSpace + 1), lastWord, completions);
+        }
+        return completions;
+    }
+
+    /**
+     * Adds the completions of the argument value after the prefix at {@code prefixPosition} in {@code commandText}.
+     */
+    private void completeArgumentValue(String commandText, int prefixPosition, List<String> completions) {
+        Prefix prefix = prefixAt(commandText, prefixPosition);
+        int valueStart = prefixPosition + prefix.getPrefix().length();
+        String head = commandText.substring(0, valueStart);
+        String value = commandText.substring(valueStart);
+
+        List<String> candidates;
+        if (prefix.equals(PREFIX_NAME)) {
+            candidates = model.findNameCompletions(value, MAX_COMPLETIONS + 1);
+        } else if (prefix.equals(PREFIX_TAG) && lastIndexOfWhitespace(value) == -1) {
+            candidates = model.findTagCompletions(value, MAX_COMPLETIONS + 1);
+        } else {
+            return;
+        }
+        completeFrom(candidates, head, value, completions);
+    }
+
+    /**
+     * Adds {@code head} followed by each of {@code candidates} that starts with {@code fragment}, other than
+     * {@code fragment} itself, until there are {@link #MAX_COMPLETIONS} completions.
+     */
+    private static void completeFrom(List<String> candidates, String head, String fragment, List<String> completions) {
+        for (String candidate : candidates) {
+            if (completions.size() >= MAX_COMPLETIONS) {
+                return;
+            }
+            if (candidate.length() > fragment.length() && candidate.regionMatches(true, 0, fragment, 0,
+                    fragment.length())) {
+                completions.add(head + candidate);
+            }
+        }
+    }
+
+    /**
+     * Returns the position of the last prefix in {@code commandText} that follows a space, or -1 if there is none.
+     */
+    private static int lastPrefixPosition(String commandText) {
+        for (int position = commandText.length() - 1; position > 0; position--) {
+            if (commandText.charAt(position - 1) == ' ' && prefixAt(commandText, position) != null) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    private static Prefix prefixAt(String commandText, int position) {
+        for (Prefix prefix : ALL_PREFIXES) {
+            if (commandText.startsWith(prefix.getPrefix(), position)) {
+                return prefix;
+            }
+        }
+        return null;
+    }
+
+    private static int lastIndexOfWhitespace(String text) {
+        for (int i = text.length() - 1; i >= 0; i--) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -1,6 +1,9 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -23,6 +26,18 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Records that the UI took {@code durationNanos} nanoseconds to show the result of executing {@code commandText}.
+     */
+    void recordUiRefresh(String commandText, long durationNanos);
+
+    /**
+     * Returns the completions of the partially typed {@code commandText}. Can be called from any thread.
+     *
+     * @see CommandCompleter#complete(String)
+     */
+    List<String> getCompletions(String commandText);
+
     /**
      * Returns the AddressBook.
      *
@@ -30,9 +45,35 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an immutable snapshot of all persons, which can be read from any thread.
+     *
+     * @see seedu.address.model.Model#getPersonSnapshot()
+     */
+    List<Person> getPersonSnapshot();
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns the filter that {@code commandText} would apply to the filtered list of persons if it were executed
+     * now, without executing it, or an empty Optional if {@code commandText} is not a valid {@code find} command.
+     * The filter is evaluated against the current persons, so it is cheap to apply.
+     * Can be called from any thread.
+     *
+     * @throws InterruptedException if the calling thread is interrupted before the filter is evaluated.
+     * @see seedu.address.model.Model#evaluatePredicate(Predicate)
+     */
+    Optional<Predicate<Person>> previewFilter(String commandText) throws InterruptedException;
+
+    /**
+     * Updates the filter of the filtered list of persons, e.g. to show a filter returned by
+     * {@link #previewFilter(String)}.
+     *
+     * @see seedu.address.model.Model#updateFilteredPersonList(Predicate)
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate);
+
     /**
      * Returns the user prefs' address book file path.
      */
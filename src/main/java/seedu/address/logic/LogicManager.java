@@ -2,13 +2,21 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.commons.core.jfr.CommandExecutionEvent;
+import seedu.address.commons.core.metrics.CommandMetrics;
+import seedu.address.commons.core.metrics.CommandMetrics.Phase;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -19,14 +27,19 @@ import seedu.address.storage.Storage;
 
 /**
  * The main LogicManager of the app.
+ * The time taken by each phase of a command, and the memory it allocates, are recorded in the app's
+ * {@link CommandMetrics}, and each command is recorded as a {@link CommandExecutionEvent} for Flight Recorder.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String UNKNOWN_COMMAND_METRICS_KEY = "(unknown)";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final CommandCompleter commandCompleter;
+    private final CommandMetrics commandMetrics = MetricsCenter.getCommandMetrics();
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -35,23 +48,76 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        commandCompleter = new CommandCompleter(addressBookParser.getCommandWords(), model);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
-
-        CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
 
+        String metricsKey = getMetricsKey(commandText);
+        CommandExecutionEvent event = new CommandExecutionEvent();
+        event.begin();
+        boolean succeeded = false;
+        long allocatedBytesAtStart = CommandMetrics.getAllocatedBytes();
+        long phaseStart = System.nanoTime();
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            Command command = addressBookParser.parseCommand(commandText);
+            phaseStart = commandMetrics.recordSince(metricsKey, Phase.PARSE, phaseStart);
+
+            CommandResult commandResult;
+            model.beginBatch();
+            try {
+                commandResult = command.execute(model);
+            } finally {
+                model.endBatch();
+                phaseStart = commandMetrics.recordSince(metricsKey, Phase.EXECUTE, phaseStart);
+            }
+
+            try {
+                storage.saveAddressBook(model.getAddressBook());
+                // Persons moved back to the address book are only removed from the archive once it is saved.
+                model.saveArchive();
+            } catch (IOException ioe) {
+                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            } finally {
+                commandMetrics.recordSince(metricsKey, Phase.SAVE, phaseStart);
+            }
+
+            succeeded = true;
+            return commandResult;
+        } catch (CommandException | ParseException e) {
+            commandMetrics.recordFailure(metricsKey);
+            throw e;
+        } finally {
+            if (allocatedBytesAtStart >= 0) {
+                commandMetrics.recordAllocation(metricsKey, CommandMetrics.getAllocatedBytes() - allocatedBytesAtStart);
+            }
+            if (event.shouldCommit()) {
+                event.setCommandWord(metricsKey);
+                event.setSucceeded(succeeded);
+                event.setRecordCount(model.getAddressBook().getPersonList().size());
+                event.commit();
+            }
         }
+    }
 
-        return commandResult;
+    @Override
+    public void recordUiRefresh(String commandText, long durationNanos) {
+        commandMetrics.recordDuration(getMetricsKey(commandText), Phase.UI_REFRESH, durationNanos);
+    }
+
+    /**
+     * Returns the key under which the metrics of {@code commandText} are recorded: its command word, or
+     * {@link #UNKNOWN_COMMAND_METRICS_KEY} if it has none, so that mistyped commands do not each get their own key.
+     */
+    private String getMetricsKey(String commandText) {
+        return addressBookParser.getCommandWord(commandText).orElse(UNKNOWN_COMMAND_METRICS_KEY);
+    }
+
+    @Override
+    public List<String> getCompletions(String commandText) {
+        return commandCompleter.complete(commandText);
     }
 
     @Override
@@ -59,11 +125,35 @@ public class LogicManager implements Logic {
         return model.getAddressBook();
     }
 
+    @Override
+    public List<Person> getPersonSnapshot() {
+        return model.getPersonSnapshot();
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public Optional<Predicate<Person>> previewFilter(String commandText) throws InterruptedException {
+        Command command;
+        try {
+            command = addressBookParser.parseCommand(commandText);
+        } catch (ParseException pe) {
+            return Optional.empty();
+        }
+        if (!(command instanceof FindCommand)) {
+            return Optional.empty();
+        }
+        return Optional.of(model.evaluatePredicate(((FindCommand) command).getPredicate()));
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate) {
+        model.updateFilteredPersonList(predicate);
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
@@ -0,0 +1,60 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.List;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Moves a person identified using it's displayed index from the address book to the archive.
+ */
+public class ArchiveCommand extends Command {
+
+    public static final String COMMAND_WORD = "archive";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Archives the person identified by the index number used in the displayed person list. "
+            + "Archived persons are no longer listed, but can be found with " + FindCommand.COMMAND_WORD + " "
+            + FindCommand.ARCHIVED_FLAG + " and brought back with " + UnarchiveCommand.COMMAND_WORD + ".\n"
+            + "Parameters: INDEX (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " 1";
+
+    public static final String MESSAGE_ARCHIVE_PERSON_SUCCESS = "Archived Person: %1$s";
+
+    private final Index targetIndex;
+
+    public ArchiveCommand(Index targetIndex) {
+        this.targetIndex = targetIndex;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Person> lastShownList = model.getFilteredPersonList();
+
+        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        }
+
+        Person personToArchive = lastShownList.get(targetIndex.getZeroBased());
+        try {
+            model.archivePerson(personToArchive);
+        } catch (IOException ioe) {
+            throw new CommandException(Messages.MESSAGE_ARCHIVE_ERROR + ioe, ioe);
+        }
+        return new CommandResult(String.format(MESSAGE_ARCHIVE_PERSON_SUCCESS, personToArchive));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ArchiveCommand // instanceof handles nulls
+                && targetIndex.equals(((ArchiveCommand) other).targetIndex)); // state check
+    }
+}
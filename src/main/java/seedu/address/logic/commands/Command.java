@@ -1,7 +1,11 @@
 package seedu.address.logic.commands;
 
+import java.io.IOException;
+
+import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.person.Person;
 
 /**
  * Represents a command with hidden internal logic and the ability to be executed.
@@ -17,4 +21,18 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Throws a {@code CommandException} if a person with the same identity as {@code person} is archived, as a name
+     * must not be in both the address book and the archive.
+     */
+    protected static void checkNotArchived(Model model, Person person) throws CommandException {
+        try {
+            if (model.hasArchivedPerson(person)) {
+                throw new CommandException(String.format(Messages.MESSAGE_ARCHIVED_PERSON, person.getName()));
+            }
+        } catch (IOException ioe) {
+            throw new CommandException(Messages.MESSAGE_ARCHIVE_ERROR + ioe, ioe);
+        }
+    }
+
 }
@@ -2,41 +2,92 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import seedu.address.commons.core.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
  * Keyword matching is case insensitive.
+ * Archived persons are only searched, by reading the archive, if the command asks for them.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
+    public static final String ARCHIVED_FLAG = "--archived";
+
+    /** Number of archived persons named in the result; the others are only counted. */
+    public static final int MAX_ARCHIVED_NAMES = 20;
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
-            + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "the specified keywords (case-insensitive) and displays them as a list with index numbers. "
+            + "With " + ARCHIVED_FLAG + ", also names the archived persons that match.\n"
+            + "Parameters: [" + ARCHIVED_FLAG + "] KEYWORD [MORE_KEYWORDS]...\n"
             + "Example: " + COMMAND_WORD + " alice bob charlie";
 
+    public static final String MESSAGE_ARCHIVED_PERSONS_FOUND = "\n%1$d archived persons found: %2$s";
+    public static final String MESSAGE_NO_ARCHIVED_PERSONS_FOUND = "\nNo archived persons found.";
+
     private final NameContainsKeywordsPredicate predicate;
+    private final boolean isArchiveSearched;
 
     public FindCommand(NameContainsKeywordsPredicate predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * Creates a {@code FindCommand} for persons that satisfy {@code predicate}, which also searches the archived
+     * persons if {@code isArchiveSearched}.
+     */
+    public FindCommand(NameContainsKeywordsPredicate predicate, boolean isArchiveSearched) {
         this.predicate = predicate;
+        this.isArchiveSearched = isArchiveSearched;
+    }
+
+    /**
+     * Returns the predicate that persons listed by this command satisfy.
+     */
+    public NameContainsKeywordsPredicate getPredicate() {
+        return predicate;
     }
 
     @Override
-    public CommandResult execute(Model model) {
+    public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         model.updateFilteredPersonList(predicate);
+        String message = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size());
+        if (!isArchiveSearched) {
+            return new CommandResult(message);
+        }
+
+        List<Person> archivedPersons;
+        try {
+            archivedPersons = model.getArchivedPersons().stream().filter(predicate).collect(Collectors.toList());
+        } catch (IOException ioe) {
+            throw new CommandException(Messages.MESSAGE_ARCHIVE_ERROR + ioe, ioe);
+        }
+        if (archivedPersons.isEmpty()) {
+            return new CommandResult(message + MESSAGE_NO_ARCHIVED_PERSONS_FOUND);
+        }
+        String names = archivedPersons.stream()
+                .limit(MAX_ARCHIVED_NAMES)
+                .map(person -> person.getName().fullName)
+                .collect(Collectors.joining(", ", "", archivedPersons.size() > MAX_ARCHIVED_NAMES ? ", ..." : ""));
         return new CommandResult(
-                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+                message + String.format(MESSAGE_ARCHIVED_PERSONS_FOUND, archivedPersons.size(), names));
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && predicate.equals(((FindCommand) other).predicate)); // state check
+                && predicate.equals(((FindCommand) other).predicate) // state check
+                && isArchiveSearched == ((FindCommand) other).isArchiveSearched);
     }
 }
@@ -0,0 +1,87 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SyntheticPersonGenerator;
+
+/**
+ * Adds generated persons to the address book, for trying out the app with a realistic amount of data.
+ * The same count and seed always generate the same persons.
+ */
+public class GenerateCommand extends Command {
+
+    public static final String COMMAND_WORD = "generate";
+
+    /** Largest number of persons that can be generated by the command; larger books are generated offline. */
+    public static final int MAX_COUNT = 1_000_000;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds the given number of generated persons "
+            + "to the address book. The same SEED always generates the same persons.\n"
+            + "Parameters: COUNT (a positive integer up to " + MAX_COUNT + ") [SEED]\n"
+            + "Example: " + COMMAND_WORD + " 1000 7";
+
+    public static final String MESSAGE_SUCCESS = "Generated %1$d persons with seed %2$d";
+    public static final String MESSAGE_SKIPPED_DUPLICATES = " (%1$d already in the address book were skipped)";
+
+    private final int count;
+    private final long seed;
+
+    /**
+     * Creates a GenerateCommand to add {@code count} persons generated from {@code seed}.
+     */
+    public GenerateCommand(int count, long seed) {
+        this.count = count;
+        this.seed = seed;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        List<Person> persons = new ArrayList<>(model.getAddressBook().getPersonList());
+        Set<Name> names = new HashSet<>();
+        persons.forEach(person -> names.add(person.getName()));
+
+        SyntheticPersonGenerator.Settings settings = new SyntheticPersonGenerator.Settings();
+        settings.setSeed(seed);
+        SyntheticPersonGenerator generator = new SyntheticPersonGenerator(count, settings);
+        int skipped = 0;
+        while (generator.hasNext()) {
+            Person person = generator.next();
+            // Persons with the same name are the same person, see Person#isSamePerson(Person).
+            if (names.add(person.getName())) {
+                persons.add(person);
+            } else {
+                skipped++;
+            }
+        }
+
+        // Replacing the whole book checks uniqueness once, instead of once per added person.
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        model.setAddressBook(addressBook);
+
+        String feedback = String.format(MESSAGE_SUCCESS, count - skipped, seed);
+        if (skipped > 0) {
+            feedback += String.format(MESSAGE_SKIPPED_DUPLICATES, skipped);
+        }
+        return new CommandResult(feedback);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof GenerateCommand // instanceof handles nulls
+                && count == ((GenerateCommand) other).count
+                && seed == ((GenerateCommand) other).seed); // state check
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.Map;
+
+import seedu.address.model.Model;
+
+/**
+ * Shows how many clients have each tag, or how many meetings are scheduled on each of the coming days.
+ */
+public class ReportCommand extends Command {
+
+    public static final String COMMAND_WORD = "report";
+    public static final String TAGS_REPORT = "tags";
+    public static final String MEETINGS_REPORT = "meetings";
+
+    /** Number of days covered by the meetings report if none is given; about a month. */
+    public static final int DEFAULT_DAYS = 30;
+    public static final int MAX_DAYS = 366;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows how many clients have each tag, "
+            + "or how many meetings are scheduled on each of the next DAYS days, starting today.\n"
+            + "Parameters: " + TAGS_REPORT + " | " + MEETINGS_REPORT + " [DAYS (a positive integer up to "
+            + MAX_DAYS + ", " + DEFAULT_DAYS + " by default)]\n"
+            + "Example: " + COMMAND_WORD + " " + MEETINGS_REPORT + " 14";
+
+    public static final String MESSAGE_TAGS_HEADER = "Clients per tag:";
+    public static final String MESSAGE_NO_TAGS = "No client has a tag.";
+    public static final String MESSAGE_MEETINGS_HEADER = "Meetings per day from %1$s to %2$s (%3$d in total):";
+    public static final String MESSAGE_ROW = "\n  %1$s: %2$d";
+
+    private static final DateTimeFormatter DAY_FORMATTER = DateTimeFormatter.ofPattern("EEE dd-MMM-yyyy");
+
+    /**
+     * The kinds of reports.
+     */
+    enum Report { TAGS, MEETINGS }
+
+    private final Report report;
+    private final int days;
+    private final Clock clock;
+
+    /**
+     * Creates a {@code ReportCommand} for {@code report}, covering {@code days} days from today according to
+     * {@code clock} if it is a meetings report.
+     */
+    ReportCommand(Report report, int days, Clock clock) {
+        requireNonNull(report);
+        requireNonNull(clock);
+        checkArgument(report == Report.TAGS || (days > 0 && days <= MAX_DAYS), MESSAGE_USAGE);
+        this.report = report;
+        this.days = report == Report.TAGS ? 0 : days;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns a {@code ReportCommand} that shows how many clients have each tag.
+     */
+    public static ReportCommand tags() {
+        return new ReportCommand(Report.TAGS, 0, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Returns a {@code ReportCommand} that shows how many meetings are scheduled on each of the next {@code days}
+     * days, starting today.
+     */
+    public static ReportCommand meetings(int days) {
+        return new ReportCommand(Report.MEETINGS, days, Clock.systemDefaultZone());
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(report == Report.TAGS ? reportTags(model) : reportMeetings(model));
+    }
+
+    private String reportTags(Model model) {
+        Map<String, Long> countsByTag = model.countPersonsByTag();
+        if (countsByTag.isEmpty()) {
+            return MESSAGE_NO_TAGS;
+        }
+
+        StringBuilder feedback = new StringBuilder(MESSAGE_TAGS_HEADER);
+        countsByTag.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> feedback.append(String.format(MESSAGE_ROW, entry.getKey(), entry.getValue())));
+        return feedback.toString();
+    }
+
+    private String reportMeetings(Model model) {
+        LocalDate today = LocalDate.now(clock);
+        long[] counts = model.countMeetingsPerDay(today, days);
+
+        long total = 0;
+        StringBuilder rows = new StringBuilder();
+        for (int i = 0; i < days; i++) {
+            total += counts[i];
+            rows.append(String.format(MESSAGE_ROW, today.plusDays(i).format(DAY_FORMATTER), counts[i]));
+        }
+        return String.format(MESSAGE_MEETINGS_HEADER, today.format(DAY_FORMATTER),
+                today.plusDays(days - 1).format(DAY_FORMATTER), total) + rows;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ReportCommand // instanceof handles nulls
+                && report == ((ReportCommand) other).report
+                && days == ((ReportCommand) other).days); // state check
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Moves an archived person, identified by its full name, back to the address book.
+ */
+public class UnarchiveCommand extends Command {
+
+    public static final String COMMAND_WORD = "unarchive";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Brings the archived person with the specified full name (case-sensitive) back to the address book.\n"
+            + "Parameters: NAME\n"
+            + "Example: " + COMMAND_WORD + " Alex Yeoh";
+
+    public static final String MESSAGE_UNARCHIVE_PERSON_SUCCESS = "Unarchived Person: %1$s";
+    public static final String MESSAGE_NOT_ARCHIVED = "No archived person is named %1$s";
+    public static final String MESSAGE_DUPLICATE_PERSON = "A person named %1$s is already in the address book";
+
+    private final Name name;
+
+    public UnarchiveCommand(Name name) {
+        requireNonNull(name);
+        this.name = name;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Optional<Person> archivedPerson;
+        try {
+            archivedPerson = model.getArchivedPersons().stream()
+                    .filter(person -> person.getName().equals(name))
+                    .findFirst();
+        } catch (IOException ioe) {
+            throw new CommandException(Messages.MESSAGE_ARCHIVE_ERROR + ioe, ioe);
+        }
+
+        if (archivedPerson.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NOT_ARCHIVED, name));
+        }
+        Person personToUnarchive = archivedPerson.get();
+        if (model.hasPerson(personToUnarchive)) {
+            throw new CommandException(String.format(MESSAGE_DUPLICATE_PERSON, personToUnarchive.getName()));
+        }
+
+        model.unarchivePerson(personToUnarchive);
+        return new CommandResult(String.format(MESSAGE_UNARCHIVE_PERSON_SUCCESS, personToUnarchive));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof UnarchiveCommand // instanceof handles nulls
+                && name.equals(((UnarchiveCommand) other).name)); // state check
+    }
+}
@@ -1,32 +1,46 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.List;
+import java.util.Optional;
 
-import seedu.address.logic.commands.AddCommand;
-import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
-import seedu.address.logic.commands.DeleteCommand;
-import seedu.address.logic.commands.EditCommand;
-import seedu.address.logic.commands.ExitCommand;
-import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
-import seedu.address.logic.commands.ListCommand;
-import seedu.address.logic.commands.ScheduleCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Parses user input.
+ * The first word of the input selects the command, whose arguments are parsed by the parser registered
+ * for that word in a {@link CommandRegistry}.
  */
 public class AddressBookParser {
 
+    private final CommandRegistry registry;
+
+    /**
+     * Creates an {@code AddressBookParser} for the built-in commands.
+     */
+    public AddressBookParser() {
+        this(CommandRegistry.createDefault());
+    }
+
+    /**
+     * Creates an {@code AddressBookParser} for the commands registered in {@code registry}.
+     */
+    public AddressBookParser(CommandRegistry registry) {
+        requireNonNull(registry);
+        this.registry = registry;
+    }
+
     /**
-     * Used for initial separation of command word and args.
+     * Returns the command words that this parser recognizes, in alphabetical order.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+    public List<String> getCommandWords() {
+        return registry.getCommandWords();
+    }
 
     /**
      * Parses user input into command for execution.
@@ -36,45 +50,34 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String trimmedInput = userInput.trim();
+        if (trimmedInput.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case ScheduleCommand.COMMAND_WORD:
-            return new ScheduleCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
+        int commandWordEnd = indexOfCommandWordEnd(trimmedInput);
+        final String commandWord = trimmedInput.substring(0, commandWordEnd);
+        final String arguments = trimmedInput.substring(commandWordEnd);
+        Parser<? extends Command> parser = registry.getParser(commandWord)
+                .orElseThrow(() -> new ParseException(MESSAGE_UNKNOWN_COMMAND));
+        return parser.parse(arguments);
+    }
 
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
+    /**
+     * Returns the command word of {@code userInput} if it is a recognized command word.
+     * The arguments are not parsed.
+     */
+    public Optional<String> getCommandWord(String userInput) {
+        final String trimmedInput = userInput.trim();
+        final String commandWord = trimmedInput.substring(0, indexOfCommandWordEnd(trimmedInput));
+        return registry.getParser(commandWord).map(unused -> commandWord);
+    }
 
-        default:
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+    private static int indexOfCommandWordEnd(String trimmedInput) {
+        int commandWordEnd = 0;
+        while (commandWordEnd < trimmedInput.length() && !Character.isWhitespace(trimmedInput.charAt(commandWordEnd))) {
+            commandWordEnd++;
         }
+        return commandWordEnd;
     }
-
 }
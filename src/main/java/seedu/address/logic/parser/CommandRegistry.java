@@ -0,0 +1,87 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ArchiveCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.GenerateCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ReportCommand;
+import seedu.address.logic.commands.ScheduleCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UnarchiveCommand;
+
+/**
+ * Maps command words to the parsers of their arguments.
+ * Parsers are created once and reused for every command, so they must not keep any state between calls.
+ * Commands should be registered before the registry is used by {@link AddressBookParser}.
+ */
+public class CommandRegistry {
+
+    private final Map<String, Parser<? extends Command>> parsers = new HashMap<>();
+
+    /**
+     * Returns a {@code CommandRegistry} with all the built-in commands registered.
+     */
+    public static CommandRegistry createDefault() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register(AddCommand.COMMAND_WORD, new AddCommandParser());
+        registry.register(EditCommand.COMMAND_WORD, new EditCommandParser());
+        registry.register(DeleteCommand.COMMAND_WORD, new DeleteCommandParser());
+        registry.register(ArchiveCommand.COMMAND_WORD, new ArchiveCommandParser());
+        registry.register(UnarchiveCommand.COMMAND_WORD, new UnarchiveCommandParser());
+        registry.register(ScheduleCommand.COMMAND_WORD, new ScheduleCommandParser());
+        registry.register(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand());
+        registry.register(FindCommand.COMMAND_WORD, new FindCommandParser());
+        registry.register(ListCommand.COMMAND_WORD, arguments -> new ListCommand());
+        registry.register(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand());
+        registry.register(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand());
+        registry.register(GenerateCommand.COMMAND_WORD, new GenerateCommandParser());
+        registry.register(ReportCommand.COMMAND_WORD, new ReportCommandParser());
+        registry.register(StatsCommand.COMMAND_WORD, arguments -> new StatsCommand(MetricsCenter.getCommandMetrics()));
+        return registry;
+    }
+
+    /**
+     * Registers {@code parser} as the parser of the arguments of {@code commandWord}.
+     *
+     * @throws IllegalArgumentException if {@code commandWord} is already registered.
+     */
+    public void register(String commandWord, Parser<? extends Command> parser) {
+        requireAllNonNull(commandWord, parser);
+        if (parsers.putIfAbsent(commandWord, parser) != null) {
+            throw new IllegalArgumentException("Command word already registered: " + commandWord);
+        }
+    }
+
+    /**
+     * Returns the registered command words, in alphabetical order.
+     */
+    public List<String> getCommandWords() {
+        List<String> commandWords = new ArrayList<>(parsers.keySet());
+        Collections.sort(commandWords);
+        return commandWords;
+    }
+
+    /**
+     * Returns the parser registered for {@code commandWord}, if any.
+     */
+    public Optional<Parser<? extends Command>> getParser(String commandWord) {
+        return Optional.ofNullable(parsers.get(commandWord));
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.GenerateCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.util.SyntheticPersonGenerator;
+
+/**
+ * Parses input arguments and creates a new GenerateCommand object
+ */
+public class GenerateCommandParser implements Parser<GenerateCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the GenerateCommand
+     * and returns a GenerateCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public GenerateCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String[] arguments = args.trim().split("\\s+");
+        if (arguments.length > 2 || !StringUtil.isNonZeroUnsignedInteger(arguments[0])
+                || Integer.parseInt(arguments[0]) > GenerateCommand.MAX_COUNT) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, GenerateCommand.MESSAGE_USAGE));
+        }
+
+        int count = Integer.parseInt(arguments[0]);
+        if (arguments.length == 1) {
+            return new GenerateCommand(count, new SyntheticPersonGenerator.Settings().getSeed());
+        }
+        try {
+            return new GenerateCommand(count, Long.parseLong(arguments[1]));
+        } catch (NumberFormatException nfe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, GenerateCommand.MESSAGE_USAGE));
+        }
+    }
+
+}
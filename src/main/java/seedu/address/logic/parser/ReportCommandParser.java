@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.ReportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ReportCommand object
+ */
+public class ReportCommandParser implements Parser<ReportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ReportCommand
+     * and returns a ReportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ReportCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String[] arguments = args.trim().split("\\s+");
+        if (arguments.length == 1 && arguments[0].equals(ReportCommand.TAGS_REPORT)) {
+            return ReportCommand.tags();
+        }
+        if (!arguments[0].equals(ReportCommand.MEETINGS_REPORT) || arguments.length > 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ReportCommand.MESSAGE_USAGE));
+        }
+        if (arguments.length == 1) {
+            return ReportCommand.meetings(ReportCommand.DEFAULT_DAYS);
+        }
+        if (!StringUtil.isNonZeroUnsignedInteger(arguments[1])
+                || Integer.parseInt(arguments[1]) > ReportCommand.MAX_DAYS) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ReportCommand.MESSAGE_USAGE));
+        }
+        return ReportCommand.meetings(Integer.parseInt(arguments[1]));
+    }
+
+}
@@ -0,0 +1,27 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.UnarchiveCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new UnarchiveCommand object
+ */
+public class UnarchiveCommandParser implements Parser<UnarchiveCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the UnarchiveCommand
+     * and returns an UnarchiveCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public UnarchiveCommand parse(String args) throws ParseException {
+        try {
+            return new UnarchiveCommand(ParserUtil.parseName(args));
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, UnarchiveCommand.MESSAGE_USAGE), pe);
+        }
+    }
+
+}
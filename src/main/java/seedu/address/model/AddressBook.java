@@ -2,19 +2,38 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.person.OffHeapPerson;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.util.OffHeapStore;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ * Not thread-safe; {@link ModelManager} guards concurrent access to its address book.
+ *
+ * An address book created with an {@link OffHeapStore} keeps the details of its persons off the heap: every person
+ * added to it is replaced by an {@link OffHeapPerson} with the same details, and every person removed from it is
+ * released, which moves the details of the person back onto the heap for whoever still holds the person.
+ *
+ * Every change to the persons increments the {@link #getVersion() version} of the address book, so that storage can
+ * tell whether it has already saved the current persons. Replacing persons with identical ones is not a change.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    /** Store of the details of the persons, or null if they are kept on the heap. */
+    private final OffHeapStore offHeapStore;
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -27,7 +46,17 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons = new UniquePersonList();
     }
 
-    public AddressBook() {}
+    public AddressBook() {
+        offHeapStore = null;
+    }
+
+    /**
+     * Creates an empty AddressBook that keeps the details of its persons in {@code offHeapStore}.
+     */
+    public AddressBook(OffHeapStore offHeapStore) {
+        requireNonNull(offHeapStore);
+        this.offHeapStore = offHeapStore;
+    }
 
     /**
      * Creates an AddressBook using the Persons in the {@code toBeCopied}
@@ -44,7 +73,30 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
-        this.persons.setPersons(persons);
+        boolean isChange = !areIdentical(this.persons.asUnmodifiableObservableList(), persons);
+        if (offHeapStore == null) {
+            this.persons.setPersons(persons);
+        } else {
+            setStoredPersons(persons);
+        }
+        if (isChange) {
+            version++;
+        }
+    }
+
+    /**
+     * Replaces the persons with {@code persons} kept in the store, releasing the persons that are no longer kept.
+     */
+    private void setStoredPersons(List<Person> persons) {
+        List<Person> previousPersons = new ArrayList<>(this.persons.asUnmodifiableObservableList());
+        List<Person> storedPersons = persons.stream().map(this::toStored).collect(Collectors.toList());
+        try {
+            this.persons.setPersons(storedPersons);
+        } catch (RuntimeException e) {
+            releaseAllExcept(storedPersons, previousPersons);
+            throw e;
+        }
+        releaseAllExcept(previousPersons, storedPersons);
     }
 
     /**
@@ -71,7 +123,15 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
-        persons.add(p);
+        requireNonNull(p);
+        Person stored = toStored(p);
+        try {
+            persons.add(stored);
+        } catch (RuntimeException e) {
+            releaseIfNew(stored, p);
+            throw e;
+        }
+        version++;
     }
 
     /**
@@ -82,7 +142,20 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
-        persons.setPerson(target, editedPerson);
+        Person stored = toStored(editedPerson);
+        Person replaced;
+        try {
+            replaced = persons.setPerson(target, stored);
+        } catch (RuntimeException e) {
+            releaseIfNew(stored, editedPerson);
+            throw e;
+        }
+        if (!isIdentical(replaced, stored)) {
+            version++;
+        }
+        if (replaced != stored) {
+            release(replaced);
+        }
     }
 
     /**
@@ -90,11 +163,95 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
-        persons.remove(key);
+        release(persons.remove(key));
+        version++;
+    }
+
+    //// batch operations
+
+    /**
+     * Starts grouping changes to the person list, so that its observers receive a single change event
+     * when the matching {@link #endBatch()} is called. Batches may be nested.
+     */
+    public void beginBatch() {
+        persons.beginBatch();
+    }
+
+    /**
+     * Ends a batch started by {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        persons.endBatch();
+    }
+
+    /**
+     * Fires the change event for the changes grouped so far in the current batch, if there is one.
+     */
+    public void flushBatch() {
+        persons.flushBatch();
+    }
+
+    /**
+     * Returns {@code person} as it is kept in this address book.
+     */
+    private Person toStored(Person person) {
+        return offHeapStore == null ? person : OffHeapPerson.of(person, offHeapStore);
+    }
+
+    /**
+     * Releases {@code person} if its details are kept in the store of this address book.
+     */
+    private void release(Person person) {
+        if (offHeapStore != null && person instanceof OffHeapPerson) {
+            ((OffHeapPerson) person).release();
+        }
+    }
+
+    /**
+     * Releases {@code stored}, which could not be added to this address book, if it was made from {@code person}.
+     */
+    private void releaseIfNew(Person stored, Person person) {
+        if (stored != person) {
+            release(stored);
+        }
+    }
+
+    /**
+     * Releases the persons in {@code persons} that are not in {@code kept}.
+     */
+    private void releaseAllExcept(List<Person> persons, List<Person> kept) {
+        Set<Person> keptPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        keptPersons.addAll(kept);
+        persons.stream().filter(person -> !keptPersons.contains(person)).forEach(this::release);
+    }
+
+    /**
+     * Returns whether {@code person} and {@code other} have the same details, including their appointments, which
+     * {@link Person#equals(Object)} leaves out.
+     */
+    static boolean isIdentical(Person person, Person other) {
+        return person.equals(other) && Objects.equals(person.getAppointment(), other.getAppointment());
+    }
+
+    private static boolean areIdentical(List<Person> persons, List<Person> others) {
+        if (persons.size() != others.size()) {
+            return false;
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            if (!isIdentical(persons.get(i), others.get(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     //// util methods
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public String toString() {
         return persons.asUnmodifiableObservableList().size() + " persons";
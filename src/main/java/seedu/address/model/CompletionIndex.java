@@ -0,0 +1,79 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.LazyPerson;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.Trie;
+
+/**
+ * Tries of the names and tags of the persons in a person list, used to complete user input.
+ * The tries are built from the list when the index is created, so that no lookup has to wait for the whole list
+ * to be indexed, and then kept up to date from the list's changes.
+ *
+ * Not thread-safe; {@link ModelManager} changes the list and reads the tries under its lock.
+ * Lookups may run concurrently with each other, since they only read the tries.
+ */
+class CompletionIndex implements ListChangeListener<Person> {
+
+    private final Trie names = new Trie();
+    private final Trie tags = new Trie();
+
+    /**
+     * Creates a {@code CompletionIndex} of {@code persons} that follows the changes to them.
+     */
+    CompletionIndex(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        persons.forEach(this::addPerson);
+        persons.addListener(this);
+    }
+
+    /**
+     * Returns up to {@code limit} names of persons that start with {@code prefix}, ignoring case.
+     */
+    List<String> findNames(String prefix, int limit) {
+        return names.findStartingWith(prefix, limit);
+    }
+
+    /**
+     * Returns up to {@code limit} tag names that start with {@code prefix}, ignoring case.
+     */
+    List<String> findTags(String prefix, int limit) {
+        return tags.findStartingWith(prefix, limit);
+    }
+
+    @Override
+    public void onChanged(Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::removePerson);
+            change.getAddedSubList().forEach(this::addPerson);
+        }
+    }
+
+    private void addPerson(Person person) {
+        names.add(person.getName().fullName);
+        tagNamesOf(person).forEach(tags::add);
+    }
+
+    private void removePerson(Person person) {
+        names.remove(person.getName().fullName);
+        tagNamesOf(person).forEach(tags::remove);
+    }
+
+    private static Set<String> tagNamesOf(Person person) {
+        if (person instanceof LazyPerson) {
+            // Avoid unpacking persons just to index their tags.
+            return ((LazyPerson) person).getRawDetails().tagNames;
+        }
+        return person.getTags().stream().map(tag -> tag.tagName).collect(Collectors.toSet());
+    }
+}
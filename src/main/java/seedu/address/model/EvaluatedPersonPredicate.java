@@ -0,0 +1,52 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A predicate whose results for a snapshot of the persons have been computed in advance, as a bitmap of the indexes
+ * of the matching persons in the snapshot.
+ *
+ * Filtering a list re-tests its persons in order, so the predicate follows along the snapshot with a cursor, and
+ * each test is a single bit lookup while the list still matches the snapshot. Persons that are not where the cursor
+ * expects them, e.g. persons added or edited after the snapshot was taken, are tested with the original predicate,
+ * so the results are always the same as the original predicate's.
+ *
+ * Not thread-safe, because of the cursor; {@link ModelManager} only tests it while holding its write lock.
+ */
+class EvaluatedPersonPredicate implements Predicate<Person> {
+
+    private final Predicate<Person> predicate;
+    private final List<Person> snapshot;
+    private final BitSet matches;
+    /** Index in the snapshot of the person expected to be tested next. */
+    private int cursor;
+
+    /**
+     * Creates a predicate that gives the results of {@code predicate}, which are {@code matches} for the persons
+     * in {@code snapshot}.
+     */
+    EvaluatedPersonPredicate(Predicate<Person> predicate, List<Person> snapshot, BitSet matches) {
+        requireAllNonNull(predicate, snapshot, matches);
+        this.predicate = predicate;
+        this.snapshot = snapshot;
+        this.matches = matches;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        if (cursor >= snapshot.size() || snapshot.get(cursor) != person) {
+            if (snapshot.isEmpty() || snapshot.get(0) != person) {
+                return predicate.test(person);
+            }
+            // the list is being filtered again from the start
+            cursor = 0;
+        }
+        return matches.get(cursor++);
+    }
+}
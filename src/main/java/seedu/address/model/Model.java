@@ -1,6 +1,10 @@
 package seedu.address.model;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -76,12 +80,101 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Moves the given person from the address book to the archive.
+     * The person must exist in the address book.
+     *
+     * @throws IOException if the person could not be written to the archive, in which case it stays in the
+     *     address book.
+     */
+    void archivePerson(Person target) throws IOException;
+
+    /**
+     * Returns the archived persons, in the order they were archived, reading the archive if it has not been read
+     * yet.
+     */
+    List<Person> getArchivedPersons() throws IOException;
+
+    /**
+     * Returns true if a person with the same identity as {@code person} is archived, reading only the names of the
+     * archived persons if the archive has not been read yet.
+     */
+    boolean hasArchivedPerson(Person person) throws IOException;
+
+    /**
+     * Moves the given person from the archive back to the address book.
+     * The person must be one of the {@link #getArchivedPersons() archived persons}, and must not already exist in
+     * the address book.
+     */
+    void unarchivePerson(Person target);
+
+    /**
+     * Writes the changes to the archive that must wait until the address book has been saved, i.e. the removal of
+     * persons moved back to the address book. Does nothing if there are no such changes.
+     */
+    void saveArchive() throws IOException;
+
+    /**
+     * Returns an immutable snapshot of all persons in the address book.
+     * Unlike {@link #getAddressBook()}, the snapshot is never modified and can be read from any thread.
+     */
+    List<Person> getPersonSnapshot();
+
+    /**
+     * Returns up to {@code limit} names of persons in the address book that start with {@code prefix},
+     * ignoring case, in alphabetical order. Can be called from any thread.
+     */
+    List<String> findNameCompletions(String prefix, int limit);
+
+    /**
+     * Returns up to {@code limit} names of tags in the address book that start with {@code prefix},
+     * ignoring case, in alphabetical order. Can be called from any thread.
+     */
+    List<String> findTagCompletions(String prefix, int limit);
+
+    /**
+     * Returns the number of persons in the address book with each tag, by tag name in alphabetical order.
+     * Tags that no person has are left out. Can be called from any thread.
+     */
+    Map<String, Long> countPersonsByTag();
+
+    /**
+     * Returns the number of meetings in the address book on each of the {@code days} days starting on
+     * {@code firstDay}. Can be called from any thread.
+     */
+    long[] countMeetingsPerDay(LocalDate firstDay, int days);
+
+    /**
+     * Starts grouping changes to the address book, so that the filtered person list and its observers
+     * receive a single change event for all of them when the matching {@link #endBatch()} is called.
+     * Batches may be nested.
+     */
+    void beginBatch();
+
+    /**
+     * Ends a batch started by {@link #beginBatch()}.
+     */
+    void endBatch();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
+     * For large address books, {@code predicate} may be tested from several threads at once.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Evaluates {@code predicate} against a snapshot of the persons in the address book, scanning large address
+     * books in parallel, and returns an equivalent predicate that looks up the results. The returned predicate is
+     * cheap to test, so it can be passed to {@link #updateFilteredPersonList(Predicate)} on the UI thread even when
+     * {@code predicate} is expensive. It only falls back to {@code predicate} for persons added or edited after the
+     * snapshot was taken. {@code predicate} must be safe to test from several threads.
+     * Can be called from any thread.
+     *
+     * @throws InterruptedException if the calling thread is interrupted before the evaluation completes.
+     */
+    Predicate<Person> evaluatePredicate(Predicate<Person> predicate) throws InterruptedException;
 }
@@ -3,7 +3,15 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -11,30 +19,79 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.jfr.FilterChangeEvent;
+import seedu.address.commons.core.jfr.PersonListChangeEvent;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.util.OffHeapStore;
+import seedu.address.model.util.ParallelScan;
 
 /**
  * Represents the in-memory model of the address book data.
+ *
+ * Address book reads and writes are guarded by a read/write lock, so commands may be executed from any thread.
+ * Writers also invalidate the published snapshot returned by {@link #getPersonSnapshot()}, which other threads
+ * (e.g. background saves or API queries) read without ever observing a partially applied change.
+ * The filtered person list fires its change events on the thread that made the change, so when a UI is
+ * attached, changes should still be made on the UI thread.
+ *
+ * Changes made between {@link #beginBatch()} and {@link #endBatch()} reach the filtered person list as one
+ * change event. Changing the filter predicate in the middle of a batch first delivers the changes made so far,
+ * since the filtered list cannot be re-filtered while it is behind the address book.
+ * Name and tag completions come from tries that follow the same change events; they are not offered while a batch
+ * is in progress.
+ * Predicates are evaluated with a parallel scan of a person snapshot, either off the UI thread with
+ * {@link #evaluatePredicate(Predicate)} or, for large address books, whenever the filter predicate is changed;
+ * the filtered person list then only looks up the precomputed results.
+ * Reports count over a column-wise copy of the persons that follows the same change events.
+ * Archived persons are kept out of the address book, in a {@link PersonArchive} that is only read when they are
+ * asked for; a person about to be added or renamed is only checked against their names, without the lock.
+ * Changes to the persons and to the filter are recorded as events for Flight Recorder.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
+
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final CompletionIndex completionIndex;
+    private final PersonColumns personColumns;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile PersonArchive personArchive = PersonArchive.inMemory();
+    /** Number of batches in progress; the completion index lags behind the address book during a batch. */
+    private int batchDepth;
+
+    /** Immutable copy of the person list, or null if the list has changed since the last copy was made. */
+    private volatile List<Person> personSnapshot;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
+        this(addressBook, userPrefs, new AddressBook());
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs, which keeps the details of the persons
+     * in {@code offHeapStore} instead of on the heap.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, OffHeapStore offHeapStore) {
+        this(addressBook, userPrefs, new AddressBook(offHeapStore));
+    }
+
+    private ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, AddressBook emptyBook) {
         super();
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        logger.fine(() -> "Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.addressBook = new AddressBook(addressBook);
+        this.addressBook = emptyBook;
+        this.addressBook.resetData(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        completionIndex = new CompletionIndex(this.addressBook.getPersonList());
+        personColumns = new PersonColumns(this.addressBook.getPersonList());
     }
 
     public ModelManager() {
@@ -80,7 +137,16 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
-        this.addressBook.resetData(addressBook);
+        PersonListChangeEvent event = new PersonListChangeEvent();
+        event.begin();
+        lock.writeLock().lock();
+        try {
+            this.addressBook.resetData(addressBook);
+            personSnapshot = null;
+        } finally {
+            commitPersonListChange(event, "reset");
+            lock.writeLock().unlock();
+        }
     }
 
     @Override
@@ -91,25 +157,242 @@ public class ModelManager implements Model {
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
-        return addressBook.hasPerson(person);
+        lock.readLock().lock();
+        try {
+            return addressBook.hasPerson(person);
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
     public void deletePerson(Person target) {
-        addressBook.removePerson(target);
+        PersonListChangeEvent event = new PersonListChangeEvent();
+        event.begin();
+        lock.writeLock().lock();
+        try {
+            addressBook.removePerson(target);
+            personSnapshot = null;
+        } finally {
+            commitPersonListChange(event, "delete");
+            lock.writeLock().unlock();
+        }
     }
 
     @Override
     public void addPerson(Person person) {
-        addressBook.addPerson(person);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        PersonListChangeEvent event = new PersonListChangeEvent();
+        event.begin();
+        lock.writeLock().lock();
+        try {
+            addressBook.addPerson(person);
+            personSnapshot = null;
+            if (!isShowingAllPersons()) {
+                updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+            }
+        } finally {
+            commitPersonListChange(event, "add");
+            lock.writeLock().unlock();
+        }
     }
 
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        addressBook.setPerson(target, editedPerson);
+        PersonListChangeEvent event = new PersonListChangeEvent();
+        event.begin();
+        lock.writeLock().lock();
+        try {
+            addressBook.setPerson(target, editedPerson);
+            personSnapshot = null;
+        } finally {
+            commitPersonListChange(event, "set");
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Keeps archived persons in {@code personArchive} from now on, instead of in memory.
+     */
+    public void setPersonArchive(PersonArchive personArchive) {
+        requireNonNull(personArchive);
+        lock.writeLock().lock();
+        try {
+            this.personArchive = personArchive;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void archivePerson(Person target) throws IOException {
+        requireNonNull(target);
+
+        PersonListChangeEvent event = new PersonListChangeEvent();
+        event.begin();
+        lock.writeLock().lock();
+        try {
+            // Archived first, so that the person is never in neither.
+            personArchive.add(target);
+            addressBook.removePerson(target);
+            personSnapshot = null;
+        } finally {
+            commitPersonListChange(event, "archive");
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Person> getArchivedPersons() throws IOException {
+        lock.writeLock().lock();
+        try {
+            return List.copyOf(readArchivedPersons());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean hasArchivedPerson(Person person) throws IOException {
+        requireNonNull(person);
+        // Without the lock, as the archive may have to read the archived names, which would hold up writers.
+        return personArchive.hasPerson(person.getName());
+    }
+
+    /**
+     * Returns the archived persons, reading the archive if it has not been read yet. The write lock must be held.
+     */
+    private List<Person> readArchivedPersons() throws IOException {
+        if (personArchive.isLoaded()) {
+            return personArchive.getPersons(person -> false);
+        }
+        Map<Name, Person> personsByName = new HashMap<>();
+        addressBook.getPersonList().forEach(person -> personsByName.put(person.getName(), person));
+        return personArchive.getPersons(person -> AddressBook.isIdentical(person, personsByName.get(person.getName())));
+    }
+
+    @Override
+    public void unarchivePerson(Person target) {
+        requireNonNull(target);
+
+        PersonListChangeEvent event = new PersonListChangeEvent();
+        event.begin();
+        lock.writeLock().lock();
+        try {
+            personArchive.remove(target);
+            addressBook.addPerson(target);
+            personSnapshot = null;
+            if (!isShowingAllPersons()) {
+                updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+            }
+        } finally {
+            commitPersonListChange(event, "unarchive");
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void saveArchive() throws IOException {
+        lock.writeLock().lock();
+        try {
+            personArchive.save();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Person> getPersonSnapshot() {
+        List<Person> snapshot = personSnapshot;
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        // No writer can run while the read lock is held, so the copy cannot be made stale before it is published.
+        lock.readLock().lock();
+        try {
+            snapshot = List.copyOf(addressBook.getPersonList());
+            personSnapshot = snapshot;
+            return snapshot;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<String> findNameCompletions(String prefix, int limit) {
+        requireNonNull(prefix);
+        lock.readLock().lock();
+        try {
+            return batchDepth > 0 ? List.of() : completionIndex.findNames(prefix, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<String> findTagCompletions(String prefix, int limit) {
+        requireNonNull(prefix);
+        lock.readLock().lock();
+        try {
+            return batchDepth > 0 ? List.of() : completionIndex.findTags(prefix, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Map<String, Long> countPersonsByTag() {
+        return readColumns(PersonColumns::countByTag);
+    }
+
+    @Override
+    public long[] countMeetingsPerDay(LocalDate firstDay, int days) {
+        requireNonNull(firstDay);
+        return readColumns(columns -> columns.countMeetingsPerDay(firstDay, days));
+    }
+
+    /**
+     * Returns the result of {@code report} on the person columns, once they have caught up with the changes made
+     * so far in the current batch, if any. Reports are usually run by commands, which are executed in a batch.
+     */
+    private <T> T readColumns(Function<PersonColumns, T> report) {
+        lock.writeLock().lock();
+        try {
+            addressBook.flushBatch();
+            // Downgrade to the read lock, so that other reports can run at the same time.
+            lock.readLock().lock();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            return report.apply(personColumns);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void beginBatch() {
+        lock.writeLock().lock();
+        try {
+            addressBook.beginBatch();
+            batchDepth++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void endBatch() {
+        lock.writeLock().lock();
+        try {
+            addressBook.endBatch();
+            batchDepth--;
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -126,7 +409,66 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        FilterChangeEvent event = new FilterChangeEvent();
+        event.begin();
+        lock.writeLock().lock();
+        try {
+            addressBook.flushBatch();
+            filteredPersons.setPredicate(evaluateIfWorthwhile(predicate));
+        } finally {
+            if (event.shouldCommit()) {
+                event.setPredicate(predicate.getClass().getName());
+                event.setRecordCount(addressBook.getPersonList().size());
+                event.setMatchCount(filteredPersons.size());
+                event.commit();
+            }
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Predicate<Person> evaluatePredicate(Predicate<Person> predicate) throws InterruptedException {
+        requireNonNull(predicate);
+        List<Person> persons = getPersonSnapshot();
+        return new EvaluatedPersonPredicate(predicate, persons, ParallelScan.scan(persons, predicate));
+    }
+
+    /**
+     * Returns {@code predicate} evaluated in parallel if the address book is large enough for that to be faster
+     * than letting the filtered person list test each person in turn.
+     */
+    private Predicate<Person> evaluateIfWorthwhile(Predicate<Person> predicate) {
+        if (predicate == PREDICATE_SHOW_ALL_PERSONS || predicate instanceof EvaluatedPersonPredicate
+                || !ParallelScan.isParallel(addressBook.getPersonList().size())) {
+            return predicate;
+        }
+
+        try {
+            return evaluatePredicate(predicate);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return predicate;
+        }
+    }
+
+    /**
+     * Commits {@code event} for a change to the persons made by {@code operation}, if Flight Recorder is recording it.
+     * Must be called while holding the write lock.
+     */
+    private void commitPersonListChange(PersonListChangeEvent event, String operation) {
+        if (event.shouldCommit()) {
+            event.setOperation(operation);
+            event.setRecordCount(addressBook.getPersonList().size());
+            event.commit();
+        }
+    }
+
+    /**
+     * Returns true if the filtered person list is not filtering out any person.
+     */
+    private boolean isShowingAllPersons() {
+        Predicate<? super Person> predicate = filteredPersons.getPredicate();
+        return predicate == null || predicate == PREDICATE_SHOW_ALL_PERSONS;
     }
 
     @Override
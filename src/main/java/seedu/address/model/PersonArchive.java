@@ -0,0 +1,196 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * The archived persons of an address book: inactive clients that are kept out of the address book, so that they
+ * take no time to load or save, and no memory beyond their names, until they are brought back.
+ *
+ * Archived persons are kept in a {@link Segment}, which is only read the first time the archived persons are
+ * needed, e.g. by a search that includes them. Until then, names are checked against the archive with just the names
+ * of the archived persons, which the segment keeps apart from their details. Persons archived before then are
+ * appended to the segment without reading it, before they are removed from the address book. Persons brought back
+ * are only removed from the segment by {@link #save()}, which rewrites it, after the address book they were brought
+ * back to has been saved. Either way, a person may be in both the address book and the segment for a while, and if a
+ * crash comes in between, the person is left out of the archive when it is read. Only a person with the same details
+ * as in the address book is left out; one that merely has the same name is kept, as it is a different client that
+ * must not be lost.
+ *
+ * Thread-safe, so that names can be checked against the archive without holding the lock of the model.
+ */
+public class PersonArchive {
+
+    private final Segment segment;
+    /** The archived persons, in the order they were archived, or null if the segment has not been read yet. */
+    private List<Person> persons;
+    /** Names of the archived persons, or null if they have not been read. Only kept until the persons are read. */
+    private Set<Name> names;
+    /** Whether persons were removed since the segment was last written. */
+    private boolean isRewriteNeeded;
+
+    /**
+     * Creates a {@code PersonArchive} of the persons in {@code segment}.
+     */
+    public PersonArchive(Segment segment) {
+        requireNonNull(segment);
+        this.segment = segment;
+    }
+
+    /**
+     * Returns a {@code PersonArchive} that is only kept in memory.
+     */
+    public static PersonArchive inMemory() {
+        return new PersonArchive(new MemorySegment());
+    }
+
+    /**
+     * Returns whether the archived persons have been read from the segment.
+     */
+    public synchronized boolean isLoaded() {
+        return persons != null;
+    }
+
+    /**
+     * Adds {@code person} to the archive, appending it to the segment right away.
+     */
+    public synchronized void add(Person person) throws IOException {
+        requireNonNull(person);
+        segment.append(List.of(person));
+        if (names != null) {
+            names.add(person.getName());
+        }
+        if (persons != null) {
+            persons.removeIf(person::isSamePerson);
+            persons.add(person);
+        }
+    }
+
+    /**
+     * Returns true if a person named {@code name} is archived. Only the names of the archived persons are read from
+     * the segment if the persons have not been read yet. A few names may be of persons that were brought back just
+     * before a crash.
+     */
+    public synchronized boolean hasPerson(Name name) throws IOException {
+        requireNonNull(name);
+        if (persons != null) {
+            return persons.stream().anyMatch(person -> person.getName().equals(name));
+        }
+        if (names == null) {
+            names = new HashSet<>(segment.readNames());
+        }
+        return names.contains(name);
+    }
+
+    /**
+     * Returns the archived persons, in the order they were archived, reading them from the segment if they have not
+     * been read yet. When the segment is read, persons that {@code isInAddressBook}, as left there by a crash, are
+     * left out, as are all but the last of the persons archived with the same name.
+     */
+    public synchronized List<Person> getPersons(Predicate<Person> isInAddressBook) throws IOException {
+        requireNonNull(isInAddressBook);
+        if (persons == null) {
+            List<Person> readPersons = segment.read();
+            Map<Name, Person> personsByName = new LinkedHashMap<>();
+            for (Person person : readPersons) {
+                personsByName.remove(person.getName());
+                personsByName.put(person.getName(), person);
+            }
+            persons = new ArrayList<>(personsByName.values());
+            persons.removeIf(isInAddressBook);
+            isRewriteNeeded = persons.size() < readPersons.size();
+            names = null;
+        }
+        return Collections.unmodifiableList(persons);
+    }
+
+    /**
+     * Removes {@code person} from the archive. The segment is rewritten by the next {@link #save()}.
+     * The archived persons must have been read, and {@code person} must be one of them.
+     */
+    public synchronized void remove(Person person) {
+        requireNonNull(person);
+        if (persons == null || !persons.remove(person)) {
+            throw new IllegalArgumentException("Not an archived person: " + person.getName());
+        }
+        isRewriteNeeded = true;
+    }
+
+    /**
+     * Rewrites the segment without the persons removed from the archive since it was last written, if any.
+     */
+    public synchronized void save() throws IOException {
+        if (!isRewriteNeeded) {
+            return;
+        }
+        segment.write(persons);
+        isRewriteNeeded = false;
+    }
+
+    /**
+     * Where archived persons are kept, e.g. a compressed file next to the address book's.
+     */
+    public interface Segment {
+        /**
+         * Returns the persons in the segment, in the order they were added. An empty list if there is no segment yet.
+         */
+        List<Person> read() throws IOException;
+
+        /**
+         * Returns the names of the persons in the segment, without reading the rest of their details.
+         * Names may be repeated, and a few may be of persons no longer in the segment, but none may be missing.
+         */
+        List<Name> readNames() throws IOException;
+
+        /**
+         * Adds {@code persons} to the end of the segment, without reading it.
+         */
+        void append(List<Person> persons) throws IOException;
+
+        /**
+         * Replaces the persons in the segment with {@code persons}.
+         */
+        void write(List<Person> persons) throws IOException;
+    }
+
+    /**
+     * A {@code Segment} kept in memory.
+     */
+    private static class MemorySegment implements Segment {
+        private final List<Person> persons = new ArrayList<>();
+
+        @Override
+        public List<Person> read() {
+            return new ArrayList<>(persons);
+        }
+
+        @Override
+        public List<Name> readNames() {
+            return persons.stream().map(Person::getName).collect(Collectors.toList());
+        }
+
+        @Override
+        public void append(List<Person> newPersons) {
+            persons.addAll(newPersons);
+        }
+
+        @Override
+        public void write(List<Person> newPersons) {
+            persons.clear();
+            persons.addAll(newPersons);
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.LazyPerson;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.ParallelScan;
+
+/**
+ * A column-wise copy of the fields of a person list that reports aggregate over, so that reports scan a few
+ * primitive arrays instead of following references to every person and its value objects.
+ * Row {@code i} of every column describes the person at index {@code i} of the list.
+ *
+ * The columns are the meeting time, in minutes since the epoch, and the tags, as a bitmap of codes given to the tag
+ * names in the order they are first seen. They are built from the list when they are first used, and then kept up
+ * to date from the list's changes by shifting the rows after the changed ones.
+ *
+ * Not thread-safe, like {@link CompletionIndex}: {@link ModelManager} changes the list and reads the columns under
+ * its lock. Reports may run concurrently with each other, since the first one builds the columns while holding
+ * this object's monitor.
+ */
+class PersonColumns implements ListChangeListener<Person> {
+
+    /** Meeting time of a person without a meeting; before any valid meeting time. */
+    static final int NO_MEETING = Integer.MIN_VALUE;
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final ObservableList<Person> persons;
+    private volatile boolean isBuilt;
+
+    private int size;
+    private int[] meetingMinutes;
+    /** {@code tagWords} words of tag bits per row. */
+    private long[] tagBits;
+    private int tagWords;
+    private final Map<String, Integer> tagCodes = new HashMap<>();
+    private final List<String> tagNames = new ArrayList<>();
+
+    /**
+     * Creates a {@code PersonColumns} that follows the changes to {@code persons}.
+     */
+    PersonColumns(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        this.persons = persons;
+        persons.addListener(this);
+    }
+
+    /**
+     * Returns the number of persons with each tag, by tag name in alphabetical order.
+     * Tags that no person has are left out.
+     */
+    Map<String, Long> countByTag() {
+        if (!isBuilt) {
+            build();
+        }
+        long[] counts = ParallelScan.count(size, tagWords * Long.SIZE, this::countTags);
+        Map<String, Long> countsByTag = new TreeMap<>();
+        for (int code = 0; code < tagNames.size(); code++) {
+            if (counts[code] > 0) {
+                countsByTag.put(tagNames.get(code), counts[code]);
+            }
+        }
+        return countsByTag;
+    }
+
+    /**
+     * Returns the number of meetings on each of the {@code days} days starting on {@code firstDay}.
+     */
+    long[] countMeetingsPerDay(LocalDate firstDay, int days) {
+        requireNonNull(firstDay);
+        if (!isBuilt) {
+            build();
+        }
+        int from = toEpochMinutes(firstDay.atStartOfDay());
+        int to = toEpochMinutes(firstDay.plusDays(days).atStartOfDay());
+        return ParallelScan.count(size, days, (start, end, counts) -> {
+            for (int i = start; i < end; i++) {
+                int minutes = meetingMinutes[i];
+                if (minutes >= from && minutes < to) {
+                    counts[(minutes - from) / MINUTES_PER_DAY]++;
+                }
+            }
+        });
+    }
+
+    private void countTags(int from, int to, long[] counts) {
+        for (int word = from * tagWords; word < to * tagWords; word++) {
+            int firstCode = (word % tagWords) * Long.SIZE;
+            for (long bits = tagBits[word]; bits != 0; bits &= bits - 1) {
+                counts[firstCode + Long.numberOfTrailingZeros(bits)]++;
+            }
+        }
+    }
+
+    @Override
+    public void onChanged(Change<? extends Person> change) {
+        if (!isBuilt) {
+            return;
+        }
+        while (change.next()) {
+            if (change.wasPermutated() || change.getRemovedSize() == size) {
+                // Replacing every row also drops the codes of tags that are no longer used.
+                rebuild();
+                return;
+            }
+            if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    setRow(i, persons.get(i));
+                }
+                continue;
+            }
+            removeRows(change.getFrom(), change.getRemovedSize());
+            insertRows(change.getFrom(), change.getAddedSubList());
+        }
+    }
+
+    private synchronized void build() {
+        if (isBuilt) {
+            return;
+        }
+        rebuild();
+        isBuilt = true;
+    }
+
+    private void rebuild() {
+        size = 0;
+        meetingMinutes = new int[Math.max(INITIAL_CAPACITY, persons.size())];
+        tagWords = 1;
+        tagBits = new long[meetingMinutes.length];
+        tagCodes.clear();
+        tagNames.clear();
+        insertRows(0, persons);
+    }
+
+    private void removeRows(int from, int count) {
+        if (count == 0) {
+            return;
+        }
+        System.arraycopy(meetingMinutes, from + count, meetingMinutes, from, size - from - count);
+        System.arraycopy(tagBits, (from + count) * tagWords, tagBits, from * tagWords,
+                (size - from - count) * tagWords);
+        size -= count;
+        Arrays.fill(tagBits, size * tagWords, (size + count) * tagWords, 0);
+    }
+
+    private void insertRows(int from, List<? extends Person> added) {
+        int count = added.size();
+        if (count == 0) {
+            return;
+        }
+        ensureCapacity(size + count);
+        System.arraycopy(meetingMinutes, from, meetingMinutes, from + count, size - from);
+        System.arraycopy(tagBits, from * tagWords, tagBits, (from + count) * tagWords, (size - from) * tagWords);
+        Arrays.fill(tagBits, from * tagWords, (from + count) * tagWords, 0);
+        size += count;
+        for (int i = 0; i < count; i++) {
+            setRow(from + i, added.get(i));
+        }
+    }
+
+    private void setRow(int row, Person person) {
+        String appointment;
+        Set<String> personTagNames;
+        if (person instanceof LazyPerson) {
+            // Avoid unpacking persons just to copy two of their fields.
+            LazyPerson.RawDetails details = ((LazyPerson) person).getRawDetails();
+            appointment = details.appointment;
+            personTagNames = details.tagNames;
+        } else {
+            appointment = person.getAppointment().getValue();
+            personTagNames = person.getTags().stream().map(tag -> tag.tagName).collect(Collectors.toSet());
+        }
+
+        meetingMinutes[row] = new Appointment(appointment).getDateTime()
+                .map(PersonColumns::toEpochMinutes)
+                .orElse(NO_MEETING);
+        Arrays.fill(tagBits, row * tagWords, (row + 1) * tagWords, 0);
+        for (String tagName : personTagNames) {
+            int code = tagCodeOf(tagName);
+            tagBits[row * tagWords + code / Long.SIZE] |= 1L << code;
+        }
+    }
+
+    private int tagCodeOf(String tagName) {
+        Integer code = tagCodes.get(tagName);
+        if (code != null) {
+            return code;
+        }
+        int newCode = tagNames.size();
+        tagCodes.put(tagName, newCode);
+        tagNames.add(tagName);
+        if (newCode == tagWords * Long.SIZE) {
+            widenTagBits();
+        }
+        return newCode;
+    }
+
+    /**
+     * Adds a word to every row of the tag bits, for 64 more tag codes.
+     */
+    private void widenTagBits() {
+        long[] widened = new long[meetingMinutes.length * (tagWords + 1)];
+        for (int row = 0; row < size; row++) {
+            System.arraycopy(tagBits, row * tagWords, widened, row * (tagWords + 1), tagWords);
+        }
+        tagBits = widened;
+        tagWords++;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= meetingMinutes.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, meetingMinutes.length + (meetingMinutes.length >> 1));
+        meetingMinutes = Arrays.copyOf(meetingMinutes, newCapacity);
+        tagBits = Arrays.copyOf(tagBits, newCapacity * tagWords);
+    }
+
+    /**
+     * Returns the minutes from the epoch to {@code dateTime}, both in local time. Meetings beyond the year 6000 or
+     * so, which no report reaches, are all counted as the last representable minute.
+     */
+    private static int toEpochMinutes(LocalDateTime dateTime) {
+        long minutes = dateTime.toEpochSecond(ZoneOffset.UTC) / 60;
+        return (int) Math.min(minutes, Integer.MAX_VALUE);
+    }
+}
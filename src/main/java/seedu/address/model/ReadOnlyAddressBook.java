@@ -14,4 +14,10 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns a number that changes whenever the persons in the address book change, and only then.
+     * Two different address books may have the same version.
+     */
+    long getVersion();
+
 }
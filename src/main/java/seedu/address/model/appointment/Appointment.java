@@ -6,6 +6,8 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Represents a scheduled appointment with an individual.
@@ -48,8 +50,12 @@ public class Appointment {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Appointment // instanceof handles nulls
-                    && (appointmentTime == null && ((Appointment) other).appointmentTime == null // both no apptmt
-                        || appointmentTime.equals(((Appointment) other).appointmentTime))); // state check
+                    && Objects.equals(appointmentTime, ((Appointment) other).appointmentTime)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(appointmentTime);
     }
 
     /**
@@ -81,6 +87,13 @@ public class Appointment {
         return LocalDateTime.parse(dateTimeString, FORMATTER);
     }
 
+    /**
+     * Returns the date and time of the appointment, or an empty {@code Optional} if there is no appointment.
+     */
+    public Optional<LocalDateTime> getDateTime() {
+        return Optional.ofNullable(appointmentTime);
+    }
+
     public String getValue() {
         if (this.appointmentTime == null) {
             return "";
@@ -0,0 +1,222 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A {@code Person} read from storage, whose details other than the name are kept in a compact packed row
+ * until they are first needed, e.g. when the person's card is rendered or a command reads them.
+ * The row is then unpacked into the usual value objects and discarded.
+ *
+ * The name is always unpacked, since identity checks, searching and sorting need it for every person.
+ * The details given to the constructor must already be valid.
+ */
+public class LazyPerson extends Person {
+
+    /** Details other than the name, encoded by {@link #pack(List)}, or null once they have been unpacked. */
+    private byte[] packedDetails;
+    private volatile Person unpacked;
+
+    /**
+     * Creates a {@code LazyPerson} with the given valid details.
+     */
+    public LazyPerson(Name name, String phone, String email, String address, Collection<String> tagNames,
+            String appointment) {
+        super(name);
+        packedDetails = packDetails(phone, email, address, tagNames, appointment);
+    }
+
+    /**
+     * Creates a {@code LazyPerson} with only a name, for subclasses that keep the packed details elsewhere and
+     * override {@link #getRawDetails()} and the getters of the details.
+     */
+    LazyPerson(Name name) {
+        super(name);
+    }
+
+    @Override
+    public Phone getPhone() {
+        return unpack().getPhone();
+    }
+
+    @Override
+    public Email getEmail() {
+        return unpack().getEmail();
+    }
+
+    @Override
+    public Address getAddress() {
+        return unpack().getAddress();
+    }
+
+    @Override
+    public Appointment getAppointment() {
+        return unpack().getAppointment();
+    }
+
+    @Override
+    public Set<Tag> getTags() {
+        return unpack().getTags();
+    }
+
+    /**
+     * Computes the same hash code as an unpacked person would, from the packed strings,
+     * so that putting this person in a hash-based collection does not unpack it.
+     */
+    @Override
+    protected int computeHashCode() {
+        RawDetails details = getRawDetails();
+        int tagsHash = details.tagNames.stream().mapToInt(String::hashCode).sum();
+        // Each value object hashes as its string, see Person#computeHashCode().
+        return Objects.hash(getName().fullName, details.phone, details.email, details.address, tagsHash);
+    }
+
+    /**
+     * Returns the details of this person as plain strings, without unpacking them into value objects.
+     */
+    public RawDetails getRawDetails() {
+        Person person = unpacked;
+        if (person != null) {
+            return new RawDetails(person);
+        }
+
+        synchronized (this) {
+            return unpacked != null ? new RawDetails(unpacked) : unpackDetails(packedDetails);
+        }
+    }
+
+    /**
+     * Returns true if the details of this person have been unpacked into value objects.
+     */
+    boolean isUnpacked() {
+        return unpacked != null;
+    }
+
+    private Person unpack() {
+        Person person = unpacked;
+        if (person != null) {
+            return person;
+        }
+
+        synchronized (this) {
+            if (unpacked == null) {
+                unpacked = toPerson(getName(), unpackDetails(packedDetails));
+                packedDetails = null;
+            }
+            return unpacked;
+        }
+    }
+
+    /**
+     * Returns a {@code Person} with the given name and details.
+     */
+    static Person toPerson(Name name, RawDetails details) {
+        Set<Tag> tags = details.tagNames.stream().map(Tag::new).collect(Collectors.toSet());
+        return new Person(name, new Phone(details.phone), new Email(details.email), new Address(details.address),
+                tags, new Appointment(details.appointment));
+    }
+
+    /**
+     * Encodes the given valid details into a packed row.
+     */
+    static byte[] packDetails(String phone, String email, String address, Collection<String> tagNames,
+            String appointment) {
+        requireAllNonNull(phone, email, address, tagNames, appointment);
+        List<String> details = new ArrayList<>();
+        details.add(phone);
+        details.add(email);
+        details.add(address);
+        details.add(appointment);
+        details.addAll(tagNames);
+        return pack(details);
+    }
+
+    /**
+     * Decodes a packed row encoded by {@link #packDetails(String, String, String, Collection, String)}.
+     */
+    static RawDetails unpackDetails(byte[] packedDetails) {
+        return new RawDetails(unpackStrings(packedDetails));
+    }
+
+    /**
+     * Encodes {@code strings} as consecutive UTF-8 byte sequences, each preceded by its length as a varint.
+     */
+    private static byte[] pack(List<String> strings) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (String string : strings) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            int length = bytes.length;
+            while (length >= 0x80) {
+                out.write((length & 0x7F) | 0x80);
+                length >>>= 7;
+            }
+            out.write(length);
+            out.write(bytes, 0, bytes.length);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Decodes the strings encoded by {@link #pack(List)}.
+     */
+    private static List<String> unpackStrings(byte[] packed) {
+        List<String> strings = new ArrayList<>();
+        int position = 0;
+        while (position < packed.length) {
+            int length = 0;
+            int shift = 0;
+            int b;
+            do {
+                b = packed[position++];
+                length |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            strings.add(new String(packed, position, length, StandardCharsets.UTF_8));
+            position += length;
+        }
+        return strings;
+    }
+
+    /**
+     * The details of a person other than the name, as plain strings.
+     */
+    public static class RawDetails {
+        public final String phone;
+        public final String email;
+        public final String address;
+        public final String appointment;
+        public final Set<String> tagNames;
+
+        private RawDetails(List<String> details) {
+            requireNonNull(details);
+            phone = details.get(0);
+            email = details.get(1);
+            address = details.get(2);
+            appointment = details.get(3);
+            tagNames = Collections.unmodifiableSet(new HashSet<>(details.subList(4, details.size())));
+        }
+
+        RawDetails(Person person) {
+            phone = person.getPhone().value;
+            email = person.getEmail().value;
+            address = person.getAddress().value;
+            appointment = person.getAppointment().getValue();
+            tagNames = person.getTags().stream().map(tag -> tag.tagName)
+                    .collect(Collectors.collectingAndThen(Collectors.toSet(), Collections::unmodifiableSet));
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.invoke.VarHandle;
+import java.util.Collection;
+import java.util.Set;
+
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.OffHeapStore;
+
+/**
+ * A {@code Person} whose details other than the name are kept as a packed row in an {@link OffHeapStore}.
+ * Unlike a {@link LazyPerson}, the row is never kept on the heap: every getter of a detail unpacks the row into a
+ * short-lived {@code Person} and reads the detail from it, so that the heap only holds the name of each person.
+ *
+ * The owner of the person, usually an {@code AddressBook}, calls {@link #release()} once it stops using the person.
+ * The row is then moved back onto the heap and its slot freed, so that others that still hold the person, e.g. a
+ * snapshot being saved, can go on reading it. Reads check whether the person was released while they were reading
+ * the slot, like the optimistic reads of a {@code StampedLock}, and if so read the moved row instead.
+ *
+ * The details given to the constructor must already be valid.
+ */
+public class OffHeapPerson extends LazyPerson {
+
+    private final OffHeapStore store;
+    private final long handle;
+    /** The packed details, once they have been moved back onto the heap by {@link #release()}. */
+    private volatile byte[] releasedDetails;
+
+    /**
+     * Creates an {@code OffHeapPerson} with the given valid details, stored in {@code store}.
+     */
+    public OffHeapPerson(Name name, String phone, String email, String address, Collection<String> tagNames,
+            String appointment, OffHeapStore store) {
+        super(name);
+        requireNonNull(store);
+        byte[] packedDetails = packDetails(phone, email, address, tagNames, appointment);
+        this.store = store;
+        handle = store.store(packedDetails);
+    }
+
+    /**
+     * Returns {@code person} with its details stored in {@code store}, or {@code person} itself if they already are
+     * and it has not been released.
+     */
+    public static OffHeapPerson of(Person person, OffHeapStore store) {
+        requireNonNull(person);
+        requireNonNull(store);
+        if (person instanceof OffHeapPerson && ((OffHeapPerson) person).store == store
+                && !((OffHeapPerson) person).isReleased()) {
+            return (OffHeapPerson) person;
+        }
+
+        RawDetails details = person instanceof LazyPerson ? ((LazyPerson) person).getRawDetails()
+                : new RawDetails(person);
+        return new OffHeapPerson(person.getName(), details.phone, details.email, details.address, details.tagNames,
+                details.appointment, store);
+    }
+
+    @Override
+    public Phone getPhone() {
+        return materialize().getPhone();
+    }
+
+    @Override
+    public Email getEmail() {
+        return materialize().getEmail();
+    }
+
+    @Override
+    public Address getAddress() {
+        return materialize().getAddress();
+    }
+
+    @Override
+    public Appointment getAppointment() {
+        return materialize().getAppointment();
+    }
+
+    @Override
+    public Set<Tag> getTags() {
+        return materialize().getTags();
+    }
+
+    @Override
+    public RawDetails getRawDetails() {
+        return unpackDetails(loadDetails());
+    }
+
+    /**
+     * Moves the details of this person back onto the heap and frees their slot in the store.
+     * Has no effect if this person has already been released.
+     */
+    public synchronized void release() {
+        if (releasedDetails == null) {
+            releasedDetails = store.load(handle);
+            store.free(handle);
+        }
+    }
+
+    /**
+     * Returns true if this person has been released.
+     */
+    boolean isReleased() {
+        return releasedDetails != null;
+    }
+
+    private byte[] loadDetails() {
+        byte[] details = releasedDetails;
+        if (details != null) {
+            return details;
+        }
+
+        RuntimeException loadFailure = null;
+        try {
+            details = store.load(handle);
+        } catch (IllegalStateException e) {
+            loadFailure = e;
+        }
+        // The slot may have been freed and reused while it was being read; the release would then be visible here.
+        VarHandle.loadLoadFence();
+        byte[] released = releasedDetails;
+        if (released != null) {
+            return released;
+        }
+        if (loadFailure != null) {
+            throw loadFailure;
+        }
+        return details;
+    }
+
+    private Person materialize() {
+        return toPerson(getName(), getRawDetails());
+    }
+}
@@ -1,21 +1,28 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
+import seedu.address.model.util.ValuePool;
 
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * To keep large address books small, persons share equal appointments through a value pool, keep their tags
+ * in a compact {@link TagSet} of shared tags, and compute their hash code only once.
+ * Addresses are not pooled: most are distinct, and pooling a distinct value costs more than the value itself.
  */
 public class Person {
 
+    private static final ValuePool<Appointment> APPOINTMENT_POOL = new ValuePool<>();
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -23,9 +30,12 @@ public class Person {
 
     // Data fields
     private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
+    private final TagSet tags;
     private final Appointment appointment;
 
+    /** Cached hash code, or 0 if it has not been computed yet. */
+    private int hash;
+
     /**
      * Every field must be present and not null.
      */
@@ -35,8 +45,21 @@ public class Person {
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.tags.addAll(tags);
-        this.appointment = appointment;
+        this.tags = TagSet.of(tags);
+        this.appointment = appointment == null ? null : APPOINTMENT_POOL.intern(appointment);
+    }
+
+    /**
+     * Creates a person with only a name, for subclasses that supply the other details by overriding their getters.
+     */
+    protected Person(Name name) {
+        requireNonNull(name);
+        this.name = name;
+        this.phone = null;
+        this.email = null;
+        this.address = null;
+        this.tags = TagSet.of(Set.of());
+        this.appointment = null;
     }
 
     public Name getName() {
@@ -64,7 +87,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
@@ -104,8 +127,22 @@ public class Person {
 
     @Override
     public int hashCode() {
+        // Racy but safe, like String#hashCode(): every thread computes the same value from immutable fields.
+        int h = hash;
+        if (h == 0) {
+            h = computeHashCode();
+            hash = h;
+        }
+        return h;
+    }
+
+    /**
+     * Returns the hash code of this person, which is cached by {@link #hashCode()}.
+     * Subclasses that override it must return the same value for equal persons.
+     */
+    protected int computeHashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags);
+        return Objects.hash(getName(), getPhone(), getEmail(), getAddress(), getTags());
     }
 
     @Override
@@ -0,0 +1,89 @@
+package seedu.address.model.sync;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code SyncPeer} of an {@code AddressBook} in this process. The tree of the address book is built once, and then
+ * kept up to date by {@link #apply(List, List)}, so the address book must not be changed in any other way.
+ */
+public class AddressBookSyncPeer implements SyncPeer {
+
+    private final AddressBook addressBook;
+    private final MerkleTree tree;
+
+    /**
+     * Creates a {@code AddressBookSyncPeer} of {@code addressBook}, building the tree of its persons.
+     */
+    public AddressBookSyncPeer(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        this.addressBook = addressBook;
+        this.tree = new MerkleTree(addressBook.getPersonList());
+    }
+
+    public AddressBook getAddressBook() {
+        return addressBook;
+    }
+
+    @Override
+    public long[] getHashes(int level, int[] nodes) {
+        long[] hashes = new long[nodes.length];
+        for (int i = 0; i < nodes.length; i++) {
+            hashes[i] = tree.getHash(level, nodes[i]);
+        }
+        return hashes;
+    }
+
+    @Override
+    public List<Person> getPersons(int[] leaves) {
+        List<Person> persons = new ArrayList<>();
+        for (int leaf : leaves) {
+            persons.addAll(tree.getPersons(leaf));
+        }
+        return persons;
+    }
+
+    /**
+     * Replaces the persons of the address book in a single pass, as finding each changed person in its list would
+     * take time in proportion to the size of the address book.
+     */
+    @Override
+    public void apply(List<Person> changedPersons, List<Name> removedNames) {
+        requireNonNull(changedPersons);
+        requireNonNull(removedNames);
+        if (changedPersons.isEmpty() && removedNames.isEmpty()) {
+            return;
+        }
+
+        Map<Name, Person> changes = new HashMap<>();
+        changedPersons.forEach(person -> changes.put(person.getName(), person));
+        Set<Name> removals = new HashSet<>(removedNames);
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList().size() + changes.size());
+        for (Person person : addressBook.getPersonList()) {
+            Person changedPerson = changes.remove(person.getName());
+            if (changedPerson != null) {
+                persons.add(changedPerson);
+            } else if (!removals.contains(person.getName())) {
+                persons.add(person);
+            }
+        }
+        persons.addAll(changes.values());
+        addressBook.setPersons(persons);
+
+        changedPersons.forEach(person -> {
+            tree.remove(person.getName());
+            tree.add(person);
+        });
+        removedNames.forEach(tree::remove);
+    }
+}
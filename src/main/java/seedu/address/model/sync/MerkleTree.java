@@ -0,0 +1,188 @@
+package seedu.address.model.sync;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A hash tree over the persons of an address book, which two address books compare from the root down to find the
+ * persons in which they differ without exchanging the others.
+ *
+ * The tree has a fixed shape, the same for every address book: {@link #LEVELS} levels below the root, each node
+ * with {@link #FANOUT} children. Each person is put in the leaf given by the hash of its name, and the hash of a node
+ * is the sum of the {@link #hash(Person) hashes} of the persons below it. Sums do not depend on the order in which
+ * persons were added, and adding or removing a person only updates the nodes above its leaf. Hashes are the same in
+ * every process, so trees can be compared across machines.
+ *
+ * Not thread-safe.
+ */
+public class MerkleTree {
+
+    /** Number of bits of a leaf that each level below the root tells apart. */
+    public static final int FANOUT_BITS = 4;
+    /** Number of children of each node. */
+    public static final int FANOUT = 1 << FANOUT_BITS;
+    /** Level of the leaves; the root is at level 0. */
+    public static final int LEVELS = 4;
+    public static final int LEAF_COUNT = 1 << (FANOUT_BITS * LEVELS);
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /** The hashes of the nodes of each level, by level and then by node from left to right. */
+    private final long[][] hashes = new long[LEVELS + 1][];
+    /** The persons in each leaf, or null for leaves that have never had any. */
+    private final List<List<Person>> leafPersons = new ArrayList<>(Collections.nCopies(LEAF_COUNT, null));
+    private int size;
+
+    /**
+     * Creates an empty {@code MerkleTree}.
+     */
+    public MerkleTree() {
+        for (int level = 0; level <= LEVELS; level++) {
+            hashes[level] = new long[getNodeCount(level)];
+        }
+    }
+
+    /**
+     * Creates a {@code MerkleTree} of {@code persons}, which must have unique names.
+     */
+    public MerkleTree(List<Person> persons) {
+        this();
+        requireNonNull(persons);
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the number of nodes at {@code level}.
+     */
+    public static int getNodeCount(int level) {
+        checkArgument(level >= 0 && level <= LEVELS, "Level out of range: " + level);
+        return 1 << (FANOUT_BITS * level);
+    }
+
+    /**
+     * Returns the leaf of the persons named {@code name}.
+     */
+    public static int getLeaf(Name name) {
+        return (int) (hashName(name) >>> (Long.SIZE - FANOUT_BITS * LEVELS));
+    }
+
+    /**
+     * Returns a hash of the name of {@code name}, the same in every process.
+     */
+    public static long hashName(Name name) {
+        return mix(hashString(FNV_OFFSET_BASIS, name.fullName));
+    }
+
+    /**
+     * Returns a hash of all the details of {@code person}, its appointment included, the same in every process.
+     * Persons with the same details have the same hash.
+     */
+    public static long hash(Person person) {
+        long hash = hashString(FNV_OFFSET_BASIS, person.getName().fullName);
+        hash = hashString(hash, person.getPhone().value);
+        hash = hashString(hash, person.getEmail().value);
+        hash = hashString(hash, person.getAddress().value);
+        hash = hashString(hash, person.getAppointment() == null ? "" : person.getAppointment().getValue());
+        long tagsHash = 0;
+        for (Tag tag : person.getTags()) {
+            // Summed so that the hash does not depend on the order of the tags.
+            tagsHash += mix(hashString(FNV_OFFSET_BASIS, tag.tagName));
+        }
+        return mix(hash ^ mix(tagsHash));
+    }
+
+    /**
+     * Adds {@code person}, whose name must not be in the tree yet.
+     */
+    public void add(Person person) {
+        int leaf = getLeaf(person.getName());
+        List<Person> persons = leafPersons.get(leaf);
+        if (persons == null) {
+            persons = new ArrayList<>(2);
+            leafPersons.set(leaf, persons);
+        }
+        persons.add(person);
+        addToPath(leaf, hash(person));
+        size++;
+    }
+
+    /**
+     * Removes the person named {@code name}, if there is one, and returns it, or null if there is none.
+     */
+    public Person remove(Name name) {
+        int leaf = getLeaf(name);
+        List<Person> persons = leafPersons.get(leaf);
+        if (persons == null) {
+            return null;
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            if (person.getName().equals(name)) {
+                persons.remove(i);
+                addToPath(leaf, -hash(person));
+                size--;
+                return person;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the number of persons in the tree.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the hash of the node {@code node} at {@code level}.
+     */
+    public long getHash(int level, int node) {
+        checkArgument(level >= 0 && level <= LEVELS, "Level out of range: " + level);
+        return hashes[level][node];
+    }
+
+    /**
+     * Returns the persons in {@code leaf}, in no particular order.
+     */
+    public List<Person> getPersons(int leaf) {
+        List<Person> persons = leafPersons.get(leaf);
+        return persons == null ? Collections.emptyList() : Collections.unmodifiableList(persons);
+    }
+
+    private void addToPath(int leaf, long delta) {
+        int node = leaf;
+        for (int level = LEVELS; level >= 0; level--) {
+            hashes[level][node] += delta;
+            node /= FANOUT;
+        }
+    }
+
+    private static long hashString(long hash, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        for (byte b : bytes) {
+            hash = (hash ^ (b & 0xff)) * FNV_PRIME;
+        }
+        // Ends each string, so that moving bytes from one field to the next changes the hash.
+        return (hash ^ 0xff) * FNV_PRIME;
+    }
+
+    /**
+     * Spreads the bits of {@code hash}, so that sums of hashes of similar persons do not cancel out.
+     */
+    private static long mix(long hash) {
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+}
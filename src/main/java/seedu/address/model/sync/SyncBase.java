@@ -0,0 +1,135 @@
+package seedu.address.model.sync;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.stream.IntStream;
+
+import seedu.address.model.person.Name;
+
+/**
+ * What two address books agreed on when they were last synced: the {@link MerkleTree#hash hash} of each
+ * person, by the hash of its name. A person that differs between the address books was changed by the one whose
+ * person no longer matches the base, so changes can be told apart from conflicts.
+ *
+ * The base is kept by leaf of the tree, as the hashes of the names and of the persons of each leaf, sorted by
+ * name hash, so that a sync only replaces the leaves it merged. The leaves with conflicts are kept too, so that they
+ * are merged again by every sync until the conflicts are settled, even once the address books no longer differ.
+ */
+public class SyncBase {
+
+    private static final long[] NO_ENTRIES = new long[0];
+    private static final int[] NO_LEAVES = new int[0];
+
+    /** By leaf, the name hash and the person hash of each person in turn, sorted by name hash. */
+    private final long[][] leafEntries;
+    /** The leaves with persons that were changed by both address books, sorted. */
+    private int[] conflictLeaves;
+    private boolean isEmpty;
+
+    /**
+     * Creates a {@code SyncBase} of two address books that have never been synced.
+     */
+    public SyncBase() {
+        leafEntries = new long[MerkleTree.LEAF_COUNT][];
+        Arrays.fill(leafEntries, NO_ENTRIES);
+        conflictLeaves = NO_LEAVES;
+        isEmpty = true;
+    }
+
+    /**
+     * Creates a {@code SyncBase} with the entries of each leaf given by {@code leafEntries}, as returned by
+     * {@link #getLeafEntries(int)}, and the leaves with conflicts given by {@code conflictLeaves}.
+     */
+    public SyncBase(long[][] leafEntries, int[] conflictLeaves) {
+        requireNonNull(leafEntries);
+        setConflictLeaves(conflictLeaves);
+        checkArgument(leafEntries.length == MerkleTree.LEAF_COUNT, "One array of entries is needed per leaf");
+        this.leafEntries = new long[MerkleTree.LEAF_COUNT][];
+        isEmpty = true;
+        for (int leaf = 0; leaf < leafEntries.length; leaf++) {
+            checkArgument(leafEntries[leaf].length % 2 == 0, "Entries come in pairs");
+            this.leafEntries[leaf] = leafEntries[leaf].clone();
+            isEmpty &= leafEntries[leaf].length == 0;
+        }
+    }
+
+    /**
+     * Returns whether the base has no persons, as for address books that have never been synced.
+     */
+    public boolean isEmpty() {
+        return isEmpty;
+    }
+
+    /**
+     * Returns the hash of the person named {@code name} when the address books were last synced, or an empty
+     * {@code OptionalLong} if there was no such person.
+     */
+    public OptionalLong getHash(Name name) {
+        long nameHash = MerkleTree.hashName(name);
+        long[] entries = leafEntries[MerkleTree.getLeaf(name)];
+        int low = 0;
+        int high = entries.length / 2 - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long middleHash = entries[2 * middle];
+            if (middleHash < nameHash) {
+                low = middle + 1;
+            } else if (middleHash > nameHash) {
+                high = middle - 1;
+            } else {
+                return OptionalLong.of(entries[2 * middle + 1]);
+            }
+        }
+        return OptionalLong.empty();
+    }
+
+    /**
+     * Replaces the base of {@code leaf} with {@code hashes}, the hashes of its persons by name.
+     * Every name must be in {@code leaf}.
+     */
+    public void setLeaf(int leaf, Map<Name, Long> hashes) {
+        long[][] pairs = new long[hashes.size()][];
+        int i = 0;
+        for (Map.Entry<Name, Long> entry : hashes.entrySet()) {
+            checkArgument(MerkleTree.getLeaf(entry.getKey()) == leaf, "Not in leaf " + leaf + ": " + entry.getKey());
+            pairs[i++] = new long[] {MerkleTree.hashName(entry.getKey()), entry.getValue()};
+        }
+        Arrays.sort(pairs, (first, second) -> Long.compare(first[0], second[0]));
+        long[] entries = new long[2 * pairs.length];
+        for (i = 0; i < pairs.length; i++) {
+            entries[2 * i] = pairs[i][0];
+            entries[2 * i + 1] = pairs[i][1];
+        }
+        leafEntries[leaf] = entries;
+        isEmpty &= entries.length == 0;
+    }
+
+    /**
+     * Returns the leaves with persons that were changed by both address books, sorted.
+     */
+    public int[] getConflictLeaves() {
+        return conflictLeaves.clone();
+    }
+
+    /**
+     * Replaces the leaves with conflicts with {@code conflictLeaves}.
+     */
+    public void setConflictLeaves(int[] conflictLeaves) {
+        requireNonNull(conflictLeaves);
+        checkArgument(IntStream.of(conflictLeaves).allMatch(leaf -> leaf >= 0 && leaf < MerkleTree.LEAF_COUNT),
+                "Leaf out of range");
+        this.conflictLeaves = IntStream.of(conflictLeaves).sorted().distinct().toArray();
+    }
+
+    /**
+     * Returns the entries of {@code leaf}: the name hash and the person hash of each of its persons in turn, sorted
+     * by name hash.
+     */
+    public long[] getLeafEntries(int leaf) {
+        return leafEntries[leaf].clone();
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.address.model.sync;
+
+import java.io.IOException;
+import java.util.List;
+
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * One of the two address books that a {@link Synchronizer} syncs, seen through the {@link MerkleTree} of its
+ * persons. The address book may be in the same process or reached through a stream, so each call asks for many
+ * nodes or leaves at once.
+ */
+public interface SyncPeer {
+
+    /**
+     * Returns the hashes of {@code nodes} at {@code level} of the tree, in the same order.
+     */
+    long[] getHashes(int level, int[] nodes) throws IOException;
+
+    /**
+     * Returns the persons in {@code leaves} of the tree.
+     */
+    List<Person> getPersons(int[] leaves) throws IOException;
+
+    /**
+     * Adds {@code changedPersons} to the address book, replacing the persons with the same names, and removes the
+     * persons named {@code removedNames}.
+     */
+    void apply(List<Person> changedPersons, List<Name> removedNames) throws IOException;
+}
@@ -0,0 +1,60 @@
+package seedu.address.model.sync;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.model.person.Name;
+
+/**
+ * What a {@link Synchronizer} did to sync two address books.
+ */
+public class SyncResult {
+
+    private final int comparedNodeCount;
+    private final int differingLeafCount;
+    private final int receivedCount;
+    private final int sentCount;
+    private final List<Name> conflicts;
+
+    /**
+     * Creates a {@code SyncResult} of a sync that compared {@code comparedNodeCount} nodes of the trees, found
+     * {@code differingLeafCount} leaves that differ, made {@code receivedCount} changes to the local address book and
+     * {@code sentCount} changes to the remote one, and left the persons named in {@code conflicts} as they were.
+     */
+    public SyncResult(int comparedNodeCount, int differingLeafCount, int receivedCount, int sentCount,
+            List<Name> conflicts) {
+        requireNonNull(conflicts);
+        this.comparedNodeCount = comparedNodeCount;
+        this.differingLeafCount = differingLeafCount;
+        this.receivedCount = receivedCount;
+        this.sentCount = sentCount;
+        this.conflicts = List.copyOf(conflicts);
+    }
+
+    public int getComparedNodeCount() {
+        return comparedNodeCount;
+    }
+
+    public int getDifferingLeafCount() {
+        return differingLeafCount;
+    }
+
+    public int getReceivedCount() {
+        return receivedCount;
+    }
+
+    public int getSentCount() {
+        return sentCount;
+    }
+
+    public List<Name> getConflicts() {
+        return conflicts;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d changes received, %d changes sent, %d conflicts (%d nodes compared, %d leaves merged)",
+                receivedCount, sentCount, conflicts.size(), comparedNodeCount, differingLeafCount);
+    }
+}
@@ -0,0 +1,155 @@
+package seedu.address.model.sync;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Syncs two address books by comparing their {@link MerkleTree}s from the root down, a level at a time, and merging
+ * only the persons in the leaves that differ.
+ *
+ * Each person that differs is merged against the {@link SyncBase}: a person that one address book still has as it
+ * was at the last sync was changed by the other one, whose person, or its removal, is copied over. A person changed
+ * by both since then is a conflict, and is left as it is in both. The base keeps the person as it was, so the
+ * conflict is reported by every sync until it is settled by making the person the same in both.
+ */
+public class Synchronizer {
+
+    private Synchronizer() {
+    }
+
+    /**
+     * Syncs the address books of {@code local} and {@code remote}, which were last synced at {@code base}, and updates
+     * {@code base} to the result.
+     */
+    public static SyncResult sync(SyncPeer local, SyncPeer remote, SyncBase base) throws IOException {
+        requireNonNull(local);
+        requireNonNull(remote);
+        requireNonNull(base);
+        boolean isFirstSync = base.isEmpty();
+
+        int comparedNodeCount = 0;
+        int[] nodes = {0};
+        for (int level = 0; ; level++) {
+            int[] levelNodes = nodes;
+            long[] localHashes = local.getHashes(level, levelNodes);
+            long[] remoteHashes = remote.getHashes(level, levelNodes);
+            comparedNodeCount += levelNodes.length;
+            int[] differingNodes = IntStream.range(0, levelNodes.length)
+                    .filter(i -> localHashes[i] != remoteHashes[i])
+                    .map(i -> levelNodes[i])
+                    .toArray();
+            if (level == MerkleTree.LEVELS || differingNodes.length == 0) {
+                nodes = differingNodes;
+                break;
+            }
+            nodes = IntStream.of(differingNodes)
+                    .flatMap(node -> IntStream.range(node * MerkleTree.FANOUT, (node + 1) * MerkleTree.FANOUT))
+                    .toArray();
+        }
+        // Leaves with conflicts are merged again even if the address books agree on them now, so that the base
+        // records how the conflicts were settled.
+        int[] differingLeaves = IntStream.concat(IntStream.of(nodes), IntStream.of(base.getConflictLeaves()))
+                .sorted()
+                .distinct()
+                .toArray();
+
+        Map<Name, Person> localPersons = byName(local.getPersons(differingLeaves));
+        Map<Name, Person> remotePersons = byName(remote.getPersons(differingLeaves));
+        Set<Name> names = new LinkedHashSet<>(localPersons.keySet());
+        names.addAll(remotePersons.keySet());
+
+        List<Person> receivedPersons = new ArrayList<>();
+        List<Name> receivedRemovals = new ArrayList<>();
+        List<Person> sentPersons = new ArrayList<>();
+        List<Name> sentRemovals = new ArrayList<>();
+        List<Name> conflicts = new ArrayList<>();
+        Map<Integer, Map<Name, Long>> mergedHashes = new HashMap<>();
+        for (int leaf : differingLeaves) {
+            mergedHashes.put(leaf, new HashMap<>());
+        }
+
+        for (Name name : names) {
+            Person localPerson = localPersons.get(name);
+            Person remotePerson = remotePersons.get(name);
+            OptionalLong localHash = hashOf(localPerson);
+            OptionalLong remoteHash = hashOf(remotePerson);
+            OptionalLong baseHash = base.getHash(name);
+            OptionalLong mergedHash;
+            if (localHash.equals(remoteHash)) {
+                mergedHash = localHash;
+            } else if (localHash.equals(baseHash)) {
+                addChange(remotePerson, name, receivedPersons, receivedRemovals);
+                mergedHash = remoteHash;
+            } else if (remoteHash.equals(baseHash)) {
+                addChange(localPerson, name, sentPersons, sentRemovals);
+                mergedHash = localHash;
+            } else {
+                conflicts.add(name);
+                mergedHash = baseHash;
+            }
+            mergedHash.ifPresent(hash -> mergedHashes.get(MerkleTree.getLeaf(name)).put(name, hash));
+        }
+
+        local.apply(receivedPersons, receivedRemovals);
+        remote.apply(sentPersons, sentRemovals);
+        mergedHashes.forEach(base::setLeaf);
+        base.setConflictLeaves(conflicts.stream().mapToInt(MerkleTree::getLeaf).toArray());
+        if (isFirstSync) {
+            // The leaves that did not differ are the same in both address books, so they are their own base.
+            recordUnchangedLeaves(local, base, mergedHashes.keySet());
+        }
+
+        return new SyncResult(comparedNodeCount, differingLeaves.length,
+                receivedPersons.size() + receivedRemovals.size(), sentPersons.size() + sentRemovals.size(),
+                conflicts);
+    }
+
+    private static void recordUnchangedLeaves(SyncPeer local, SyncBase base, Set<Integer> mergedLeaves)
+            throws IOException {
+        int[] unchangedLeaves = IntStream.range(0, MerkleTree.LEAF_COUNT)
+                .filter(leaf -> !mergedLeaves.contains(leaf))
+                .toArray();
+        Map<Integer, Map<Name, Long>> hashes = new HashMap<>();
+        for (Person person : local.getPersons(unchangedLeaves)) {
+            hashes.computeIfAbsent(MerkleTree.getLeaf(person.getName()), unused -> new HashMap<>())
+                    .put(person.getName(), MerkleTree.hash(person));
+        }
+        hashes.forEach(base::setLeaf);
+    }
+
+    private static Map<Name, Person> byName(List<Person> persons) {
+        Map<Name, Person> personsByName = new HashMap<>();
+        for (Person person : persons) {
+            personsByName.put(person.getName(), person);
+        }
+        return personsByName;
+    }
+
+    private static OptionalLong hashOf(Person person) {
+        return person == null ? OptionalLong.empty() : OptionalLong.of(MerkleTree.hash(person));
+    }
+
+    /**
+     * Adds {@code person} to {@code changedPersons}, or {@code name} to {@code removedNames} if {@code person} is
+     * null, i.e. was removed.
+     */
+    private static void addChange(Person person, Name name, List<Person> changedPersons, List<Name> removedNames) {
+        if (person == null) {
+            removedNames.add(name);
+        } else {
+            changedPersons.add(person);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.util.ValuePool;
+
+/**
+ * An immutable set of tags backed by a sorted array, for the few tags that a person has.
+ * It takes a fraction of the memory of a {@code HashSet}, iterates in alphabetical order of the tag names,
+ * and shares one instance of each tag among all tag sets.
+ * Any attempt to modify the set throws {@code UnsupportedOperationException}.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    private static final TagSet EMPTY = new TagSet(new Tag[0]);
+    private static final ValuePool<Tag> TAG_POOL = new ValuePool<>();
+
+    private final Tag[] tags;
+    private final int hash;
+
+    private TagSet(Tag[] tags) {
+        this.tags = tags;
+        this.hash = Arrays.stream(tags).mapToInt(Tag::hashCode).sum();
+    }
+
+    /**
+     * Returns a {@code TagSet} with the tags in {@code tags}.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+
+        Tag[] sortedTags = tags.stream()
+                .distinct()
+                .map(TAG_POOL::intern)
+                .sorted(Comparator.comparing(tag -> tag.tagName))
+                .toArray(Tag[]::new);
+        return new TagSet(sortedTags);
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        if (!(other instanceof Tag)) {
+            return false;
+        }
+        for (Tag tag : tags) {
+            if (tag.equals(other)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        // The iterator of a fixed-size list does not support removal.
+        return Arrays.asList(tags).iterator();
+    }
+
+    @Override
+    public int size() {
+        return tags.length;
+    }
+
+    @Override
+    public boolean add(Tag tag) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Tag> other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (other instanceof TagSet && hash != ((TagSet) other).hash) {
+            return false;
+        }
+        return other instanceof Set && super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
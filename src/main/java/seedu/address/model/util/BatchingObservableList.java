@@ -0,0 +1,254 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javafx.collections.ObservableListBase;
+
+/**
+ * An {@code ObservableList} backed by an {@code ArrayList} that can group several modifications into one change.
+ *
+ * Between {@link #beginBatch()} and the matching {@link #endBatch()}, modifications are applied to the list
+ * immediately but their change events are held back. When the outermost batch ends, listeners receive a single
+ * change event for all of them, so that views such as a {@code FilteredList} or {@code ListView} update once.
+ * A batch of a few modifications is reported modification by modification within that event. A larger batch is
+ * reported as the replacement of the whole list, which views process in one pass instead of once per modification.
+ * Outside a batch, every modification fires its own change event, like {@code FXCollections#observableArrayList}.
+ *
+ * Views of this list only catch up with the held-back modifications when the batch ends or is flushed,
+ * so they must not be read in the middle of a batch.
+ */
+public class BatchingObservableList<E> extends ObservableListBase<E> {
+
+    /** Number of held-back modifications above which a batch is reported as the replacement of the whole list. */
+    static final int MAX_PENDING_MODIFICATIONS = 32;
+
+    private final List<E> elements = new ArrayList<>();
+    private final List<Modification<E>> pendingModifications = new ArrayList<>();
+    private int batchDepth;
+
+    /** Contents of the list when the current batch started, or null if the batch is reported modification-wise. */
+    private List<E> contentsBeforeBatch;
+
+    /**
+     * Starts a batch. Batches may be nested; only the end of the outermost batch fires a change event.
+     */
+    public void beginBatch() {
+        batchDepth++;
+    }
+
+    /**
+     * Ends a batch started by {@link #beginBatch()}.
+     * If this is the outermost batch, fires one change event for all modifications made during the batch.
+     */
+    public void endBatch() {
+        if (batchDepth == 0) {
+            throw new IllegalStateException("endBatch() called without a matching beginBatch()");
+        }
+        if (--batchDepth == 0) {
+            fireBatch();
+        }
+    }
+
+    /**
+     * Fires the change event for the modifications made so far in the current batch, if there is one,
+     * and keeps the batch open for further modifications.
+     */
+    public void flushBatch() {
+        if (isBatching()) {
+            fireBatch();
+        }
+    }
+
+    /**
+     * Returns true if a batch is in progress.
+     */
+    public boolean isBatching() {
+        return batchDepth > 0;
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public void add(int index, E element) {
+        elements.add(index, element);
+        modCount++;
+        if (isBatching()) {
+            hold(new Modification<>(Modification.Type.ADD, index, null));
+            return;
+        }
+        beginChange();
+        nextAdd(index, index + 1);
+        endChange();
+    }
+
+    @Override
+    public E set(int index, E element) {
+        E oldElement = elements.set(index, element);
+        if (isBatching()) {
+            hold(new Modification<>(Modification.Type.SET, index, oldElement));
+            return oldElement;
+        }
+        beginChange();
+        nextSet(index, oldElement);
+        endChange();
+        return oldElement;
+    }
+
+    @Override
+    public E remove(int index) {
+        E oldElement = elements.remove(index);
+        modCount++;
+        if (isBatching()) {
+            hold(new Modification<>(Modification.Type.REMOVE, index, oldElement));
+            return oldElement;
+        }
+        beginChange();
+        nextRemove(index, oldElement);
+        endChange();
+        return oldElement;
+    }
+
+    /**
+     * Replaces the contents of this list in one step, reported as the replacement of the whole list.
+     */
+    @Override
+    public boolean setAll(Collection<? extends E> col) {
+        requireNonNull(col);
+        if (isBatching()) {
+            reportAsReplacement();
+            elements.clear();
+            elements.addAll(col);
+            modCount++;
+            return true;
+        }
+
+        List<E> removed = new ArrayList<>(elements);
+        elements.clear();
+        elements.addAll(col);
+        modCount++;
+        fireReplacement(removed);
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        setAll(List.of());
+    }
+
+    private void hold(Modification<E> modification) {
+        if (contentsBeforeBatch != null) {
+            return;
+        }
+        pendingModifications.add(modification);
+        if (pendingModifications.size() > MAX_PENDING_MODIFICATIONS) {
+            reportAsReplacement();
+        }
+    }
+
+    /**
+     * Switches the current batch to be reported as the replacement of the whole list,
+     * recovering the contents of the list before the batch by undoing the held-back modifications.
+     */
+    private void reportAsReplacement() {
+        if (contentsBeforeBatch != null) {
+            return;
+        }
+        List<E> contents = new ArrayList<>(elements);
+        for (int i = pendingModifications.size() - 1; i >= 0; i--) {
+            pendingModifications.get(i).undo(contents);
+        }
+        pendingModifications.clear();
+        contentsBeforeBatch = contents;
+    }
+
+    private void fireBatch() {
+        if (contentsBeforeBatch != null) {
+            List<E> removed = contentsBeforeBatch;
+            contentsBeforeBatch = null;
+            fireReplacement(removed);
+            return;
+        }
+        if (pendingModifications.isEmpty()) {
+            return;
+        }
+
+        beginChange();
+        for (Modification<E> modification : pendingModifications) {
+            modification.report(this);
+        }
+        pendingModifications.clear();
+        endChange();
+    }
+
+    private void fireReplacement(List<E> removed) {
+        if (removed.isEmpty() && elements.isEmpty()) {
+            return;
+        }
+        beginChange();
+        nextReplace(0, elements.size(), removed);
+        endChange();
+    }
+
+    /**
+     * A modification whose change event is being held back by a batch.
+     */
+    private static class Modification<E> {
+        private enum Type { ADD, SET, REMOVE }
+
+        private final Type type;
+        private final int index;
+        private final E oldElement;
+
+        Modification(Type type, int index, E oldElement) {
+            this.type = type;
+            this.index = index;
+            this.oldElement = oldElement;
+        }
+
+        /**
+         * Reports this modification to the change being built by {@code list}.
+         */
+        void report(BatchingObservableList<E> list) {
+            switch (type) {
+            case ADD:
+                list.nextAdd(index, index + 1);
+                break;
+            case SET:
+                list.nextSet(index, oldElement);
+                break;
+            default:
+                list.nextRemove(index, oldElement);
+                break;
+            }
+        }
+
+        /**
+         * Reverts this modification in {@code contents}.
+         */
+        void undo(List<E> contents) {
+            switch (type) {
+            case ADD:
+                contents.remove(index);
+                break;
+            case SET:
+                contents.set(index, oldElement);
+                break;
+            default:
+                contents.add(index, oldElement);
+                break;
+            }
+        }
+    }
+}
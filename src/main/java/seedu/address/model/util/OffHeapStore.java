@@ -0,0 +1,174 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Keeps byte records outside the Java heap, in direct buffers, so that large amounts of data neither grow the heap
+ * nor add to the work of the garbage collector.
+ *
+ * Memory is reserved in segments of {@link #SEGMENT_SIZE} bytes, each of which is cut into slots of one size, a
+ * power of two. A record is stored in the smallest slot that fits it and its length, and is identified by a handle
+ * made of its segment and offset. Freed slots are kept on a free list per slot size and reused before any new
+ * slot is cut. Segments are never given back, so the reserved memory is that of the largest number of records
+ * stored at once. Records larger than a segment get a segment of their own.
+ *
+ * Allocating and freeing are synchronized. Loading is not, and may run on any number of threads at once; a load
+ * that races with the reuse of a freed slot returns a mix of the old and new records, or fails, so the owners of
+ * records must either stop loading a record before freeing it or detect such loads, see {@code OffHeapPerson}.
+ */
+public class OffHeapStore {
+
+    /** Size of the segments that slots are cut from. */
+    public static final int SEGMENT_SIZE = 1 << 20;
+
+    /** Size of the smallest slot, enough for the length and a few bytes. */
+    static final int MIN_SLOT_SIZE = 16;
+
+    private static final int LENGTH_BYTES = Integer.BYTES;
+
+    /** Segments by index. Replaced, never modified, when a segment is added, so that loads need no lock. */
+    private volatile ByteBuffer[] segments = new ByteBuffer[0];
+    /** Slot size of each segment, by index. */
+    private int[] segmentSlotSizes = new int[0];
+
+    /** By the base-2 logarithm of the slot size: the segment that new slots are cut from, or -1 if none. */
+    private final int[] openSegments = new int[Integer.SIZE];
+    /** By the base-2 logarithm of the slot size: the offset of the next slot to cut from the open segment. */
+    private final int[] nextOffsets = new int[Integer.SIZE];
+    /** By the base-2 logarithm of the slot size: the handles of the freed slots. */
+    private final long[][] freeLists = new long[Integer.SIZE][];
+    private final int[] freeCounts = new int[Integer.SIZE];
+
+    private long usedBytes;
+
+    /**
+     * Creates an empty {@code OffHeapStore}. No memory is reserved until the first record is stored.
+     */
+    public OffHeapStore() {
+        Arrays.fill(openSegments, -1);
+        Arrays.fill(freeLists, new long[0]);
+    }
+
+    /**
+     * Stores a copy of {@code record} and returns its handle.
+     */
+    public synchronized long store(byte[] record) {
+        requireNonNull(record);
+        int slotSize = slotSizeFor(record.length);
+        long handle = allocate(slotSize);
+        ByteBuffer segment = segments[segmentOf(handle)].duplicate();
+        segment.position(offsetOf(handle));
+        segment.putInt(record.length);
+        segment.put(record);
+        usedBytes += slotSize;
+        return handle;
+    }
+
+    /**
+     * Returns a copy of the record with the given handle.
+     *
+     * @throws IllegalStateException if the slot of the record does not hold a record, which can happen if it was
+     *     freed and is being reused.
+     */
+    public byte[] load(long handle) {
+        ByteBuffer segment = segments[segmentOf(handle)].duplicate();
+        segment.position(offsetOf(handle));
+        int length = segment.getInt();
+        if (length < 0 || length > segment.remaining()) {
+            throw new IllegalStateException("No record in slot " + handle);
+        }
+        byte[] record = new byte[length];
+        segment.get(record);
+        return record;
+    }
+
+    /**
+     * Frees the slot of the record with the given handle, for reuse by a later record.
+     * The record must not be loaded again.
+     */
+    public synchronized void free(long handle) {
+        int segmentIndex = segmentOf(handle);
+        checkArgument(segmentIndex < segmentSlotSizes.length, "Unknown handle: " + handle);
+        int slotSize = segmentSlotSizes[segmentIndex];
+        int sizeClass = sizeClassOf(slotSize);
+        if (freeCounts[sizeClass] == freeLists[sizeClass].length) {
+            freeLists[sizeClass] = Arrays.copyOf(freeLists[sizeClass], Math.max(16, 2 * freeCounts[sizeClass]));
+        }
+        freeLists[sizeClass][freeCounts[sizeClass]++] = handle;
+        usedBytes -= slotSize;
+    }
+
+    /**
+     * Returns the number of bytes in the slots of the records that have not been freed.
+     */
+    public synchronized long getUsedBytes() {
+        return usedBytes;
+    }
+
+    /**
+     * Returns the number of bytes reserved outside the heap by this store.
+     */
+    public synchronized long getReservedBytes() {
+        long reservedBytes = 0;
+        for (ByteBuffer segment : segments) {
+            reservedBytes += segment.capacity();
+        }
+        return reservedBytes;
+    }
+
+    private long allocate(int slotSize) {
+        int sizeClass = sizeClassOf(slotSize);
+        if (freeCounts[sizeClass] > 0) {
+            return freeLists[sizeClass][--freeCounts[sizeClass]];
+        }
+
+        int segmentIndex = openSegments[sizeClass];
+        if (segmentIndex < 0 || nextOffsets[sizeClass] + slotSize > segments[segmentIndex].capacity()) {
+            segmentIndex = addSegment(slotSize);
+            openSegments[sizeClass] = segmentIndex;
+            nextOffsets[sizeClass] = 0;
+        }
+        int offset = nextOffsets[sizeClass];
+        nextOffsets[sizeClass] += slotSize;
+        return handleOf(segmentIndex, offset);
+    }
+
+    private int addSegment(int slotSize) {
+        int segmentIndex = segments.length;
+        ByteBuffer[] newSegments = Arrays.copyOf(segments, segmentIndex + 1);
+        newSegments[segmentIndex] = ByteBuffer.allocateDirect(Math.max(SEGMENT_SIZE, slotSize));
+        segmentSlotSizes = Arrays.copyOf(segmentSlotSizes, segmentIndex + 1);
+        segmentSlotSizes[segmentIndex] = slotSize;
+        segments = newSegments;
+        return segmentIndex;
+    }
+
+    /**
+     * Returns the size of the smallest slot that fits a record of {@code length} bytes and its length.
+     */
+    static int slotSizeFor(int length) {
+        checkArgument(length <= (1 << 30) - LENGTH_BYTES, "Record too large: " + length + " bytes");
+        int size = Math.max(MIN_SLOT_SIZE, length + LENGTH_BYTES);
+        return Integer.highestOneBit(size - 1) << 1;
+    }
+
+    private static int sizeClassOf(int slotSize) {
+        return Integer.numberOfTrailingZeros(slotSize);
+    }
+
+    private static long handleOf(int segmentIndex, int offset) {
+        return (long) segmentIndex << Integer.SIZE | offset;
+    }
+
+    private static int segmentOf(long handle) {
+        return (int) (handle >>> Integer.SIZE);
+    }
+
+    private static int offsetOf(long handle) {
+        return (int) handle;
+    }
+}
@@ -0,0 +1,226 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+/**
+ * Tests a predicate against every item of a list, splitting large lists into chunks that are tested in parallel
+ * on a fork-join pool with one thread per core.
+ * The result is a bitmap of the indexes of the matching items. Each chunk covers whole 64-bit words of the bitmap,
+ * so chunks set their bits without any synchronization.
+ *
+ * The list must not be modified during a scan, and the predicate must be safe to test from several threads.
+ *
+ * Column scans with {@link #count(int, int, RangeCounter)} are split the same way, but into larger chunks, since
+ * reading a primitive array costs far less per row than testing a predicate against a person.
+ * Each chunk counts into its own array, and the arrays are added up as the chunks join.
+ */
+public class ParallelScan {
+
+    /** Number of items tested by one task; a multiple of 64, so that chunks never share a word of the bitmap. */
+    static final int CHUNK_SIZE = 4096;
+
+    /** Lists shorter than this are scanned on the calling thread, as forking would cost more than it saves. */
+    static final int PARALLEL_THRESHOLD = 4 * CHUNK_SIZE;
+
+    /** Number of rows counted by one task of a column scan. */
+    static final int COLUMN_CHUNK_SIZE = 64 * 1024;
+
+    private static final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    private ParallelScan() {}
+
+    /**
+     * Returns true if a list of {@code size} items would be scanned in parallel.
+     */
+    public static boolean isParallel(int size) {
+        return isParallel(size, pool);
+    }
+
+    private static boolean isParallel(int size, ForkJoinPool pool) {
+        return size >= PARALLEL_THRESHOLD && pool.getParallelism() > 1;
+    }
+
+    /**
+     * Returns the indexes of the items in {@code items} that satisfy {@code predicate}.
+     *
+     * @throws InterruptedException if the calling thread is interrupted before the scan completes, in which case
+     *     the remaining chunks are skipped.
+     */
+    public static <T> BitSet scan(List<? extends T> items, Predicate<? super T> predicate)
+            throws InterruptedException {
+        return scan(items, predicate, pool);
+    }
+
+    /**
+     * Returns the indexes of the items in {@code items} that satisfy {@code predicate}, using {@code pool} to scan
+     * large lists.
+     */
+    static <T> BitSet scan(List<? extends T> items, Predicate<? super T> predicate, ForkJoinPool pool)
+            throws InterruptedException {
+        requireAllNonNull(items, predicate, pool);
+        long[] words = new long[(items.size() + 63) >>> 6];
+        ScanTask<T> task = new ScanTask<>(items, predicate, words, 0, items.size());
+
+        if (!isParallel(items.size(), pool)) {
+            for (int from = 0; from < items.size(); from += CHUNK_SIZE) {
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+                task.scanRange(from, Math.min(from + CHUNK_SIZE, items.size()));
+            }
+        } else if (ForkJoinTask.inForkJoinPool()) {
+            task.invoke();
+        } else {
+            try {
+                pool.submit(task).get();
+            } catch (InterruptedException e) {
+                task.cancelled.set(true);
+                throw e;
+            } catch (ExecutionException e) {
+                throw unchecked(e.getCause());
+            }
+        }
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * Returns the counts added up by {@code counter} over the rows {@code [0, size)}, in an array of {@code width}
+     * counts. Large ranges are split into chunks that are counted in parallel.
+     */
+    public static long[] count(int size, int width, RangeCounter counter) {
+        return count(size, width, counter, pool);
+    }
+
+    /**
+     * Returns the counts added up by {@code counter} over the rows {@code [0, size)}, using {@code pool} to count
+     * large ranges.
+     */
+    static long[] count(int size, int width, RangeCounter counter, ForkJoinPool pool) {
+        requireAllNonNull(counter, pool);
+        if (size < 4 * COLUMN_CHUNK_SIZE || pool.getParallelism() <= 1) {
+            long[] counts = new long[width];
+            counter.count(0, size, counts);
+            return counts;
+        }
+        CountTask task = new CountTask(width, counter, 0, size);
+        return ForkJoinTask.inForkJoinPool() ? task.invoke() : pool.invoke(task);
+    }
+
+    /**
+     * Counts the rows in a range of columns. Must be safe to call from several threads for disjoint ranges.
+     */
+    @FunctionalInterface
+    public interface RangeCounter {
+        /**
+         * Adds the counts of the rows {@code [from, to)} to {@code counts}.
+         */
+        void count(int from, int to, long[] counts);
+    }
+
+    /**
+     * Returns {@code cause}, thrown by the predicate in a pool thread, as an unchecked exception to rethrow.
+     */
+    private static RuntimeException unchecked(Throwable cause) {
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return cause instanceof RuntimeException ? (RuntimeException) cause : new IllegalStateException(cause);
+    }
+
+    /**
+     * Sets the bits of the matching items in {@code [from, to)}, splitting the range in halves at word boundaries
+     * until it is at most one chunk.
+     */
+    private static class ScanTask<T> extends RecursiveAction {
+        private final List<? extends T> items;
+        private final Predicate<? super T> predicate;
+        private final long[] words;
+        private final int from;
+        private final int to;
+        /** Shared by all the tasks of one scan, so that they can stop once the scan has been abandoned. */
+        private final AtomicBoolean cancelled;
+
+        ScanTask(List<? extends T> items, Predicate<? super T> predicate, long[] words, int from, int to) {
+            this(items, predicate, words, from, to, new AtomicBoolean());
+        }
+
+        private ScanTask(List<? extends T> items, Predicate<? super T> predicate, long[] words, int from, int to,
+                AtomicBoolean cancelled) {
+            this.items = items;
+            this.predicate = predicate;
+            this.words = words;
+            this.from = from;
+            this.to = to;
+            this.cancelled = cancelled;
+        }
+
+        @Override
+        protected void compute() {
+            if (cancelled.get()) {
+                return;
+            }
+            if (to - from <= CHUNK_SIZE) {
+                scanRange(from, to);
+                return;
+            }
+
+            int middle = (from + (to - from) / 2) & ~63;
+            invokeAll(new ScanTask<>(items, predicate, words, from, middle, cancelled),
+                    new ScanTask<>(items, predicate, words, middle, to, cancelled));
+        }
+
+        void scanRange(int start, int end) {
+            for (int i = start; i < end; i++) {
+                if (predicate.test(items.get(i))) {
+                    words[i >>> 6] |= 1L << i;
+                }
+            }
+        }
+    }
+
+    /**
+     * Counts the rows in {@code [from, to)}, splitting the range in halves until it is at most one chunk.
+     */
+    private static class CountTask extends RecursiveTask<long[]> {
+        private final int width;
+        private final RangeCounter counter;
+        private final int from;
+        private final int to;
+
+        CountTask(int width, RangeCounter counter, int from, int to) {
+            this.width = width;
+            this.counter = counter;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from <= COLUMN_CHUNK_SIZE) {
+                long[] counts = new long[width];
+                counter.count(from, to, counts);
+                return counts;
+            }
+
+            int middle = from + (to - from) / 2;
+            CountTask second = new CountTask(width, counter, middle, to);
+            second.fork();
+            long[] counts = new CountTask(width, counter, from, middle).compute();
+            long[] secondCounts = second.join();
+            for (int i = 0; i < width; i++) {
+                counts[i] += secondCounts[i];
+            }
+            return counts;
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates realistic, valid persons with unique names, for load testing and benchmarks.
+ * Persons are generated one at a time as the iterator is advanced and nothing is kept between them,
+ * so any number of persons can be generated, e.g. to stream them to a file, in constant memory.
+ *
+ * The same {@link Settings} always generate the same persons in the same order.
+ *
+ * Names combine a first and a last name from fixed pools, in an order shuffled by the seed. Once every
+ * combination has been used, each further round adds a different middle initial, e.g. {@code Alex B Yeoh},
+ * which keeps the names unique. Phones, emails, addresses, tags and meetings are drawn at random.
+ */
+public class SyntheticPersonGenerator implements Iterator<Person> {
+
+    private static final String[] FIRST_NAMES = {
+        "Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Alice", "Benson", "Carl", "Daniel", "Elle",
+        "Fiona", "George", "Hoon", "Ida", "Jia", "Kumar", "Li", "Mei", "Nur", "Oliver", "Priya", "Qing", "Rachel",
+        "Siti", "Tom", "Umar", "Vera", "Wei", "Xavier", "Yan", "Zara", "Ahmad", "Bee", "Chloe", "Dinesh", "Emily",
+        "Farah", "Gabriel", "Hui", "Isaac", "Jun", "Kavya", "Lucas", "Min", "Nadia", "Omar", "Pei", "Ravi", "Sara"
+    };
+    private static final String[] LAST_NAMES = {
+        "Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Lau", "Quek", "Seah", "Foo", "Heng",
+        "Kaur", "Tan", "Lim", "Lee", "Ng", "Ong", "Wong", "Goh", "Chua", "Chan", "Koh", "Teo", "Ang", "Yap", "Toh",
+        "Low", "Sim", "Chong", "Ho", "Pillai", "Nair", "Singh", "Rahman", "Hassan", "Ismail", "Fernandez", "Cruz",
+        "Santos", "Reyes", "Smith", "Brown", "Wilson", "Taylor", "Martin", "Nguyen", "Tran", "Kim", "Park", "Sato"
+    };
+    private static final String[] STREETS = {
+        "Geylang Street 29", "Lorong 3 Serangoon Gardens", "Ang Mo Kio Street 74", "Serangoon Gardens Street 26",
+        "Tampines Street 20", "Aljunied Street 85", "Jurong West Ave 6", "Clementi Ave 2", "Bedok North Road",
+        "Yishun Ring Road", "Woodlands Drive 14", "Toa Payoh Lorong 1", "Bukit Batok Street 31", "Pasir Ris Drive 6",
+        "Hougang Ave 8", "Sengkang East Way", "Punggol Field", "Queenstown Road", "Marine Parade Central",
+        "Choa Chu Kang Ave 4"
+    };
+    private static final String[] EMAIL_DOMAINS = {
+        "example.com", "gmail.com", "yahoo.com.sg", "hotmail.com", "outlook.com", "singnet.com.sg"
+    };
+
+    /** Tags in decreasing order of popularity. */
+    private static final String[] TAGS = {
+        "life", "health", "friends", "family", "motor", "travel", "colleagues", "investment", "hospital",
+        "critical", "renewal", "referral", "priority", "retirement", "home", "personalAccident", "lapsed", "vip",
+        "neighbours", "classmates"
+    };
+
+    private static final DateTimeFormatter MEETING_FORMATTER = DateTimeFormatter.ofPattern("dd-MMM-yyyy HH:mm");
+    private static final int FIRST_MEETING_SLOT_MINUTES = 9 * 60;
+    private static final int MEETING_SLOT_MINUTES = 30;
+    private static final int MEETING_SLOTS_PER_DAY = 18;
+
+    private final Settings settings;
+    private final long count;
+    private final SplittableRandom random;
+    private final long nameCombinations = (long) FIRST_NAMES.length * LAST_NAMES.length;
+    private final long nameMultiplier;
+    private final long nameOffset;
+    private final double[] cumulativeTagWeights;
+    private long generated;
+
+    /**
+     * Creates a generator of {@code count} persons drawn according to {@code settings}.
+     */
+    public SyntheticPersonGenerator(long count, Settings settings) {
+        requireNonNull(settings);
+        checkArgument(count >= 0, "The number of persons must not be negative");
+        this.settings = settings;
+        this.count = count;
+        random = new SplittableRandom(settings.getSeed());
+        nameMultiplier = coprimeMultiplier(nameCombinations, random);
+        nameOffset = random.nextLong(nameCombinations);
+        cumulativeTagWeights = cumulativeZipfWeights(TAGS.length, settings.getTagSkew());
+    }
+
+    @Override
+    public boolean hasNext() {
+        return generated < count;
+    }
+
+    @Override
+    public Person next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        long index = generated++;
+        long round = index / nameCombinations;
+        int combination = (int) ((index % nameCombinations * nameMultiplier + nameOffset) % nameCombinations);
+        String firstName = FIRST_NAMES[combination % FIRST_NAMES.length];
+        String lastName = LAST_NAMES[combination / FIRST_NAMES.length];
+
+        String fullName = round == 0 ? firstName + " " + lastName
+                : firstName + " " + toLetters(round) + " " + lastName;
+        String emailLocalPart = (firstName + "." + lastName).toLowerCase(Locale.ROOT) + (round == 0 ? "" : round);
+        return new Person(new Name(fullName), new Phone(nextPhone()),
+                new Email(emailLocalPart + "@" + EMAIL_DOMAINS[random.nextInt(EMAIL_DOMAINS.length)]),
+                new Address(nextAddress()), nextTags(), new Appointment(nextMeeting()));
+    }
+
+    private String nextPhone() {
+        return (random.nextBoolean() ? "8" : "9") + String.format("%07d", random.nextInt(10_000_000));
+    }
+
+    private String nextAddress() {
+        return String.format("Blk %d %s, #%02d-%02d", 1 + random.nextInt(999), STREETS[random.nextInt(STREETS.length)],
+                2 + random.nextInt(30), 1 + random.nextInt(200));
+    }
+
+    private Set<Tag> nextTags() {
+        int tagCount = Math.min(nextPoisson(settings.getMeanTagCount()), TAGS.length);
+        Set<Tag> tags = new HashSet<>();
+        while (tags.size() < tagCount) {
+            tags.add(new Tag(TAGS[nextTagIndex()]));
+        }
+        return tags;
+    }
+
+    private String nextMeeting() {
+        if (random.nextDouble() >= settings.getMeetingRatio()) {
+            return "";
+        }
+        int slotMinutes = FIRST_MEETING_SLOT_MINUTES + MEETING_SLOT_MINUTES * random.nextInt(MEETING_SLOTS_PER_DAY);
+        LocalDateTime meetingTime = settings.getFirstMeetingDate()
+                .plusDays(random.nextInt(settings.getMeetingWindowDays()))
+                .atStartOfDay()
+                .plusMinutes(slotMinutes);
+        return meetingTime.format(MEETING_FORMATTER);
+    }
+
+    /**
+     * Draws from a Poisson distribution with the given mean, using Knuth's method.
+     */
+    private int nextPoisson(double mean) {
+        double limit = Math.exp(-mean);
+        double product = random.nextDouble();
+        int draws = 0;
+        while (product > limit) {
+            product *= random.nextDouble();
+            draws++;
+        }
+        return draws;
+    }
+
+    private int nextTagIndex() {
+        double draw = random.nextDouble() * cumulativeTagWeights[cumulativeTagWeights.length - 1];
+        for (int i = 0; i < cumulativeTagWeights.length; i++) {
+            if (draw < cumulativeTagWeights[i]) {
+                return i;
+            }
+        }
+        return cumulativeTagWeights.length - 1;
+    }
+
+    /**
+     * Returns the running totals of the weights {@code 1 / rank^skew} for ranks 1 to {@code size}.
+     */
+    private static double[] cumulativeZipfWeights(int size, double skew) {
+        double[] cumulativeWeights = new double[size];
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            total += 1 / Math.pow(i + 1, skew);
+            cumulativeWeights[i] = total;
+        }
+        return cumulativeWeights;
+    }
+
+    /**
+     * Returns a random multiplier that has no common factor with {@code modulus}, so that multiplying by it
+     * modulo {@code modulus} permutes the numbers below {@code modulus}.
+     */
+    private static long coprimeMultiplier(long modulus, SplittableRandom random) {
+        long multiplier = 1 + random.nextLong(modulus - 1);
+        while (gcd(multiplier, modulus) != 1) {
+            multiplier++;
+        }
+        return multiplier;
+    }
+
+    private static long gcd(long a, long b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    /**
+     * Returns {@code number} in bijective base 26 with the letters A to Z, e.g. A for 1, Z for 26 and AA for 27.
+     */
+    static String toLetters(long number) {
+        StringBuilder letters = new StringBuilder();
+        for (long remaining = number; remaining > 0; remaining = (remaining - 1) / 26) {
+            letters.append((char) ('A' + (remaining - 1) % 26));
+        }
+        return letters.reverse().toString();
+    }
+
+    /**
+     * The seed and the distributions that persons are generated from.
+     */
+    public static class Settings {
+        private long seed = 42;
+        private double meanTagCount = 1.5;
+        private double tagSkew = 1.0;
+        private double meetingRatio = 0.3;
+        private LocalDate firstMeetingDate = LocalDate.of(2022, 1, 3);
+        private int meetingWindowDays = 90;
+
+        public long getSeed() {
+            return seed;
+        }
+
+        public void setSeed(long seed) {
+            this.seed = seed;
+        }
+
+        /**
+         * Returns the mean number of tags per person. The number of tags follows a Poisson distribution.
+         */
+        public double getMeanTagCount() {
+            return meanTagCount;
+        }
+
+        public void setMeanTagCount(double meanTagCount) {
+            checkArgument(meanTagCount >= 0, "The mean number of tags must not be negative");
+            this.meanTagCount = meanTagCount;
+        }
+
+        /**
+         * Returns the exponent of the Zipf distribution that tags are drawn from.
+         * At 0 every tag is equally popular; the larger it is, the more the popular tags dominate.
+         */
+        public double getTagSkew() {
+            return tagSkew;
+        }
+
+        public void setTagSkew(double tagSkew) {
+            checkArgument(tagSkew >= 0, "The tag skew must not be negative");
+            this.tagSkew = tagSkew;
+        }
+
+        /**
+         * Returns the fraction of persons that have a meeting scheduled.
+         */
+        public double getMeetingRatio() {
+            return meetingRatio;
+        }
+
+        public void setMeetingRatio(double meetingRatio) {
+            checkArgument(meetingRatio >= 0 && meetingRatio <= 1, "The meeting ratio must be between 0 and 1");
+            this.meetingRatio = meetingRatio;
+        }
+
+        /**
+         * Returns the first day on which meetings are scheduled.
+         * Meetings are spread evenly over the {@link #getMeetingWindowDays()} days starting on that day,
+         * in half-hour slots during office hours.
+         */
+        public LocalDate getFirstMeetingDate() {
+            return firstMeetingDate;
+        }
+
+        public void setFirstMeetingDate(LocalDate firstMeetingDate) {
+            requireNonNull(firstMeetingDate);
+            this.firstMeetingDate = firstMeetingDate;
+        }
+
+        public int getMeetingWindowDays() {
+            return meetingWindowDays;
+        }
+
+        public void setMeetingWindowDays(int meetingWindowDays) {
+            checkArgument(meetingWindowDays > 0, "The meeting window must be at least one day");
+            this.meetingWindowDays = meetingWindowDays;
+        }
+    }
+}
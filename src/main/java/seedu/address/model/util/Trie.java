@@ -0,0 +1,258 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A set of strings that can list its strings starting with a given prefix, ignoring case.
+ * The same string may be added several times; it stays in the trie until it has been removed as many times.
+ * Strings that differ only in case are treated as the same string, and are listed as the first one added.
+ *
+ * The trie is a radix tree: each edge is labelled with a slice of one of the added strings, and nodes are only
+ * kept where strings end or branch. Edge labels refer to the added strings instead of copying them.
+ * Lookups walk down the prefix and then visit only as many nodes as needed for the requested number of results,
+ * so they take the same time however many strings the trie holds.
+ *
+ * Not thread-safe; concurrent lookups are safe only while no string is being added or removed.
+ */
+public class Trie {
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final Node root = new Node("", 0, 0);
+    private int size;
+
+    /**
+     * Adds {@code string} to the trie.
+     */
+    public void add(String string) {
+        requireNonNull(string);
+        Node node = root;
+        int depth = 0;
+        while (depth < string.length()) {
+            int childIndex = node.indexOfChild(fold(string.charAt(depth)));
+            if (childIndex < 0) {
+                Node leaf = new Node(string, depth, string.length());
+                node.insertChild(-childIndex - 1, leaf);
+                node = leaf;
+                break;
+            }
+
+            Node child = node.children[childIndex];
+            int matched = child.matchLength(string, depth);
+            if (matched < child.labelLength()) {
+                child = child.splitAt(matched);
+                node.children[childIndex] = child;
+            }
+            node = child;
+            depth += matched;
+        }
+
+        if (node.count++ == 0) {
+            node.string = string;
+            size++;
+        }
+    }
+
+    /**
+     * Removes one occurrence of {@code string} from the trie.
+     *
+     * @return true if the trie contained {@code string}.
+     */
+    public boolean remove(String string) {
+        requireNonNull(string);
+        return removeFrom(root, string, 0);
+    }
+
+    /**
+     * Returns true if the trie contains {@code string}, ignoring case.
+     */
+    public boolean contains(String string) {
+        requireNonNull(string);
+        Node node = root;
+        int depth = 0;
+        while (depth < string.length()) {
+            int childIndex = node.indexOfChild(fold(string.charAt(depth)));
+            if (childIndex < 0) {
+                return false;
+            }
+            node = node.children[childIndex];
+            if (node.matchLength(string, depth) < node.labelLength()) {
+                return false;
+            }
+            depth = node.end;
+        }
+        return node.count > 0;
+    }
+
+    /**
+     * Returns up to {@code limit} distinct strings in the trie that start with {@code prefix}, ignoring case,
+     * in case-insensitive alphabetical order.
+     */
+    public List<String> findStartingWith(String prefix, int limit) {
+        requireNonNull(prefix);
+        List<String> results = new ArrayList<>();
+        Node node = root;
+        int depth = 0;
+        while (depth < prefix.length()) {
+            int childIndex = node.indexOfChild(fold(prefix.charAt(depth)));
+            if (childIndex < 0) {
+                return results;
+            }
+            node = node.children[childIndex];
+            int matched = node.matchLength(prefix, depth);
+            if (matched < node.labelLength() && depth + matched < prefix.length()) {
+                return results;
+            }
+            depth += matched;
+        }
+
+        collect(node, limit, results);
+        return results;
+    }
+
+    /**
+     * Returns the number of distinct strings in the trie.
+     */
+    public int size() {
+        return size;
+    }
+
+    private boolean removeFrom(Node node, String string, int depth) {
+        if (depth == string.length()) {
+            if (node.count == 0) {
+                return false;
+            }
+            if (--node.count == 0) {
+                node.string = null;
+                size--;
+            }
+            return true;
+        }
+
+        int childIndex = node.indexOfChild(fold(string.charAt(depth)));
+        if (childIndex < 0) {
+            return false;
+        }
+        Node child = node.children[childIndex];
+        if (child.matchLength(string, depth) < child.labelLength() || !removeFrom(child, string, child.end)) {
+            return false;
+        }
+
+        // Keep the tree compact: drop unused leaves and merge unused nodes with their only child.
+        if (child.count == 0 && child.children.length == 0) {
+            node.removeChild(childIndex);
+        } else if (child.count == 0 && child.children.length == 1) {
+            Node grandchild = child.children[0];
+            grandchild.start = child.start;
+            node.children[childIndex] = grandchild;
+        }
+        return true;
+    }
+
+    private static void collect(Node node, int limit, List<String> results) {
+        if (results.size() >= limit) {
+            return;
+        }
+        if (node.count > 0) {
+            results.add(node.string);
+        }
+        for (Node child : node.children) {
+            collect(child, limit, results);
+            if (results.size() >= limit) {
+                return;
+            }
+        }
+    }
+
+    private static char fold(char c) {
+        return Character.toLowerCase(c);
+    }
+
+    /**
+     * A node of the trie, reached through an edge labelled {@code source[start, end)}.
+     * Since a label is a slice of a string that passes through the node, {@code end} is also the number of
+     * characters from the root to this node.
+     */
+    private static class Node {
+        private final String source;
+        private int start;
+        private final int end;
+        /** Children, sorted by the folded first character of their labels. */
+        private Node[] children = NO_CHILDREN;
+        /** The string ending at this node, or null if there is none. */
+        private String string;
+        private int count;
+
+        Node(String source, int start, int end) {
+            this.source = source;
+            this.start = start;
+            this.end = end;
+        }
+
+        int labelLength() {
+            return end - start;
+        }
+
+        /**
+         * Returns the number of leading characters of the label that match {@code string} from {@code depth}.
+         */
+        int matchLength(String string, int depth) {
+            int length = Math.min(labelLength(), string.length() - depth);
+            int matched = 0;
+            while (matched < length && fold(source.charAt(start + matched)) == fold(string.charAt(depth + matched))) {
+                matched++;
+            }
+            return matched;
+        }
+
+        /**
+         * Splits the label of this node after {@code length} characters, and returns the new parent node.
+         */
+        Node splitAt(int length) {
+            Node parent = new Node(source, start, start + length);
+            start += length;
+            parent.children = new Node[] {this};
+            return parent;
+        }
+
+        /**
+         * Returns the index of the child whose label starts with {@code c},
+         * or {@code -(insertion point) - 1} if there is none.
+         */
+        int indexOfChild(char c) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                Node child = children[middle];
+                char first = fold(child.source.charAt(child.start));
+                if (first < c) {
+                    low = middle + 1;
+                } else if (first > c) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -low - 1;
+        }
+
+        void insertChild(int index, Node child) {
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(children, 0, newChildren, 0, index);
+            newChildren[index] = child;
+            System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+            children = newChildren;
+        }
+
+        void removeChild(int index) {
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            children = newChildren;
+        }
+    }
+}
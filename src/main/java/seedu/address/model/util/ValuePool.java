@@ -0,0 +1,41 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Shares one instance among equal immutable values, like {@link String#intern()} does for strings.
+ * Values that occur in many persons, such as tags and appointments, are pooled so that each distinct value is
+ * kept in memory once instead of once per person.
+ *
+ * The pool only refers to its values weakly, so a value that is no longer used anywhere else is garbage collected
+ * and drops out of the pool. The values must have consistent {@code equals} and {@code hashCode} methods.
+ */
+public class ValuePool<T> {
+
+    private final Map<T, WeakReference<T>> values = new WeakHashMap<>();
+
+    /**
+     * Returns the pooled instance equal to {@code value}, adding {@code value} to the pool if there is none.
+     */
+    public synchronized T intern(T value) {
+        requireNonNull(value);
+        WeakReference<T> pooledReference = values.get(value);
+        T pooled = pooledReference == null ? null : pooledReference.get();
+        if (pooled != null) {
+            return pooled;
+        }
+        values.put(value, new WeakReference<>(value));
+        return value;
+    }
+
+    /**
+     * Returns the number of values in the pool, including any that are about to be collected.
+     */
+    synchronized int size() {
+        return values.size();
+    }
+}
@@ -0,0 +1,273 @@
+package seedu.address.server;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAdaptedPerson;
+
+/**
+ * A local HTTP server that exposes the command engine as a JSON API.
+ * <ul>
+ *     <li>{@code POST /api/commands} with a body such as {@code {"command": "list"}} executes the command
+ *     and returns its feedback.</li>
+ *     <li>{@code GET /api/persons} returns every person in the address book.
+ *     {@code GET /api/persons?name=KEYWORDS} returns only the persons whose name contains any of the keywords,
+ *     without changing the filtered person list.</li>
+ * </ul>
+ * The server only listens on the loopback address. Requests are handled by a bounded pool of worker threads.
+ * Commands are executed one at a time while holding the write lock. Queries read the model's published person
+ * snapshot instead, so they are never blocked by a command and never observe a partially executed one.
+ */
+public class ApiServer {
+
+    public static final String COMMANDS_PATH = "/api/commands";
+    public static final String PERSONS_PATH = "/api/persons";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "Method not allowed: %1$s";
+    public static final String MESSAGE_INVALID_REQUEST = "Request body should be of the form {\"command\": \"...\"}";
+    public static final String MESSAGE_INTERNAL_ERROR = "Internal server error";
+
+    public static final int DEFAULT_THREAD_COUNT = 4;
+    public static final int DEFAULT_QUEUE_CAPACITY = 256;
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+
+    private static final String METHOD_GET = "GET";
+    private static final String METHOD_POST = "POST";
+    private static final String NAME_QUERY_PARAMETER = "name=";
+    private static final String CONTENT_TYPE = "application/json; charset=utf-8";
+    private static final int STOP_DELAY_IN_SECONDS = 1;
+
+    private final Logic logic;
+    private final HttpServer httpServer;
+    private final ThreadPoolExecutor executor;
+    private final Lock writeLock = new ReentrantLock();
+
+    /**
+     * Creates an {@code ApiServer} for {@code logic} on the loopback {@code port}.
+     * A {@code port} of 0 picks any free port.
+     * Requests beyond {@code threadCount} busy workers and {@code queueCapacity} waiting requests
+     * are handled on the accepting thread, which stops new connections from being accepted until a worker frees up.
+     *
+     * @throws IOException if the port could not be bound.
+     */
+    public ApiServer(Logic logic, int port, int threadCount, int queueCapacity) throws IOException {
+        requireNonNull(logic);
+        this.logic = logic;
+
+        executor = new ThreadPoolExecutor(threadCount, threadCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new ThreadPoolExecutor.CallerRunsPolicy());
+        httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        httpServer.setExecutor(executor);
+        httpServer.createContext(COMMANDS_PATH, this::handleCommand);
+        httpServer.createContext(PERSONS_PATH, this::handlePersons);
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        httpServer.start();
+        logger.info("API server listening on " + httpServer.getAddress());
+    }
+
+    /**
+     * Stops accepting requests and waits briefly for the requests in progress to complete.
+     */
+    public void stop() {
+        httpServer.stop(STOP_DELAY_IN_SECONDS);
+        executor.shutdown();
+        try {
+            executor.awaitTermination(STOP_DELAY_IN_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.info("API server stopped");
+    }
+
+    /**
+     * Returns the port that the server is bound to.
+     */
+    public int getPort() {
+        return httpServer.getAddress().getPort();
+    }
+
+    /**
+     * Executes {@code commandText} while holding the write lock.
+     */
+    CommandResult executeCommand(String commandText) throws CommandException, ParseException {
+        writeLock.lock();
+        try {
+            return logic.execute(commandText);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the persons in the latest person snapshot that match {@code predicate}.
+     */
+    List<JsonAdaptedPerson> findPersons(Predicate<Person> predicate) {
+        return logic.getPersonSnapshot().stream()
+                .filter(predicate)
+                .map(JsonAdaptedPerson::new)
+                .collect(Collectors.toList());
+    }
+
+    private void handleCommand(HttpExchange exchange) throws IOException {
+        try {
+            if (!METHOD_POST.equals(exchange.getRequestMethod())) {
+                sendMethodNotAllowed(exchange);
+                return;
+            }
+
+            CommandRequest request;
+            try {
+                String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+                request = JsonUtil.fromJsonString(body, CommandRequest.class);
+            } catch (IOException e) {
+                sendJson(exchange, 400, new ErrorResponse(MESSAGE_INVALID_REQUEST));
+                return;
+            }
+            if (request == null || request.command == null) {
+                sendJson(exchange, 400, new ErrorResponse(MESSAGE_INVALID_REQUEST));
+                return;
+            }
+
+            try {
+                sendJson(exchange, 200, new CommandResponse(executeCommand(request.command)));
+            } catch (CommandException | ParseException e) {
+                sendJson(exchange, 400, new ErrorResponse(e.getMessage()));
+            }
+        } catch (RuntimeException e) {
+            logger.warning("Failed to handle " + exchange.getRequestURI() + ": " + StringUtil.getDetails(e));
+            sendJson(exchange, 500, new ErrorResponse(MESSAGE_INTERNAL_ERROR));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handlePersons(HttpExchange exchange) throws IOException {
+        try {
+            if (!METHOD_GET.equals(exchange.getRequestMethod())) {
+                sendMethodNotAllowed(exchange);
+                return;
+            }
+
+            List<String> keywords = parseNameKeywords(exchange.getRequestURI().getRawQuery());
+            Predicate<Person> predicate = keywords.isEmpty()
+                    ? Model.PREDICATE_SHOW_ALL_PERSONS
+                    : new NameContainsKeywordsPredicate(keywords);
+            sendJson(exchange, 200, new PersonsResponse(findPersons(predicate)));
+        } catch (RuntimeException e) {
+            logger.warning("Failed to handle " + exchange.getRequestURI() + ": " + StringUtil.getDetails(e));
+            sendJson(exchange, 500, new ErrorResponse(MESSAGE_INTERNAL_ERROR));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Returns the keywords of the {@code name} parameter in {@code rawQuery}, or an empty list if there are none.
+     */
+    static List<String> parseNameKeywords(String rawQuery) {
+        if (rawQuery == null) {
+            return List.of();
+        }
+
+        for (String parameter : rawQuery.split("&")) {
+            if (parameter.startsWith(NAME_QUERY_PARAMETER)) {
+                String value = URLDecoder.decode(parameter.substring(NAME_QUERY_PARAMETER.length()),
+                        StandardCharsets.UTF_8).trim();
+                return value.isEmpty() ? List.of() : Arrays.asList(value.split("\\s+"));
+            }
+        }
+        return List.of();
+    }
+
+    private void sendMethodNotAllowed(HttpExchange exchange) throws IOException {
+        sendJson(exchange, 405,
+                new ErrorResponse(String.format(MESSAGE_METHOD_NOT_ALLOWED, exchange.getRequestMethod())));
+    }
+
+    private void sendJson(HttpExchange exchange, int statusCode, Object response) throws IOException {
+        byte[] body = JsonUtil.toJsonString(response).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        exchange.sendResponseHeaders(statusCode, body.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(body);
+        }
+    }
+
+    /**
+     * Body of a {@code POST /api/commands} request.
+     */
+    private static class CommandRequest {
+        private String command;
+    }
+
+    /**
+     * Body of a successful {@code POST /api/commands} response.
+     */
+    private static class CommandResponse {
+        private final String feedback;
+        private final boolean showHelp;
+        private final boolean exit;
+
+        CommandResponse(CommandResult commandResult) {
+            feedback = commandResult.getFeedbackToUser();
+            showHelp = commandResult.isShowHelp();
+            exit = commandResult.isExit();
+        }
+    }
+
+    /**
+     * Body of a {@code GET /api/persons} response.
+     */
+    private static class PersonsResponse {
+        private final List<JsonAdaptedPerson> persons;
+
+        PersonsResponse(List<JsonAdaptedPerson> persons) {
+            this.persons = persons;
+        }
+    }
+
+    /**
+     * Body of a failed request.
+     */
+    private static class ErrorResponse {
+        private final String error;
+
+        ErrorResponse(String error) {
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.PersonArchive;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Keeps archived persons in a gzip-compressed file next to the address book's data file.
+ *
+ * Each person is written as the length and bytes of its key and then of its record, as in a
+ * {@link BTreeAddressBookStorage}. Persons are appended as a new gzip member, without reading the file; gzip
+ * readers read the members of a file one after the other, as a single stream.
+ *
+ * The names of the archived persons are also kept in a small text file next to the archive, one per line, so that a
+ * name can be checked against the archive without reading it. Names are appended to it before the persons are
+ * appended to the archive, and it is rewritten after the archive is, so that a failure in between leaves extra names
+ * in it rather than missing ones. Whenever the archive is read, the names file is rewritten to match it, which also
+ * rebuilds it if it is missing; until then, names are read from the archive instead.
+ */
+public class ArchiveFile implements PersonArchive.Segment {
+
+    /** Ending of the name of an archive file, in place of the ending of the address book's data file. */
+    public static final String FILE_ENDING = ".archive.gz";
+
+    /** Ending added to the name of an archive file to give the name of its names file. */
+    public static final String NAMES_FILE_ENDING = ".names";
+
+    private static final Logger logger = LogsCenter.getLogger(ArchiveFile.class);
+
+    private final Path filePath;
+    private final Path namesFilePath;
+
+    public ArchiveFile(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        namesFilePath = filePath.resolveSibling(filePath.getFileName() + NAMES_FILE_ENDING);
+    }
+
+    /**
+     * Returns the path of the archive of the address book at {@code addressBookFilePath}: in the same folder, with
+     * the extension, if any, replaced by {@link #FILE_ENDING}.
+     */
+    public static Path getArchiveFilePath(Path addressBookFilePath) {
+        String fileName = addressBookFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return addressBookFilePath.resolveSibling(baseName + FILE_ENDING);
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    public Path getNamesFilePath() {
+        return namesFilePath;
+    }
+
+    @Override
+    public List<Person> read() throws IOException {
+        List<Person> persons = readPersons();
+        if (Files.exists(filePath)) {
+            writeNames(persons);
+        } else {
+            Files.deleteIfExists(namesFilePath);
+        }
+        return persons;
+    }
+
+    @Override
+    public List<Name> readNames() throws IOException {
+        if (!Files.exists(namesFilePath)) {
+            return read().stream().map(Person::getName).collect(Collectors.toList());
+        }
+
+        String content = Files.readString(namesFilePath, StandardCharsets.UTF_8);
+        List<Name> names = new ArrayList<>();
+        // A last line without its line break was cut short while being appended, so it is not a whole name.
+        String[] lines = content.substring(0, content.lastIndexOf('\n') + 1).split("\n");
+        for (String line : lines) {
+            if (Name.isValidName(line)) {
+                names.add(new Name(line));
+            }
+        }
+        return names;
+    }
+
+    @Override
+    public void append(List<Person> persons) throws IOException {
+        requireNonNull(persons);
+        if (filePath.getParent() != null) {
+            Files.createDirectories(filePath.getParent());
+        }
+        // A missing names file is left to be rebuilt from the archive when it is next needed.
+        if (Files.exists(namesFilePath) || !Files.exists(filePath)) {
+            // Starts on a line of its own, in case the last append was cut short in the middle of a name.
+            Files.writeString(namesFilePath, "\n" + toNameLines(persons), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+        try (OutputStream out = Files.newOutputStream(filePath, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND)) {
+            writePersons(persons, out);
+        }
+    }
+
+    @Override
+    public void write(List<Person> persons) throws IOException {
+        requireNonNull(persons);
+        if (filePath.getParent() != null) {
+            Files.createDirectories(filePath.getParent());
+        }
+        // Written next to the file and moved over it, so that a failed write leaves the old archive.
+        Path newFilePath = filePath.resolveSibling(filePath.getFileName() + ".new");
+        try (OutputStream out = Files.newOutputStream(newFilePath)) {
+            writePersons(persons, out);
+        }
+        Files.move(newFilePath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        writeNames(persons);
+    }
+
+    private List<Person> readPersons() throws IOException {
+        List<Person> persons = new ArrayList<>();
+        if (!Files.exists(filePath)) {
+            return persons;
+        }
+
+        logger.info("Reading the archive " + filePath);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(filePath))))) {
+            while (true) {
+                int keyLength;
+                try {
+                    keyLength = in.readInt();
+                } catch (EOFException e) {
+                    return persons;
+                }
+                if (keyLength < 0) {
+                    throw new IOException("Damaged archive");
+                }
+                byte[] key = in.readNBytes(keyLength);
+                int recordLength = in.readInt();
+                if (recordLength < 0) {
+                    throw new IOException("Damaged archive");
+                }
+                byte[] record = in.readNBytes(recordLength);
+                if (key.length != keyLength || record.length != recordLength) {
+                    throw new EOFException("Archive ends in the middle of a person");
+                }
+                persons.add(PersonRecords.toPerson(key, record));
+            }
+        } catch (IllegalValueException ive) {
+            throw new IOException("Archived person not valid: " + ive.getMessage(), ive);
+        }
+    }
+
+    /**
+     * Replaces the names file with the names of {@code persons}, the persons in the archive.
+     */
+    private void writeNames(List<Person> persons) throws IOException {
+        if (namesFilePath.getParent() != null) {
+            Files.createDirectories(namesFilePath.getParent());
+        }
+        Path newFilePath = namesFilePath.resolveSibling(namesFilePath.getFileName() + ".new");
+        Files.writeString(newFilePath, toNameLines(persons), StandardCharsets.UTF_8);
+        Files.move(newFilePath, namesFilePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static String toNameLines(List<Person> persons) {
+        StringBuilder lines = new StringBuilder();
+        persons.forEach(person -> lines.append(person.getName().fullName).append('\n'));
+        return lines.toString();
+    }
+
+    /**
+     * Writes {@code persons} to {@code out} as one gzip member.
+     */
+    private static void writePersons(List<Person> persons, OutputStream out) throws IOException {
+        GZIPOutputStream gzip = new GZIPOutputStream(out);
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(gzip));
+        for (Person person : persons) {
+            byte[] key = PersonRecords.toKey(person.getName().fullName);
+            byte[] record = PersonRecords.toRecord(new JsonAdaptedPerson(person));
+            data.writeInt(key.length);
+            data.write(key);
+            data.writeInt(record.length);
+            data.write(record);
+        }
+        data.flush();
+        gzip.finish();
+    }
+}
@@ -0,0 +1,439 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.jfr.AddressBookLoadEvent;
+import seedu.address.commons.core.jfr.AddressBookSaveEvent;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.storage.btree.BTree;
+import seedu.address.storage.btree.PageFormatException;
+import seedu.address.storage.btree.PageStore;
+
+/**
+ * A class to access AddressBook data stored in a page file on the hard disk, which is read and written a page at a
+ * time through a cache of a bounded size rather than as a whole.
+ *
+ * Persons are kept in a B+tree keyed by name, the identity of a client. This is only a storage format: the whole
+ * address book is still read into memory, as the model holds every person, and queries run on the model rather than
+ * on the file.
+ *
+ * The file stays open between saves. The first save of an address book compares it with the persons last read or
+ * saved, skipping those that are still the same objects without even converting them; from then on, the storage
+ * follows the changes to the address book's person list, and each save commits only the persons changed since the
+ * previous one, by looking up their records in the file. Either way, only the pages that hold the changed persons
+ * are written. Persons are read in the order of their names.
+ */
+public class BTreeAddressBookStorage implements AddressBookStorage, Closeable {
+
+    /** Extension of the data files that are kept in this format rather than as JSON. */
+    public static final String FILE_EXTENSION = ".db";
+
+    private static final int PERSONS_TREE = 0;
+
+    private static final Logger logger = LogsCenter.getLogger(BTreeAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int cachedPages;
+
+    /** The file that is open, or null if none is. */
+    private Session session;
+
+    public BTreeAddressBookStorage(Path filePath) {
+        this(filePath, PageStore.DEFAULT_CACHED_PAGES);
+    }
+
+    /**
+     * Creates a {@code BTreeAddressBookStorage} for the file at {@code filePath} that caches up to
+     * {@code cachedPages} pages of {@link PageStore#PAGE_SIZE} bytes of it in memory.
+     */
+    public BTreeAddressBookStorage(Path filePath, int cachedPages) {
+        requireNonNull(filePath);
+        checkArgument(cachedPages > 0, "At least one page must be cached");
+        this.filePath = filePath;
+        this.cachedPages = cachedPages;
+    }
+
+    /**
+     * Returns whether the data file at {@code filePath} is kept in this format, going by its extension.
+     */
+    public static boolean isBTreeFile(Path filePath) {
+        return filePath.toString().endsWith(FILE_EXTENSION);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        AddressBookLoadEvent event = new AddressBookLoadEvent();
+        event.begin();
+        int recordCount = 0;
+        try {
+            closeSession();
+            session = Session.open(filePath, cachedPages);
+            List<Person> persons = session.loadPersons();
+            recordCount = persons.size();
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+            return Optional.of(addressBook);
+        } catch (PageFormatException | IllegalValueException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            closeSession();
+            throw new DataConversionException(e);
+        } finally {
+            JsonAddressBookStorage.commitIoEvent(event, filePath, recordCount);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        AddressBookSaveEvent event = new AddressBookSaveEvent();
+        event.begin();
+        try {
+            Session current = openSession(filePath);
+            long pagesWrittenBefore = current.store.getPagesWritten();
+            int changedCount = current.save(addressBook.getPersonList());
+            current.store.flush();
+            logger.fine(() -> "Saved " + changedCount + " changed persons to " + filePath + " in "
+                    + (current.store.getPagesWritten() - pagesWrittenBefore) + " pages");
+        } catch (IOException | RuntimeException e) {
+            // The changes written so far are dropped rather than flushed, as they may leave the trees inconsistent,
+            // and the persons last saved are read again by the next save.
+            discardSession();
+            throw e;
+        } finally {
+            JsonAddressBookStorage.commitIoEvent(event, filePath, addressBook.getPersonList().size());
+        }
+    }
+
+    /**
+     * Saves {@code persons} to a new data file at {@code filePath}, replacing any file there, in the same format as
+     * {@link #saveAddressBook(ReadOnlyAddressBook)}. Each person is written as soon as it is read from the
+     * iterator, and nothing but the cached pages is kept in memory, so that books too large to hold in memory,
+     * such as generated test data, can be written.
+     *
+     * @param persons persons with unique names. Cannot be null.
+     * @param filePath location of the data. Cannot be null.
+     * @return the number of persons written.
+     */
+    public static long savePersons(Iterator<? extends Person> persons, Path filePath) throws IOException {
+        requireNonNull(persons);
+        requireNonNull(filePath);
+
+        AddressBookSaveEvent event = new AddressBookSaveEvent();
+        event.begin();
+        long count = 0;
+        try {
+            FileUtil.createParentDirsOfFile(filePath);
+            Files.deleteIfExists(filePath);
+            Session newSession = Session.open(filePath, PageStore.DEFAULT_CACHED_PAGES);
+            try {
+                while (persons.hasNext()) {
+                    Person person = persons.next();
+                    newSession.write(person.getName().fullName, PersonRecords.toRecord(new JsonAdaptedPerson(person)));
+                    count++;
+                }
+            } finally {
+                newSession.close();
+            }
+            return count;
+        } finally {
+            JsonAddressBookStorage.commitIoEvent(event, filePath, (int) Math.min(count, Integer.MAX_VALUE));
+        }
+    }
+
+    /**
+     * Closes the data file, if it is open. It is opened again when it is next used.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        closeSession();
+    }
+
+    /**
+     * Returns the number of pages written to the open data file since it was opened, or 0 if none is open.
+     */
+    synchronized long getPagesWritten() {
+        return session == null ? 0 : session.store.getPagesWritten();
+    }
+
+    /**
+     * Returns the session of the file at {@code filePath}, opening the file if another file or none is open.
+     */
+    private Session openSession(Path filePath) throws IOException {
+        if (session != null && session.filePath.equals(filePath)) {
+            return session;
+        }
+        closeSession();
+        FileUtil.createParentDirsOfFile(filePath);
+        session = Session.open(filePath, cachedPages);
+        return session;
+    }
+
+    private void closeSession() throws IOException {
+        if (session == null) {
+            return;
+        }
+        Session closedSession = session;
+        session = null;
+        closedSession.close();
+    }
+
+    private void discardSession() throws IOException {
+        if (session == null) {
+            return;
+        }
+        Session discardedSession = session;
+        session = null;
+        discardedSession.discard();
+    }
+
+    /**
+     * An open data file and its trees, with either the persons last read from or saved to it, or the changes to
+     * the address book that was last saved to it.
+     */
+    private static class Session implements ListChangeListener<Person> {
+        private final PageStore store;
+        private final Path filePath;
+        private final BTree personTree;
+
+        /** The persons last read or saved, by name, or null if they are not known, e.g. while following changes. */
+        private Map<String, Person> savedPersons;
+        /** The person list whose changes are followed, or null if none is. */
+        private ObservableList<Person> trackedPersons;
+        /** The persons changed in the followed list since it was last saved, by name; null if removed. */
+        private final Map<String, Person> changedPersons = new HashMap<>();
+
+        private Session(PageStore store, Path filePath) {
+            this.store = store;
+            this.filePath = filePath;
+            this.personTree = new BTree(store, PERSONS_TREE);
+        }
+
+        /**
+         * Opens the data file at {@code filePath}, creating it if there is none.
+         */
+        static Session open(Path filePath, int cachedPages) throws IOException {
+            return new Session(PageStore.open(filePath, cachedPages), filePath);
+        }
+
+        /**
+         * Reads and returns every person in the file, and remembers them as the persons last saved.
+         *
+         * @throws IllegalValueException if a person is invalid.
+         */
+        List<Person> loadPersons() throws IOException, IllegalValueException {
+            List<Person> persons = new ArrayList<>();
+            IllegalValueException[] invalidValue = new IllegalValueException[1];
+            personTree.scan(null, null, (key, record) -> {
+                try {
+                    persons.add(PersonRecords.toPerson(key, record));
+                    return true;
+                } catch (IllegalValueException e) {
+                    invalidValue[0] = e;
+                    return false;
+                }
+            });
+            if (invalidValue[0] != null) {
+                throw invalidValue[0];
+            }
+            stopTracking();
+            savedPersons = new HashMap<>();
+            persons.forEach(person -> savedPersons.put(person.getName().fullName, person));
+            return persons;
+        }
+
+        /**
+         * Saves {@code persons}: only their changes since the last save if they are the list that was last saved,
+         * or else the persons that differ from the persons last saved. Either way, the changes to {@code persons}
+         * are followed from then on.
+         *
+         * @return the number of persons written or deleted.
+         */
+        int save(ObservableList<Person> persons) throws IOException {
+            if (persons == trackedPersons) {
+                return saveChanges();
+            }
+            if (savedPersons == null) {
+                try {
+                    loadPersons();
+                } catch (IllegalValueException e) {
+                    throw new IOException("Cannot update " + filePath + ", which holds an invalid person", e);
+                }
+            }
+            // Follow the changes before comparing, so that none is missed; saving one twice does no harm.
+            trackedPersons = persons;
+            persons.addListener(this);
+            int changedCount = saveDifferences(persons);
+            savedPersons = null;
+            return changedCount;
+        }
+
+        @Override
+        public void onChanged(Change<? extends Person> change) {
+            synchronized (changedPersons) {
+                while (change.next()) {
+                    // The order of the persons is not kept, and persons are not changed in place.
+                    for (Person person : change.getRemoved()) {
+                        changedPersons.put(person.getName().fullName, null);
+                    }
+                    for (Person person : change.getAddedSubList()) {
+                        changedPersons.put(person.getName().fullName, person);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Writes the persons changed since the last save, comparing them with their records in the file.
+         */
+        private int saveChanges() throws IOException {
+            Map<String, Person> changes;
+            synchronized (changedPersons) {
+                changes = new HashMap<>(changedPersons);
+                changedPersons.clear();
+            }
+
+            int changedCount = 0;
+            for (Map.Entry<String, Person> change : changes.entrySet()) {
+                byte[] oldRecord = personTree.get(PersonRecords.toKey(change.getKey()));
+                byte[] newRecord = change.getValue() == null ? null
+                        : PersonRecords.toRecord(new JsonAdaptedPerson(change.getValue()));
+                if (!Arrays.equals(oldRecord, newRecord)) {
+                    write(change.getKey(), newRecord);
+                    changedCount++;
+                }
+            }
+            return changedCount;
+        }
+
+        /**
+         * Writes the persons in {@code persons} that differ from the persons last saved, and deletes the persons
+         * last saved that are not in {@code persons}.
+         */
+        private int saveDifferences(List<Person> persons) throws IOException {
+            int changedCount = 0;
+            for (Person person : persons) {
+                String name = person.getName().fullName;
+                Person savedPerson = savedPersons.get(name);
+                if (savedPerson == person) {
+                    continue;
+                }
+                byte[] oldRecord = savedPerson == null ? null
+                        : PersonRecords.toRecord(new JsonAdaptedPerson(savedPerson));
+                byte[] newRecord = PersonRecords.toRecord(new JsonAdaptedPerson(person));
+                if (!Arrays.equals(oldRecord, newRecord)) {
+                    write(name, newRecord);
+                    changedCount++;
+                }
+                savedPersons.put(name, person);
+            }
+
+            if (savedPersons.size() > persons.size()) {
+                Set<String> names = new HashSet<>();
+                persons.forEach(person -> names.add(person.getName().fullName));
+                List<String> deletedNames = new ArrayList<>();
+                savedPersons.keySet().stream().filter(name -> !names.contains(name)).forEach(deletedNames::add);
+                for (String name : deletedNames) {
+                    savedPersons.remove(name);
+                    write(name, null);
+                    changedCount++;
+                }
+            }
+            return changedCount;
+        }
+
+        /**
+         * Replaces the record of the person named {@code name} with {@code record}, adding the person if there is
+         * none, or deletes the person if {@code record} is null.
+         */
+        void write(String name, byte[] record) throws IOException {
+            byte[] key = PersonRecords.toKey(name);
+            if (key.length > BTree.MAX_KEY_SIZE) {
+                throw new IOException("Name too long to save: " + name);
+            }
+            if (record == null) {
+                personTree.delete(key);
+            } else {
+                personTree.put(key, record);
+            }
+        }
+
+        void close() throws IOException {
+            stopTracking();
+            store.close();
+        }
+
+        /**
+         * Closes the file without writing the changes made since the last flush.
+         */
+        void discard() throws IOException {
+            stopTracking();
+            store.discardAndClose();
+        }
+
+        private void stopTracking() {
+            if (trackedPersons != null) {
+                trackedPersons.removeListener(this);
+                trackedPersons = null;
+            }
+            synchronized (changedPersons) {
+                changedPersons.clear();
+            }
+        }
+
+    }
+}
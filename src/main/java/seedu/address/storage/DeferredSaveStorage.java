@@ -0,0 +1,110 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+
+/**
+ * A {@code Storage} that defers address book saves until {@link #flush()} is called.
+ * Used by scripted runs, where rewriting the data file after every command would dominate the run time.
+ * Only the latest requested save is kept; user prefs are written through immediately.
+ */
+public class DeferredSaveStorage implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(DeferredSaveStorage.class);
+
+    private final Storage storage;
+    private ReadOnlyAddressBook pendingAddressBook;
+    private Path pendingFilePath;
+
+    /**
+     * Creates a {@code DeferredSaveStorage} that eventually writes to {@code storage}.
+     */
+    public DeferredSaveStorage(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return storage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+        saveAddressBook(addressBook, storage.getAddressBookFilePath());
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        pendingAddressBook = addressBook;
+        pendingFilePath = filePath;
+    }
+
+    @Override
+    public void markSaved(ReadOnlyAddressBook addressBook) {
+        storage.markSaved(addressBook);
+    }
+
+    /**
+     * Returns true if a save has been requested since the last {@link #flush()}.
+     */
+    public boolean hasPendingSave() {
+        return pendingAddressBook != null;
+    }
+
+    /**
+     * Writes the most recently saved address book to the underlying storage, if there is one.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public void flush() throws IOException {
+        if (!hasPendingSave()) {
+            return;
+        }
+
+        logger.fine(() -> "Flushing deferred save to data file: " + pendingFilePath);
+        storage.saveAddressBook(pendingAddressBook, pendingFilePath);
+        pendingAddressBook = null;
+        pendingFilePath = null;
+    }
+}
@@ -1,9 +1,7 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -13,6 +11,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
+import seedu.address.model.person.LazyPerson;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
@@ -21,7 +20,7 @@ import seedu.address.model.tag.Tag;
 /**
  * Jackson-friendly version of {@link Person}.
  */
-class JsonAdaptedPerson {
+public class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
 
@@ -54,6 +53,16 @@ class JsonAdaptedPerson {
      */
     public JsonAdaptedPerson(Person source) {
         name = source.getName().fullName;
+        if (source instanceof LazyPerson) {
+            // Avoid unpacking persons that have not been used since they were loaded.
+            LazyPerson.RawDetails details = ((LazyPerson) source).getRawDetails();
+            phone = details.phone;
+            email = details.email;
+            address = details.address;
+            details.tagNames.forEach(tagName -> tagged.add(new JsonAdaptedTag(tagName)));
+            appointment = details.appointment;
+            return;
+        }
         phone = source.getPhone().value;
         email = source.getEmail().value;
         address = source.getAddress().value;
@@ -63,15 +72,47 @@ class JsonAdaptedPerson {
         appointment = source.getAppointment().getValue();
     }
 
+    String getName() {
+        return name;
+    }
+
+    String getPhone() {
+        return phone;
+    }
+
+    String getEmail() {
+        return email;
+    }
+
+    String getAddress() {
+        return address;
+    }
+
+    String getAppointment() {
+        return appointment;
+    }
+
+    /**
+     * Returns the names of the tags, in alphabetical order.
+     */
+    List<String> getTagNames() {
+        return tagged.stream().map(JsonAdaptedTag::getTagName).sorted().collect(Collectors.toList());
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
+     * The details are validated, but only the name is converted into a value object; the rest are kept
+     * in a {@link LazyPerson} until they are first used.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
-        final List<Tag> personTags = new ArrayList<>();
+        final List<String> tagNames = new ArrayList<>();
         for (JsonAdaptedTag tag : tagged) {
-            personTags.add(tag.toModelType());
+            if (!Tag.isValidTagName(tag.getTagName())) {
+                throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            tagNames.add(tag.getTagName());
         }
 
         if (name == null) {
@@ -88,7 +129,6 @@ class JsonAdaptedPerson {
         if (!Phone.isValidPhone(phone)) {
             throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
         }
-        final Phone modelPhone = new Phone(phone);
 
         if (email == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName()));
@@ -96,7 +136,6 @@ class JsonAdaptedPerson {
         if (!Email.isValidEmail(email)) {
             throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
         }
-        final Email modelEmail = new Email(email);
 
         if (address == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
@@ -104,16 +143,12 @@ class JsonAdaptedPerson {
         if (!Address.isValidAddress(address)) {
             throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
         }
-        final Address modelAddress = new Address(address);
-
-        final Set<Tag> modelTags = new HashSet<>(personTags);
 
         if (!Appointment.isValidMeetingTime(appointment)) {
             throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
         }
-        final Appointment modelAppointment = new Appointment(appointment);
 
-        return new Person(modelName, modelPhone, modelEmail, modelAddress, modelTags, modelAppointment);
+        return new LazyPerson(modelName, phone, email, address, tagNames, appointment);
     }
 
 }
@@ -1,30 +1,51 @@
 package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.jfr.AddressBookIoEvent;
+import seedu.address.commons.core.jfr.AddressBookLoadEvent;
+import seedu.address.commons.core.jfr.AddressBookSaveEvent;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CompressionUtil;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file may be compressed by {@link CompressionUtil}; files are read whether or not they are compressed, and
+ * written compressed at the level given to the constructor.
+ * Each read and write is recorded as an {@link AddressBookIoEvent} for Flight Recorder.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final int compressionLevel;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, CompressionUtil.NO_COMPRESSION);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that writes files compressed at {@code compressionLevel}.
+     */
+    public JsonAddressBookStorage(Path filePath, int compressionLevel) {
+        checkArgument(CompressionUtil.isValidLevel(compressionLevel), CompressionUtil.MESSAGE_LEVEL_CONSTRAINTS);
         this.filePath = filePath;
+        this.compressionLevel = compressionLevel;
     }
 
     public Path getAddressBookFilePath() {
@@ -44,18 +65,25 @@ public class JsonAddressBookStorage implements AddressBookStorage {
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
-
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
-
+        AddressBookLoadEvent event = new AddressBookLoadEvent();
+        event.begin();
+        Optional<ReadOnlyAddressBook> addressBook = Optional.empty();
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataConversionException(ive);
+            Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
+                    filePath, JsonSerializableAddressBook.class);
+            if (!jsonAddressBook.isPresent()) {
+                return Optional.empty();
+            }
+
+            try {
+                addressBook = Optional.of(jsonAddressBook.get().toModelType());
+                return addressBook;
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+                throw new DataConversionException(ive);
+            }
+        } finally {
+            commitIoEvent(event, filePath, addressBook.map(book -> book.getPersonList().size()).orElse(0));
         }
     }
 
@@ -73,8 +101,90 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        AddressBookSaveEvent event = new AddressBookSaveEvent();
+        event.begin();
+        try {
+            FileUtil.createIfMissing(filePath);
+            JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath, compressionLevel);
+        } finally {
+            commitIoEvent(event, filePath, addressBook.getPersonList().size());
+        }
+    }
+
+    /**
+     * Saves {@code persons} to {@code filePath} in the same format as {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Each person is converted and written as soon as it is read from the iterator, so that books too large
+     * to hold in memory, such as generated test data, can be written.
+     *
+     * @param persons persons with unique names. Cannot be null.
+     * @param filePath location of the data. Cannot be null.
+     * @return the number of persons written.
+     */
+    public static long savePersons(Iterator<? extends Person> persons, Path filePath) throws IOException {
+        return savePersons(persons, filePath, CompressionUtil.NO_COMPRESSION);
+    }
+
+    /**
+     * Similar to {@link #savePersons(Iterator, Path)}, but compresses the file at {@code compressionLevel}.
+     */
+    public static long savePersons(Iterator<? extends Person> persons, Path filePath, int compressionLevel)
+            throws IOException {
+        requireNonNull(persons);
+        requireNonNull(filePath);
+
+        AddressBookSaveEvent event = new AddressBookSaveEvent();
+        event.begin();
+        AdaptingIterator adaptedPersons = new AdaptingIterator(persons);
+        try {
+            FileUtil.createIfMissing(filePath);
+            JsonUtil.saveJsonArrayFile(adaptedPersons, JsonSerializableAddressBook.PERSONS_FIELD, filePath,
+                    compressionLevel);
+            return adaptedPersons.count;
+        } finally {
+            commitIoEvent(event, filePath, (int) Math.min(adaptedPersons.count, Integer.MAX_VALUE));
+        }
+    }
+
+    /**
+     * Commits {@code event} for {@code recordCount} persons read from or written to {@code filePath},
+     * if Flight Recorder is recording it.
+     */
+    static void commitIoEvent(AddressBookIoEvent event, Path filePath, int recordCount) {
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.setFilePath(filePath.toString());
+        event.setRecordCount(recordCount);
+        try {
+            event.setByteCount(Files.size(filePath));
+        } catch (IOException e) {
+            event.setByteCount(0);
+        }
+        event.commit();
+    }
+
+    /**
+     * Converts persons to {@code JsonAdaptedPerson}s one at a time, counting them.
+     */
+    private static class AdaptingIterator implements Iterator<JsonAdaptedPerson> {
+        private final Iterator<? extends Person> persons;
+        private long count;
+
+        AdaptingIterator(Iterator<? extends Person> persons) {
+            this.persons = persons;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return persons.hasNext();
+        }
+
+        @Override
+        public JsonAdaptedPerson next() {
+            JsonAdaptedPerson adaptedPerson = new JsonAdaptedPerson(persons.next());
+            count++;
+            return adaptedPerson;
+        }
     }
 
 }
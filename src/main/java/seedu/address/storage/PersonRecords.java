@@ -0,0 +1,107 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Converts persons to and from the keys and records of a {@link BTreeAddressBookStorage} and an {@link ArchiveFile}.
+ *
+ * A person is keyed by its name, in UTF-8, and its record holds the phone, email, address and meeting time, then
+ * the tags, each as its length in bytes and its UTF-8 bytes.
+ */
+class PersonRecords {
+
+    private PersonRecords() {
+    }
+
+    static byte[] toKey(String name) {
+        return name.getBytes(StandardCharsets.UTF_8);
+    }
+
+    static String toName(byte[] key) {
+        return new String(key, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the record of {@code person}'s details.
+     */
+    static byte[] toRecord(JsonAdaptedPerson person) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream record = new DataOutputStream(bytes);
+            writeString(record, person.getPhone());
+            writeString(record, person.getEmail());
+            writeString(record, person.getAddress());
+            writeString(record, person.getAppointment());
+            record.writeShort(person.getTagNames().size());
+            for (String tagName : person.getTagNames()) {
+                writeString(record, tagName);
+            }
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            // Writing to memory does not fail.
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the person named by {@code key} with the details in {@code record}.
+     *
+     * @throws IllegalValueException if the record is damaged or its details are invalid.
+     */
+    static Person toPerson(byte[] key, byte[] record) throws IllegalValueException {
+        return toAdaptedPerson(key, record).toModelType();
+    }
+
+    /**
+     * Returns the person named by {@code key} with the details in {@code record}, without validating them.
+     *
+     * @throws IllegalValueException if the record is damaged.
+     */
+    static JsonAdaptedPerson toAdaptedPerson(byte[] key, byte[] record) throws IllegalValueException {
+        try {
+            DataInputStream details = new DataInputStream(new ByteArrayInputStream(record));
+            String phone = readString(details);
+            String email = readString(details);
+            String address = readString(details);
+            String appointment = readString(details);
+            int tagCount = details.readUnsignedShort();
+            List<JsonAdaptedTag> tags = new ArrayList<>(tagCount);
+            for (int i = 0; i < tagCount; i++) {
+                tags.add(new JsonAdaptedTag(readString(details)));
+            }
+            if (details.available() > 0) {
+                throw new IOException("Trailing bytes");
+            }
+            return new JsonAdaptedPerson(toName(key), phone, email, address, tags, appointment);
+        } catch (IOException e) {
+            throw new IllegalValueException("Damaged record of " + toName(key) + ": " + e.getMessage());
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > in.available()) {
+            throw new IOException("String of " + length + " bytes");
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,392 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.jfr.AddressBookLoadEvent;
+import seedu.address.commons.core.jfr.AddressBookSaveEvent;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a file of checksummed records on the hard disk, which is read
+ * record by record so that damage to some records does not lose the others.
+ *
+ * After a short header, each person is written as a frame: a marker, the lengths of its key and record, a CRC-32C
+ * checksum of the lengths, key and record, then the key and record themselves, as in a
+ * {@link BTreeAddressBookStorage}. A read streams through the file once, checking each frame. Bytes that are not part
+ * of a frame with a matching checksum are skipped until the next marker, and frames of persons that are not valid,
+ * or whose names were already read, are skipped too; either way the skipped bytes are appended to the quarantine
+ * file next to the data file, and the persons of all the other frames are read. The data file is then rewritten
+ * straight away without the skipped bytes, so that they are quarantined only once. The file is written next to the
+ * data file and moved over it, so a failed save leaves the file as last saved.
+ */
+public class RecordFileAddressBookStorage implements AddressBookStorage {
+
+    /** Extension of the data files that are kept in this format rather than as JSON. */
+    public static final String FILE_EXTENSION = ".rec";
+
+    /** Ending added to the name of a data file to give the name of its quarantine file. */
+    public static final String QUARANTINE_FILE_ENDING = ".quarantine";
+
+    /** The start of a data file: a byte that is not valid UTF-8 on its own, a name and a format version. */
+    static final byte[] FILE_HEADER = {(byte) 0xAB, 'R', 'F', 1};
+
+    /** The start of each frame. A match inside damaged bytes is told apart from a frame by its checksum. */
+    static final int FRAME_MARKER = 0xFE5EC0DE;
+
+    /** Size of the marker, lengths and checksum at the start of a frame. */
+    static final int FRAME_HEADER_SIZE = 4 * Integer.BYTES;
+
+    /** Lengths beyond these cannot be those of an intact frame, so they are taken as damage without reading on. */
+    private static final int MAX_KEY_LENGTH = 1 << 16;
+    private static final int MAX_RECORD_LENGTH = 1 << 24;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private static final Logger logger = LogsCenter.getLogger(RecordFileAddressBookStorage.class);
+
+    private final Path filePath;
+
+    /** Number of pieces of the file quarantined by the last read. */
+    private int quarantinedCount;
+
+    public RecordFileAddressBookStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns whether the data file at {@code filePath} is kept in this format, going by its extension.
+     */
+    public static boolean isRecordFile(Path filePath) {
+        return filePath.toString().endsWith(FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the path of the quarantine file of the data file at {@code filePath}: in the same folder, with
+     * {@link #QUARANTINE_FILE_ENDING} added to its name.
+     */
+    public static Path getQuarantineFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + QUARANTINE_FILE_ENDING);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the number of damaged pieces of the file, and of frames of invalid or repeated persons, that the last
+     * read skipped and quarantined.
+     */
+    public synchronized int getQuarantinedCount() {
+        return quarantinedCount;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}. Damaged and invalid records are skipped rather than failing the read.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file does not start with the header of this format.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        AddressBookLoadEvent event = new AddressBookLoadEvent();
+        event.begin();
+        List<Person> persons = List.of();
+        Path quarantineFilePath = getQuarantineFilePath(filePath);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ);
+                Quarantine quarantine = new Quarantine(quarantineFilePath)) {
+            FrameReader reader = new FrameReader(channel);
+            if (!reader.fill(FILE_HEADER.length) || !reader.startsWith(FILE_HEADER)) {
+                throw new DataConversionException(new IllegalValueException("Not a record file: " + filePath));
+            }
+            reader.skip(FILE_HEADER.length);
+            persons = reader.readPersons(quarantine);
+            quarantinedCount = quarantine.count;
+        } finally {
+            JsonAddressBookStorage.commitIoEvent(event, filePath, persons.size());
+        }
+
+        if (quarantinedCount > 0) {
+            logger.warning("Skipped " + quarantinedCount + " damaged or invalid parts of " + filePath
+                    + ", which were moved to " + quarantineFilePath);
+            removeQuarantined(persons, filePath);
+        }
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Rewrites the file at {@code filePath} with just {@code persons}, the persons read from it, so that the parts
+     * of it that were quarantined are not quarantined again by the next read.
+     * If the file cannot be rewritten, it is left as it is, and the persons are still read.
+     */
+    private static void removeQuarantined(List<Person> persons, Path filePath) {
+        try {
+            savePersons(persons.iterator(), filePath);
+        } catch (IOException e) {
+            logger.warning("Could not remove the quarantined parts from " + filePath + ": " + e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        savePersons(addressBook.getPersonList().iterator(), filePath);
+    }
+
+    /**
+     * Saves {@code persons} to {@code filePath} in the same format as {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Each person is converted and written as soon as it is read from the iterator, so that books too large
+     * to hold in memory, such as generated test data, can be written.
+     *
+     * @param persons persons with unique names. Cannot be null.
+     * @param filePath location of the data. Cannot be null.
+     * @return the number of persons written.
+     */
+    public static long savePersons(Iterator<? extends Person> persons, Path filePath) throws IOException {
+        requireNonNull(persons);
+        requireNonNull(filePath);
+
+        AddressBookSaveEvent event = new AddressBookSaveEvent();
+        event.begin();
+        long count = 0;
+        try {
+            FileUtil.createParentDirsOfFile(filePath);
+            Path newFilePath = filePath.resolveSibling(filePath.getFileName() + ".new");
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(newFilePath), BUFFER_SIZE)) {
+                out.write(FILE_HEADER);
+                while (persons.hasNext()) {
+                    Person person = persons.next();
+                    out.write(toFrame(PersonRecords.toKey(person.getName().fullName),
+                            PersonRecords.toRecord(new JsonAdaptedPerson(person))));
+                    count++;
+                }
+            }
+            Files.move(newFilePath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return count;
+        } finally {
+            JsonAddressBookStorage.commitIoEvent(event, filePath, (int) Math.min(count, Integer.MAX_VALUE));
+        }
+    }
+
+    /**
+     * Returns the frame of a person with {@code key} and {@code record}.
+     */
+    static byte[] toFrame(byte[] key, byte[] record) {
+        ByteBuffer frame = ByteBuffer.allocate(FRAME_HEADER_SIZE + key.length + record.length);
+        frame.putInt(FRAME_MARKER).putInt(key.length).putInt(record.length).putInt(0).put(key).put(record);
+        frame.putInt(3 * Integer.BYTES, checksum(frame, 0));
+        return frame.array();
+    }
+
+    /**
+     * Returns the checksum of the frame starting at {@code start} in {@code buffer}: of its lengths, key and record.
+     * The whole frame must be in the buffer.
+     */
+    private static int checksum(ByteBuffer buffer, int start) {
+        int keyLength = buffer.getInt(start + Integer.BYTES);
+        int recordLength = buffer.getInt(start + 2 * Integer.BYTES);
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.duplicate().position(start + Integer.BYTES).limit(start + 3 * Integer.BYTES));
+        int dataStart = start + FRAME_HEADER_SIZE;
+        crc.update(buffer.duplicate().position(dataStart).limit(dataStart + keyLength + recordLength));
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Reads frames from a file through a buffer, from which the bytes before the current position may be discarded
+     * whenever more of the file is read.
+     */
+    private static class FrameReader {
+        private final FileChannel channel;
+        private ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).limit(0);
+        private boolean isEndOfFile;
+
+        FrameReader(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        /**
+         * Reads more of the file until at least {@code length} bytes are left in the buffer, or the file ends.
+         * Returns whether there are.
+         */
+        boolean fill(int length) throws IOException {
+            if (buffer.remaining() >= length) {
+                return true;
+            }
+            if (buffer.capacity() < length) {
+                ByteBuffer larger = ByteBuffer.allocate(Math.max(length, buffer.capacity() * 2));
+                larger.put(buffer);
+                buffer = larger;
+            } else {
+                buffer.compact();
+            }
+            while (buffer.position() < length && !isEndOfFile) {
+                isEndOfFile = channel.read(buffer) < 0;
+            }
+            buffer.flip();
+            return buffer.remaining() >= length;
+        }
+
+        boolean startsWith(byte[] bytes) {
+            return buffer.remaining() >= bytes.length
+                    && Arrays.equals(bytes, 0, bytes.length, buffer.array(), buffer.position(),
+                            buffer.position() + bytes.length);
+        }
+
+        void skip(int length) {
+            buffer.position(buffer.position() + length);
+        }
+
+        /**
+         * Returns the persons of the intact frames from the current position to the end of the file, adding the
+         * other bytes to {@code quarantine}.
+         */
+        List<Person> readPersons(Quarantine quarantine) throws IOException {
+            List<Person> persons = new ArrayList<>();
+            Set<Name> names = new HashSet<>();
+            boolean isInDamage = false;
+            while (fill(FRAME_HEADER_SIZE) || buffer.hasRemaining()) {
+                int frameLength = getIntactFrameLength();
+                if (frameLength < 0) {
+                    // Skips a byte at a time until the next intact frame.
+                    if (!isInDamage) {
+                        quarantine.count++;
+                        isInDamage = true;
+                    }
+                    quarantine.write(buffer.array(), buffer.position(), 1);
+                    skip(1);
+                    continue;
+                }
+                isInDamage = false;
+
+                int start = buffer.position();
+                int keyLength = buffer.getInt(start + Integer.BYTES);
+                int recordLength = buffer.getInt(start + 2 * Integer.BYTES);
+                byte[] key = Arrays.copyOfRange(buffer.array(), start + FRAME_HEADER_SIZE,
+                        start + FRAME_HEADER_SIZE + keyLength);
+                byte[] record = Arrays.copyOfRange(buffer.array(), start + FRAME_HEADER_SIZE + keyLength,
+                        start + frameLength);
+                Person person = toPerson(key, record);
+                if (person != null && names.add(person.getName())) {
+                    persons.add(person);
+                } else {
+                    quarantine.count++;
+                    quarantine.write(buffer.array(), start, frameLength);
+                }
+                skip(frameLength);
+            }
+            return persons;
+        }
+
+        /**
+         * Returns the length of the intact frame at the current position, or -1 if there is none there.
+         */
+        private int getIntactFrameLength() throws IOException {
+            if (buffer.remaining() < FRAME_HEADER_SIZE) {
+                return -1;
+            }
+            int start = buffer.position();
+            if (buffer.getInt(start) != FRAME_MARKER) {
+                return -1;
+            }
+            int keyLength = buffer.getInt(start + Integer.BYTES);
+            int recordLength = buffer.getInt(start + 2 * Integer.BYTES);
+            if (keyLength < 0 || keyLength > MAX_KEY_LENGTH || recordLength < 0 || recordLength > MAX_RECORD_LENGTH) {
+                return -1;
+            }
+            int frameLength = FRAME_HEADER_SIZE + keyLength + recordLength;
+            if (!fill(frameLength)) {
+                return -1;
+            }
+            // Filling may have moved the frame to the start of the buffer.
+            start = buffer.position();
+            return buffer.getInt(start + 3 * Integer.BYTES) == checksum(buffer, start) ? frameLength : -1;
+        }
+
+        private static Person toPerson(byte[] key, byte[] record) {
+            try {
+                return PersonRecords.toPerson(key, record);
+            } catch (IllegalValueException e) {
+                logger.info("Invalid person " + PersonRecords.toName(key) + ": " + e.getMessage());
+                return null;
+            }
+        }
+    }
+
+    /**
+     * The quarantine file of a data file, which is only created once something is written to it.
+     */
+    private static class Quarantine implements AutoCloseable {
+        private final Path filePath;
+        private OutputStream out;
+        /** Number of damaged pieces and skipped frames written. */
+        private int count;
+
+        Quarantine(Path filePath) {
+            this.filePath = filePath;
+        }
+
+        void write(byte[] bytes, int offset, int length) throws IOException {
+            if (out == null) {
+                out = new BufferedOutputStream(Files.newOutputStream(filePath, StandardOpenOption.CREATE,
+                        StandardOpenOption.APPEND), BUFFER_SIZE);
+            }
+            out.write(bytes, offset, length);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (out != null) {
+                out.close();
+            }
+        }
+    }
+}
@@ -29,4 +29,10 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Records {@code addressBook}, at its current version, as already saved to the address book file,
+     * e.g. because it has just been loaded from that file, so that it is not saved again until it changes.
+     */
+    void markSaved(ReadOnlyAddressBook addressBook);
+
 }
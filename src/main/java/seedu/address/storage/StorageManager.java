@@ -1,11 +1,15 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.commons.core.metrics.CommandMetrics;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -13,13 +17,24 @@ import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ *
+ * Remembers the {@link ReadOnlyAddressBook#getVersion() version} of the address book it last saved, and skips saving
+ * the same address book to the same file again until its version changes, e.g. after a command that changed nothing.
+ * Skipped saves are counted in the {@link CommandMetrics}.
+ * Not thread-safe.
  */
 public class StorageManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
+    private final CommandMetrics commandMetrics = MetricsCenter.getCommandMetrics();
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    /** The address book last saved or {@link #markSaved(ReadOnlyAddressBook) marked as saved}, or null if none. */
+    private ReadOnlyAddressBook savedAddressBook;
+    private long savedVersion;
+    private Path savedFilePath;
+
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
@@ -61,7 +76,7 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
-        logger.fine("Attempting to read data from file: " + filePath);
+        logger.fine(() -> "Attempting to read data from file: " + filePath);
         return addressBookStorage.readAddressBook(filePath);
     }
 
@@ -72,8 +87,27 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
+        long version = addressBook.getVersion();
+        if (addressBook == savedAddressBook && version == savedVersion && filePath.equals(savedFilePath)) {
+            logger.fine(() -> "Skipping the save of an unchanged address book to data file: " + filePath);
+            commandMetrics.recordSkippedSave();
+            return;
+        }
+
+        logger.fine(() -> "Attempting to write to data file: " + filePath);
+        savedAddressBook = null;
         addressBookStorage.saveAddressBook(addressBook, filePath);
+        savedAddressBook = addressBook;
+        savedVersion = version;
+        savedFilePath = filePath;
+    }
+
+    @Override
+    public void markSaved(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        savedAddressBook = addressBook;
+        savedVersion = addressBook.getVersion();
+        savedFilePath = addressBookStorage.getAddressBookFilePath();
     }
 
 }
@@ -0,0 +1,233 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.sync.SyncPeer;
+
+/**
+ * A {@code SyncPeer} whose address book is reached through a pair of streams, such as those of a socket, with
+ * another process {@link #serve(SyncPeer, InputStream, OutputStream) serving} its own peer at the other end.
+ *
+ * Each call is sent as a request of a byte and its arguments, and answered with a status byte and the result, or
+ * an error message. Persons are sent as in a {@link BTreeAddressBookStorage}: the length and bytes of their key,
+ * then of their record.
+ */
+public class StreamSyncPeer implements SyncPeer, Closeable {
+
+    private static final byte GET_HASHES = 1;
+    private static final byte GET_PERSONS = 2;
+    private static final byte APPLY = 3;
+    private static final byte CLOSE = 4;
+
+    private static final byte OK = 0;
+    private static final byte ERROR = 1;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private static final Logger logger = LogsCenter.getLogger(StreamSyncPeer.class);
+
+    private final DataInputStream in;
+    private final DataOutputStream out;
+
+    /**
+     * Creates a {@code StreamSyncPeer} that sends requests to {@code out} and reads their answers from {@code in}.
+     */
+    public StreamSyncPeer(InputStream in, OutputStream out) {
+        requireNonNull(in);
+        requireNonNull(out);
+        this.in = new DataInputStream(new BufferedInputStream(in, BUFFER_SIZE));
+        this.out = new DataOutputStream(new BufferedOutputStream(out, BUFFER_SIZE));
+    }
+
+    @Override
+    public long[] getHashes(int level, int[] nodes) throws IOException {
+        out.writeByte(GET_HASHES);
+        out.writeInt(level);
+        writeInts(out, nodes);
+        readStatus();
+        long[] hashes = new long[nodes.length];
+        for (int i = 0; i < hashes.length; i++) {
+            hashes[i] = in.readLong();
+        }
+        return hashes;
+    }
+
+    @Override
+    public List<Person> getPersons(int[] leaves) throws IOException {
+        out.writeByte(GET_PERSONS);
+        writeInts(out, leaves);
+        readStatus();
+        return readPersons(in);
+    }
+
+    @Override
+    public void apply(List<Person> changedPersons, List<Name> removedNames) throws IOException {
+        out.writeByte(APPLY);
+        writePersons(out, changedPersons);
+        out.writeInt(removedNames.size());
+        for (Name name : removedNames) {
+            writeBytes(out, PersonRecords.toKey(name.fullName));
+        }
+        readStatus();
+    }
+
+    /**
+     * Tells the other end that no more requests will be sent.
+     */
+    @Override
+    public void close() throws IOException {
+        out.writeByte(CLOSE);
+        out.flush();
+    }
+
+    /**
+     * Answers the requests of a {@code StreamSyncPeer} read from {@code in} with {@code peer}, writing the answers to
+     * {@code out}, until it is closed or {@code in} ends.
+     */
+    public static void serve(SyncPeer peer, InputStream in, OutputStream out) throws IOException {
+        requireNonNull(peer);
+        DataInputStream requests = new DataInputStream(new BufferedInputStream(in, BUFFER_SIZE));
+        DataOutputStream answers = new DataOutputStream(new BufferedOutputStream(out, BUFFER_SIZE));
+        while (true) {
+            int request;
+            try {
+                request = requests.readByte();
+            } catch (EOFException e) {
+                return;
+            }
+            if (request == CLOSE) {
+                return;
+            }
+
+            // A request is read whole before the peer handles it, so the stream is at the next request if the peer
+            // fails; a request that cannot be read ends the session.
+            try {
+                switch (request) {
+                case GET_HASHES:
+                    int level = requests.readInt();
+                    long[] hashes = peer.getHashes(level, readInts(requests));
+                    answers.writeByte(OK);
+                    for (long hash : hashes) {
+                        answers.writeLong(hash);
+                    }
+                    break;
+                case GET_PERSONS:
+                    List<Person> persons = peer.getPersons(readInts(requests));
+                    answers.writeByte(OK);
+                    writePersons(answers, persons);
+                    break;
+                case APPLY:
+                    List<Person> changedPersons = readPersons(requests);
+                    int removedCount = readCount(requests);
+                    List<Name> removedNames = new ArrayList<>(removedCount);
+                    for (int i = 0; i < removedCount; i++) {
+                        removedNames.add(toName(PersonRecords.toName(readBytes(requests))));
+                    }
+                    peer.apply(changedPersons, removedNames);
+                    answers.writeByte(OK);
+                    break;
+                default:
+                    throw new IOException("Unknown request " + request);
+                }
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Failed to answer a sync request: " + StringUtil.getDetails(e));
+                answers.writeByte(ERROR);
+                answers.writeUTF(String.valueOf(e.getMessage()));
+                if (e instanceof IOException) {
+                    answers.flush();
+                    throw (IOException) e;
+                }
+            }
+            answers.flush();
+        }
+    }
+
+    private void readStatus() throws IOException {
+        out.flush();
+        if (in.readByte() != OK) {
+            throw new IOException("The other address book could not be synced: " + in.readUTF());
+        }
+    }
+
+    private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+        out.writeInt(values.length);
+        for (int value : values) {
+            out.writeInt(value);
+        }
+    }
+
+    private static int[] readInts(DataInputStream in) throws IOException {
+        int[] values = new int[readCount(in)];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = in.readInt();
+        }
+        return values;
+    }
+
+    private static void writePersons(DataOutputStream out, List<Person> persons) throws IOException {
+        out.writeInt(persons.size());
+        for (Person person : persons) {
+            writeBytes(out, PersonRecords.toKey(person.getName().fullName));
+            writeBytes(out, PersonRecords.toRecord(new JsonAdaptedPerson(person)));
+        }
+    }
+
+    private static List<Person> readPersons(DataInputStream in) throws IOException {
+        int count = readCount(in);
+        List<Person> persons = new ArrayList<>(Math.min(count, BUFFER_SIZE));
+        for (int i = 0; i < count; i++) {
+            byte[] key = readBytes(in);
+            byte[] record = readBytes(in);
+            try {
+                persons.add(PersonRecords.toPerson(key, record));
+            } catch (IllegalValueException e) {
+                throw new IOException("Invalid person received: " + e.getMessage(), e);
+            }
+        }
+        return persons;
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[readCount(in)];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private static int readCount(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("Negative count " + count);
+        }
+        return count;
+    }
+
+    private static Name toName(String name) throws IOException {
+        if (!Name.isValidName(name)) {
+            throw new IOException("Invalid name received: " + name);
+        }
+        return new Name(name);
+    }
+}
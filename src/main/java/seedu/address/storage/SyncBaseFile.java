@@ -0,0 +1,123 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.sync.MerkleTree;
+import seedu.address.model.sync.SyncBase;
+
+/**
+ * Keeps the {@link SyncBase} of an address book in a file next to the address book's data file.
+ *
+ * After a header, the file holds, for each leaf of the tree in turn, the number of entries of the leaf and then the
+ * entries, then the number of leaves with conflicts and then those leaves.
+ */
+public class SyncBaseFile {
+
+    /** Ending added to the name of a data file to give the name of its sync base file. */
+    public static final String FILE_ENDING = ".syncbase";
+
+    /** The start of a sync base file: a byte that is not valid UTF-8 on its own, a name and a format version. */
+    private static final byte[] HEADER = {(byte) 0xAB, 'S', 'B', 1};
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Path filePath;
+
+    public SyncBaseFile(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the sync base file of the data file at {@code addressBookFilePath}: in the same folder, with
+     * {@link #FILE_ENDING} added to its name.
+     */
+    public static Path getSyncBaseFilePath(Path addressBookFilePath) {
+        return addressBookFilePath.resolveSibling(addressBookFilePath.getFileName() + FILE_ENDING);
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the sync base in the file, or an empty one if there is no file yet.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public SyncBase read() throws DataConversionException, IOException {
+        if (!Files.exists(filePath)) {
+            return new SyncBase();
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath),
+                BUFFER_SIZE))) {
+            if (!Arrays.equals(in.readNBytes(HEADER.length), HEADER) || in.readInt() != MerkleTree.LEAF_COUNT) {
+                throw new DataConversionException(new IllegalValueException("Not a sync base file: " + filePath));
+            }
+            long[][] leafEntries = new long[MerkleTree.LEAF_COUNT][];
+            for (int leaf = 0; leaf < leafEntries.length; leaf++) {
+                int entryCount = in.readInt();
+                if (entryCount < 0 || entryCount % 2 != 0) {
+                    throw new DataConversionException(new IllegalValueException("Damaged sync base file: " + filePath));
+                }
+                leafEntries[leaf] = new long[entryCount];
+                for (int i = 0; i < entryCount; i++) {
+                    leafEntries[leaf][i] = in.readLong();
+                }
+            }
+            int conflictLeafCount = in.readInt();
+            if (conflictLeafCount < 0 || conflictLeafCount > MerkleTree.LEAF_COUNT) {
+                throw new DataConversionException(new IllegalValueException("Damaged sync base file: " + filePath));
+            }
+            int[] conflictLeaves = new int[conflictLeafCount];
+            for (int i = 0; i < conflictLeafCount; i++) {
+                conflictLeaves[i] = in.readInt();
+            }
+            return new SyncBase(leafEntries, conflictLeaves);
+        } catch (IllegalArgumentException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Replaces the sync base in the file with {@code base}.
+     */
+    public void write(SyncBase base) throws IOException {
+        requireNonNull(base);
+        FileUtil.createParentDirsOfFile(filePath);
+        // Written next to the file and moved over it, so that a failed write leaves the old base.
+        Path newFilePath = filePath.resolveSibling(filePath.getFileName() + ".new");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(newFilePath),
+                BUFFER_SIZE))) {
+            out.write(HEADER);
+            out.writeInt(MerkleTree.LEAF_COUNT);
+            for (int leaf = 0; leaf < MerkleTree.LEAF_COUNT; leaf++) {
+                long[] entries = base.getLeafEntries(leaf);
+                out.writeInt(entries.length);
+                for (long entry : entries) {
+                    out.writeLong(entry);
+                }
+            }
+            int[] conflictLeaves = base.getConflictLeaves();
+            out.writeInt(conflictLeaves.length);
+            for (int leaf : conflictLeaves) {
+                out.writeInt(leaf);
+            }
+        }
+        Files.move(newFilePath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -0,0 +1,325 @@
+package seedu.address.storage.btree;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A B+tree in a {@link PageStore}, mapping byte-string keys, in unsigned lexicographic order, to byte-string values.
+ * Each node takes one page; values are kept in the leaves, and values longer than {@link #MAX_INLINE_VALUE_SIZE}
+ * bytes in chains of overflow pages instead. Only the pages on the path to a changed key, and the overflow pages of
+ * a changed value, are written.
+ *
+ * Nodes that grow beyond a page are split in two, and a full root gets a new root above it. Nodes are not merged
+ * when keys are deleted, so deleting leaves underfull and even empty leaves behind; they are filled again by later
+ * insertions. This keeps deletes to a single page, at the cost of some space after mass deletions.
+ *
+ * Not thread-safe, like the {@code PageStore} it is in.
+ */
+public class BTree {
+
+    /** Length of the longest key, small enough that a page fits at least four cells. */
+    public static final int MAX_KEY_SIZE = 512;
+
+    /** Length of the longest value that is kept in its leaf. */
+    static final int MAX_INLINE_VALUE_SIZE = 256;
+
+    private static final byte INLINE_VALUE = 0;
+    private static final byte OVERFLOW_VALUE = 1;
+    private static final int OVERFLOW_HEADER_SIZE = 2 * Integer.BYTES;
+    private static final int OVERFLOW_CAPACITY = PageStore.PAGE_SIZE - OVERFLOW_HEADER_SIZE;
+
+    private final PageStore store;
+    private final int tree;
+
+    /**
+     * Creates a {@code BTree} for the tree numbered {@code tree} in {@code store}. The tree is created, empty,
+     * the first time it is written.
+     */
+    public BTree(PageStore store, int tree) {
+        requireNonNull(store);
+        checkArgument(tree >= 0 && tree < PageStore.ROOT_COUNT, "No tree " + tree);
+        this.store = store;
+        this.tree = tree;
+    }
+
+    /**
+     * Returns the value of {@code key}, or null if the tree has no such key.
+     */
+    public byte[] get(byte[] key) throws IOException {
+        requireNonNull(key);
+        int pageId = store.getRoot(tree);
+        if (pageId == PageStore.NO_PAGE) {
+            return null;
+        }
+        Node node = readNode(pageId);
+        while (!node.isLeaf) {
+            node = readNode(node.children.get(node.childIndexFor(key)));
+        }
+        int index = node.search(key);
+        return index >= 0 ? loadValue(node.values.get(index)) : null;
+    }
+
+    /**
+     * Sets the value of {@code key} to {@code value}, adding the key if the tree does not have it.
+     *
+     * @throws IllegalArgumentException if the key is longer than {@link #MAX_KEY_SIZE} bytes.
+     */
+    public void put(byte[] key, byte[] value) throws IOException {
+        requireNonNull(key);
+        requireNonNull(value);
+        checkArgument(key.length <= MAX_KEY_SIZE, "Key too long: " + key.length + " bytes");
+        int root = store.getRoot(tree);
+        if (root == PageStore.NO_PAGE) {
+            root = store.allocatePage();
+            writeNode(Node.newLeaf(root));
+            store.setRoot(tree, root);
+        }
+
+        Split split = insert(root, key, storeValue(value));
+        if (split != null) {
+            Node newRoot = Node.newInternal(store.allocatePage(), root);
+            newRoot.keys.add(split.separator);
+            newRoot.children.add(split.rightPageId);
+            writeNode(newRoot);
+            store.setRoot(tree, newRoot.pageId);
+        }
+    }
+
+    /**
+     * Removes {@code key} and its value from the tree.
+     *
+     * @return whether the tree had the key.
+     */
+    public boolean delete(byte[] key) throws IOException {
+        requireNonNull(key);
+        int pageId = store.getRoot(tree);
+        if (pageId == PageStore.NO_PAGE) {
+            return false;
+        }
+        Node node = readNode(pageId);
+        while (!node.isLeaf) {
+            node = readNode(node.children.get(node.childIndexFor(key)));
+        }
+        int index = node.search(key);
+        if (index < 0) {
+            return false;
+        }
+        freeValue(node.values.get(index));
+        node.keys.remove(index);
+        node.values.remove(index);
+        writeNode(node);
+        return true;
+    }
+
+    /**
+     * Visits the keys from {@code from}, inclusive, to {@code to}, exclusive, in order, with their values, until
+     * {@code visitor} asks to stop. The tree must not be changed while it is scanned.
+     *
+     * @param from the first key to visit, or null to start with the smallest key.
+     * @param to the key to stop before, or null to go on to the largest key.
+     */
+    public void scan(byte[] from, byte[] to, EntryVisitor visitor) throws IOException {
+        requireNonNull(visitor);
+        int pageId = store.getRoot(tree);
+        if (pageId == PageStore.NO_PAGE) {
+            return;
+        }
+        Node node = readNode(pageId);
+        while (!node.isLeaf) {
+            node = readNode(node.children.get(from == null ? 0 : node.childIndexFor(from)));
+        }
+
+        int index = from == null ? 0 : node.search(from);
+        index = index >= 0 ? index : -index - 1;
+        while (true) {
+            for (; index < node.keys.size(); index++) {
+                byte[] key = node.keys.get(index);
+                if (to != null && Arrays.compareUnsigned(key, to) >= 0) {
+                    return;
+                }
+                if (!visitor.visit(key, loadValue(node.values.get(index)))) {
+                    return;
+                }
+            }
+            if (node.nextLeaf == PageStore.NO_PAGE) {
+                return;
+            }
+            node = readNode(node.nextLeaf);
+            index = 0;
+        }
+    }
+
+    /**
+     * Inserts {@code key} with the stored value {@code storedValue} into the subtree rooted at page {@code pageId}.
+     *
+     * @return the split of the root of the subtree, or null if it was not split.
+     */
+    private Split insert(int pageId, byte[] key, byte[] storedValue) throws IOException {
+        Node node = readNode(pageId);
+        if (node.isLeaf) {
+            int index = node.search(key);
+            if (index >= 0) {
+                freeValue(node.values.get(index));
+                node.values.set(index, storedValue);
+            } else {
+                node.keys.add(-index - 1, key);
+                node.values.add(-index - 1, storedValue);
+            }
+        } else {
+            int childIndex = node.childIndexFor(key);
+            Split split = insert(node.children.get(childIndex), key, storedValue);
+            if (split == null) {
+                return null;
+            }
+            node.keys.add(childIndex, split.separator);
+            node.children.add(childIndex + 1, split.rightPageId);
+        }
+
+        if (node.fitsInPage()) {
+            writeNode(node);
+            return null;
+        }
+        return split(node);
+    }
+
+    /**
+     * Moves about half of the cells of {@code node} to a new right sibling, and writes both nodes.
+     */
+    private Split split(Node node) throws IOException {
+        int splitIndex = node.splitIndex();
+        int size = node.keys.size();
+        int rightPageId = store.allocatePage();
+        Node right;
+        byte[] separator;
+        if (node.isLeaf) {
+            right = Node.newLeaf(rightPageId);
+            right.keys.addAll(node.keys.subList(splitIndex, size));
+            right.values.addAll(node.values.subList(splitIndex, size));
+            node.values.subList(splitIndex, size).clear();
+            right.nextLeaf = node.nextLeaf;
+            node.nextLeaf = rightPageId;
+            separator = node.keys.get(splitIndex);
+            node.keys.subList(splitIndex, size).clear();
+        } else {
+            // The key at the split index moves up to the parent, and its right child starts the new sibling.
+            right = Node.newInternal(rightPageId, node.children.get(splitIndex + 1));
+            right.keys.addAll(node.keys.subList(splitIndex + 1, size));
+            right.children.addAll(node.children.subList(splitIndex + 2, size + 1));
+            separator = node.keys.get(splitIndex);
+            node.keys.subList(splitIndex, size).clear();
+            node.children.subList(splitIndex + 1, size + 1).clear();
+        }
+        writeNode(node);
+        writeNode(right);
+        return new Split(separator, rightPageId);
+    }
+
+    private Node readNode(int pageId) throws IOException {
+        return store.readNode(pageId);
+    }
+
+    private void writeNode(Node node) throws IOException {
+        store.writeNode(node);
+    }
+
+    /**
+     * Returns the form of {@code value} kept in a leaf: the value itself, or the first overflow page that it was
+     * written to and its length.
+     */
+    private byte[] storeValue(byte[] value) throws IOException {
+        if (value.length <= MAX_INLINE_VALUE_SIZE) {
+            byte[] storedValue = new byte[value.length + 1];
+            storedValue[0] = INLINE_VALUE;
+            System.arraycopy(value, 0, storedValue, 1, value.length);
+            return storedValue;
+        }
+
+        int pageCount = (value.length + OVERFLOW_CAPACITY - 1) / OVERFLOW_CAPACITY;
+        int[] pageIds = new int[pageCount];
+        for (int i = 0; i < pageCount; i++) {
+            pageIds[i] = store.allocatePage();
+        }
+        for (int i = 0; i < pageCount; i++) {
+            int offset = i * OVERFLOW_CAPACITY;
+            int length = Math.min(OVERFLOW_CAPACITY, value.length - offset);
+            byte[] page = new byte[PageStore.PAGE_SIZE];
+            ByteBuffer.wrap(page)
+                    .putInt(i + 1 < pageCount ? pageIds[i + 1] : PageStore.NO_PAGE)
+                    .putInt(length)
+                    .put(value, offset, length);
+            store.writePage(pageIds[i], page);
+        }
+        return ByteBuffer.allocate(1 + OVERFLOW_HEADER_SIZE)
+                .put(OVERFLOW_VALUE).putInt(pageIds[0]).putInt(value.length).array();
+    }
+
+    private byte[] loadValue(byte[] storedValue) throws IOException {
+        if (storedValue.length == 0) {
+            throw new PageFormatException("Empty stored value");
+        }
+        if (storedValue[0] == INLINE_VALUE) {
+            return Arrays.copyOfRange(storedValue, 1, storedValue.length);
+        }
+
+        ByteBuffer reference = ByteBuffer.wrap(storedValue, 1, storedValue.length - 1);
+        int pageId = reference.getInt();
+        int length = reference.getInt();
+        ByteArrayOutputStream value = new ByteArrayOutputStream(length);
+        while (pageId != PageStore.NO_PAGE && value.size() < length) {
+            ByteBuffer page = ByteBuffer.wrap(store.readPage(pageId));
+            pageId = page.getInt();
+            int pageLength = page.getInt();
+            if (pageLength <= 0 || pageLength > OVERFLOW_CAPACITY) {
+                throw new PageFormatException("Damaged overflow page");
+            }
+            value.write(page.array(), OVERFLOW_HEADER_SIZE, pageLength);
+        }
+        if (value.size() != length) {
+            throw new PageFormatException("Overflow value of " + value.size() + " bytes instead of " + length);
+        }
+        return value.toByteArray();
+    }
+
+    private void freeValue(byte[] storedValue) throws IOException {
+        if (storedValue.length == 0 || storedValue[0] != OVERFLOW_VALUE) {
+            return;
+        }
+        int pageId = ByteBuffer.wrap(storedValue, 1, Integer.BYTES).getInt();
+        while (pageId != PageStore.NO_PAGE) {
+            int nextPageId = ByteBuffer.wrap(store.readPage(pageId)).getInt();
+            store.freePage(pageId);
+            pageId = nextPageId;
+        }
+    }
+
+    /**
+     * Visits the entries of a {@link #scan}.
+     */
+    @FunctionalInterface
+    public interface EntryVisitor {
+        /**
+         * Visits {@code key} and its value.
+         *
+         * @return whether to go on to the next key.
+         */
+        boolean visit(byte[] key, byte[] value) throws IOException;
+    }
+
+    /**
+     * The result of splitting a node: the smallest key of the new right sibling and the sibling's page.
+     */
+    private static class Split {
+        private final byte[] separator;
+        private final int rightPageId;
+
+        Split(byte[] separator, int rightPageId) {
+            this.separator = separator;
+            this.rightPageId = rightPageId;
+        }
+    }
+}
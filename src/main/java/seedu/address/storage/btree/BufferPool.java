@@ -0,0 +1,216 @@
+package seedu.address.storage.btree;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Caches up to a fixed number of pages of a file in memory, evicting the least recently used page when another
+ * is needed. Pages that were written are only written to the file when they are evicted or flushed, so a page that
+ * is changed many times between flushes is written once.
+ *
+ * Changed pages that the file held when it was last flushed are not written when they are evicted, but held apart
+ * until the next flush, so that the file stays as it was last flushed until then: only pages past its end, which
+ * belong to nothing in it, are written early. The pages held thus are not bounded by the capacity, but by the number
+ * of pages changed between two flushes.
+ *
+ * Pages that hold tree nodes are cached as decoded {@link Node}s, so that a node is decoded when it is read from
+ * the file and encoded when it is written to the file rather than on every access.
+ *
+ * A page returned by {@link #read(int)} must not be modified; changes are made by passing a new page to
+ * {@link #write(int, byte[])}. A node returned by {@link #readNode(int)} may be modified, but must then be passed to
+ * {@link #writeNode(Node)}. Not thread-safe.
+ */
+class BufferPool {
+
+    private final FileChannel channel;
+    private final int pageSize;
+    private final int capacity;
+    /** Frames in access order, from the least to the most recently used. */
+    private final LinkedHashMap<Integer, Frame> frames = new LinkedHashMap<>(16, 0.75f, true);
+    /** Evicted frames of changed pages that the file held when it was last flushed, by page. */
+    private final Map<Integer, Frame> heldFrames = new HashMap<>();
+    /** Number of pages in the file as it was last flushed. */
+    private int flushedPageCount;
+
+    private long pagesRead;
+    private long pagesWritten;
+
+    /**
+     * Creates a {@code BufferPool} that caches up to {@code capacity} pages of {@code pageSize} bytes of
+     * {@code channel}.
+     */
+    BufferPool(FileChannel channel, int pageSize, int capacity) {
+        this.channel = channel;
+        this.pageSize = pageSize;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the content of page {@code pageId}. Pages beyond the end of the file are all zeros.
+     */
+    byte[] read(int pageId) throws IOException {
+        Frame frame = getFrame(pageId);
+        if (frame.page == null) {
+            frame.page = frame.node.encode();
+        }
+        return frame.page;
+    }
+
+    /**
+     * Returns the node in page {@code pageId}.
+     *
+     * @throws PageFormatException if the page does not hold a node.
+     */
+    Node readNode(int pageId) throws IOException {
+        Frame frame = getFrame(pageId);
+        if (frame.node == null) {
+            frame.node = Node.decode(pageId, frame.page);
+        }
+        return frame.node;
+    }
+
+    /**
+     * Replaces the content of page {@code pageId} with {@code page}, which is kept rather than copied.
+     */
+    void write(int pageId, byte[] page) throws IOException {
+        assert page.length == pageSize;
+        putDirtyFrame(pageId, page, null);
+    }
+
+    /**
+     * Replaces the content of the page of {@code node} with {@code node}, which is kept rather than copied.
+     */
+    void writeNode(Node node) throws IOException {
+        putDirtyFrame(node.pageId, null, node);
+    }
+
+    /**
+     * Sets the number of pages in the file as it was last flushed. Changed pages before it are only written to the
+     * file by {@link #flush()}.
+     */
+    void setFlushedPageCount(int flushedPageCount) {
+        this.flushedPageCount = flushedPageCount;
+    }
+
+    /**
+     * Writes every page that was written since it was last flushed to the file, in the order of the pages.
+     */
+    void flush() throws IOException {
+        List<Map.Entry<Integer, Frame>> dirtyFrames = new ArrayList<>(heldFrames.entrySet());
+        for (Map.Entry<Integer, Frame> entry : frames.entrySet()) {
+            if (entry.getValue().isDirty) {
+                dirtyFrames.add(entry);
+            }
+        }
+        dirtyFrames.sort(Map.Entry.comparingByKey(Comparator.naturalOrder()));
+        for (Map.Entry<Integer, Frame> entry : dirtyFrames) {
+            store(entry.getKey(), entry.getValue());
+        }
+        heldFrames.clear();
+    }
+
+    /**
+     * Drops every cached page, including those written since they were last flushed, which are lost.
+     */
+    void discard() {
+        frames.clear();
+        heldFrames.clear();
+    }
+
+    long getPagesRead() {
+        return pagesRead;
+    }
+
+    long getPagesWritten() {
+        return pagesWritten;
+    }
+
+    private Frame getFrame(int pageId) throws IOException {
+        Frame frame = frames.get(pageId);
+        if (frame == null) {
+            frame = heldFrames.get(pageId);
+        }
+        if (frame == null) {
+            frame = new Frame(load(pageId), null);
+            frames.put(pageId, frame);
+            evictIfFull();
+        }
+        return frame;
+    }
+
+    private void putDirtyFrame(int pageId, byte[] page, Node node) throws IOException {
+        Frame frame = frames.get(pageId);
+        if (frame == null) {
+            frame = heldFrames.get(pageId);
+        }
+        if (frame == null) {
+            frame = new Frame(page, node);
+            frames.put(pageId, frame);
+        }
+        frame.page = page;
+        frame.node = node;
+        frame.isDirty = true;
+        evictIfFull();
+    }
+
+    private void evictIfFull() throws IOException {
+        Iterator<Map.Entry<Integer, Frame>> leastRecentlyUsed = frames.entrySet().iterator();
+        while (frames.size() > capacity) {
+            Map.Entry<Integer, Frame> entry = leastRecentlyUsed.next();
+            if (entry.getValue().isDirty && entry.getKey() < flushedPageCount) {
+                heldFrames.put(entry.getKey(), entry.getValue());
+            } else if (entry.getValue().isDirty) {
+                store(entry.getKey(), entry.getValue());
+            }
+            leastRecentlyUsed.remove();
+        }
+    }
+
+    private byte[] load(int pageId) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(pageSize);
+        long position = (long) pageId * pageSize;
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                break;
+            }
+        }
+        pagesRead++;
+        return buffer.array();
+    }
+
+    private void store(int pageId, Frame frame) throws IOException {
+        if (frame.page == null) {
+            frame.page = frame.node.encode();
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(frame.page);
+        long position = (long) pageId * pageSize;
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, position + buffer.position());
+        }
+        frame.isDirty = false;
+        pagesWritten++;
+    }
+
+    /**
+     * A cached page, as bytes, as a node, or both, and whether it was written since it was last stored.
+     * The bytes are only up to date if they are not null.
+     */
+    private static class Frame {
+        private byte[] page;
+        private Node node;
+        private boolean isDirty;
+
+        Frame(byte[] page, Node node) {
+            this.page = page;
+            this.node = node;
+        }
+    }
+}
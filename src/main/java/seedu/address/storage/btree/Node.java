@@ -0,0 +1,224 @@
+package seedu.address.storage.btree;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A node of a {@link BTree}, decoded from its page.
+ *
+ * A leaf holds keys in increasing order and the stored form of the value of each key, and links to the next leaf.
+ * An internal node holds keys in increasing order and one more child than keys; the keys in child {@code i} are
+ * at least key {@code i - 1} and less than key {@code i}.
+ *
+ * A page holds the kind of node, the number of keys and the link to the next leaf or the first child, followed by
+ * a cell per key: the length of the key, as a varint, and the key, then for a leaf the length and the stored value
+ * and for an internal node the child after the key.
+ */
+final class Node {
+
+    private static final byte LEAF = 0;
+    private static final byte INTERNAL = 1;
+    private static final int HEADER_SIZE = Byte.BYTES + Short.BYTES + Integer.BYTES;
+
+    final int pageId;
+    final boolean isLeaf;
+    final List<byte[]> keys;
+    /** Stored values of a leaf, by key. */
+    final List<byte[]> values;
+    /** Children of an internal node. */
+    final List<Integer> children;
+    /** The leaf after this one, or {@link PageStore#NO_PAGE} if this is the last leaf or not a leaf. */
+    int nextLeaf;
+
+    private Node(int pageId, boolean isLeaf, int capacity) {
+        this.pageId = pageId;
+        this.isLeaf = isLeaf;
+        keys = new ArrayList<>(capacity);
+        values = isLeaf ? new ArrayList<>(capacity) : null;
+        children = isLeaf ? null : new ArrayList<>(capacity + 1);
+        nextLeaf = PageStore.NO_PAGE;
+    }
+
+    /**
+     * Returns an empty leaf for page {@code pageId}.
+     */
+    static Node newLeaf(int pageId) {
+        return new Node(pageId, true, 0);
+    }
+
+    /**
+     * Returns an internal node for page {@code pageId} with the single child {@code firstChild}.
+     */
+    static Node newInternal(int pageId, int firstChild) {
+        Node node = new Node(pageId, false, 0);
+        node.children.add(firstChild);
+        return node;
+    }
+
+    /**
+     * Decodes the node in page {@code pageId}, whose content is {@code page}.
+     *
+     * @throws PageFormatException if the page does not hold a node.
+     */
+    static Node decode(int pageId, byte[] page) throws PageFormatException {
+        ByteBuffer buffer = ByteBuffer.wrap(page);
+        try {
+            byte kind = buffer.get();
+            if (kind != LEAF && kind != INTERNAL) {
+                throw new PageFormatException("Page " + pageId + " is not a tree node");
+            }
+            int count = Short.toUnsignedInt(buffer.getShort());
+            Node node = new Node(pageId, kind == LEAF, count);
+            int link = buffer.getInt();
+            if (node.isLeaf) {
+                node.nextLeaf = link;
+            } else {
+                node.children.add(link);
+            }
+            for (int i = 0; i < count; i++) {
+                node.keys.add(getBytes(buffer));
+                if (node.isLeaf) {
+                    node.values.add(getBytes(buffer));
+                } else {
+                    node.children.add(buffer.getInt());
+                }
+            }
+            return node;
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new PageFormatException("Page " + pageId + " holds a damaged tree node");
+        }
+    }
+
+    /**
+     * Returns the content of the page of this node, which must fit in a page.
+     */
+    byte[] encode() {
+        byte[] page = new byte[PageStore.PAGE_SIZE];
+        ByteBuffer buffer = ByteBuffer.wrap(page);
+        buffer.put(isLeaf ? LEAF : INTERNAL);
+        buffer.putShort((short) keys.size());
+        buffer.putInt(isLeaf ? nextLeaf : children.get(0));
+        for (int i = 0; i < keys.size(); i++) {
+            putBytes(buffer, keys.get(i));
+            if (isLeaf) {
+                putBytes(buffer, values.get(i));
+            } else {
+                buffer.putInt(children.get(i + 1));
+            }
+        }
+        return page;
+    }
+
+    /**
+     * Returns whether this node fits in a page.
+     */
+    boolean fitsInPage() {
+        return encodedSize(0, keys.size()) <= PageStore.PAGE_SIZE;
+    }
+
+    /**
+     * Returns the number of bytes taken by the header and the cells {@code from} to {@code to}, exclusive.
+     */
+    int encodedSize(int from, int to) {
+        int size = HEADER_SIZE;
+        for (int i = from; i < to; i++) {
+            size += cellSize(i);
+        }
+        return size;
+    }
+
+    /**
+     * Returns the index of {@code key} if this node has it, or {@code -(insertion point) - 1} if not.
+     */
+    int search(byte[] key) {
+        int low = 0;
+        int high = keys.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = Arrays.compareUnsigned(keys.get(middle), key);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Returns the index of the child of this internal node that {@code key} belongs in.
+     */
+    int childIndexFor(byte[] key) {
+        int index = search(key);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    /**
+     * Returns the index of the first cell to move to a new right sibling, so that the two halves are about the same
+     * size in bytes and each keeps at least one cell.
+     */
+    int splitIndex() {
+        int half = encodedSize(0, keys.size()) / 2;
+        int size = HEADER_SIZE;
+        for (int i = 0; i < keys.size() - 1; i++) {
+            size += cellSize(i);
+            if (size >= half) {
+                return i + 1;
+            }
+        }
+        return keys.size() - 1;
+    }
+
+    private int cellSize(int index) {
+        int keyLength = keys.get(index).length;
+        int size = varIntSize(keyLength) + keyLength;
+        if (isLeaf) {
+            int valueLength = values.get(index).length;
+            return size + varIntSize(valueLength) + valueLength;
+        }
+        return size + Integer.BYTES;
+    }
+
+    private static int varIntSize(int value) {
+        int size = 1;
+        for (int remaining = value >>> 7; remaining != 0; remaining >>>= 7) {
+            size++;
+        }
+        return size;
+    }
+
+    private static void putBytes(ByteBuffer buffer, byte[] bytes) {
+        int remaining = bytes.length;
+        while ((remaining & ~0x7F) != 0) {
+            buffer.put((byte) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        buffer.put((byte) remaining);
+        buffer.put(bytes);
+    }
+
+    private static byte[] getBytes(ByteBuffer buffer) {
+        int length = 0;
+        int shift = 0;
+        byte b;
+        do {
+            if (shift > 28) {
+                throw new IllegalArgumentException("Varint too long");
+            }
+            b = buffer.get();
+            length |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        if (length < 0 || length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
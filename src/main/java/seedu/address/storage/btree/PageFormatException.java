@@ -0,0 +1,12 @@
+package seedu.address.storage.btree;
+
+import java.io.IOException;
+
+/**
+ * Signals that a page file, or a page in it, is not in the format that {@link PageStore} and {@link BTree} write.
+ */
+public class PageFormatException extends IOException {
+    public PageFormatException(String message) {
+        super(message);
+    }
+}
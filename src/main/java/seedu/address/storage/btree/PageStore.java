@@ -0,0 +1,254 @@
+package seedu.address.storage.btree;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A file of pages of {@link #PAGE_SIZE} bytes, read and written through a {@link BufferPool} so that only a bounded
+ * number of pages is held in memory, whatever the size of the file, besides the pages changed since the last flush.
+ *
+ * Page 0 is the header: it identifies the file and holds the number of pages, the head of the list of free pages
+ * and up to {@link #ROOT_COUNT} root pages, one for each {@link BTree} in the file. Every other page belongs to a
+ * tree or is free. Freed pages are linked into the free list and reused before the file is grown.
+ *
+ * Changes are only guaranteed to be in the file once {@link #flush()} returns. Until then, the pages that the file
+ * held at the last flush are left as they were, and only pages added past its end may be written; such pages are
+ * cut off when the file is next opened, as the header does not count them. So a change that fails, or is cut short
+ * by a crash, before it is flushed leaves the file as last flushed. Pages are updated in place during a flush and
+ * there is no log, though, so a file whose flush was interrupted may be inconsistent. Not thread-safe.
+ */
+public class PageStore implements Closeable {
+
+    public static final int PAGE_SIZE = 4096;
+
+    /** Number of trees that a file can hold. */
+    public static final int ROOT_COUNT = 8;
+
+    /** Number of pages cached if no other number is given; 4 MiB. */
+    public static final int DEFAULT_CACHED_PAGES = 1024;
+
+    /** Stands for no page. Page 0 is the header, which never belongs to a tree or to the free list. */
+    static final int NO_PAGE = 0;
+
+    /** "ABBT", for address book B+tree. */
+    private static final int MAGIC = 0x41424254;
+    private static final int VERSION = 1;
+    private static final int HEADER_PAGE = 0;
+
+    private final FileChannel channel;
+    private final BufferPool pool;
+
+    private int pageCount;
+    private int freeListHead;
+    private final int[] roots = new int[ROOT_COUNT];
+
+    private PageStore(FileChannel channel, int cachedPages) {
+        this.channel = channel;
+        this.pool = new BufferPool(channel, PAGE_SIZE, cachedPages);
+    }
+
+    /**
+     * Opens the page file at {@code filePath}, creating an empty one if there is none, and caches up to
+     * {@code cachedPages} of its pages.
+     *
+     * @throws PageFormatException if the file is not a page file.
+     */
+    public static PageStore open(Path filePath, int cachedPages) throws IOException {
+        requireNonNull(filePath);
+        checkArgument(cachedPages > 0, "At least one page must be cached");
+        FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        PageStore store = new PageStore(channel, cachedPages);
+        try {
+            if (channel.size() == 0) {
+                store.pageCount = 1;
+                store.writeHeader();
+            } else {
+                store.readHeader();
+                store.pool.setFlushedPageCount(store.pageCount);
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return store;
+    }
+
+    /**
+     * Returns the content of page {@code pageId}, which must not be modified.
+     *
+     * @throws PageFormatException if the file has no such page, which means that a link to it is damaged.
+     */
+    byte[] readPage(int pageId) throws IOException {
+        if (!isPage(pageId)) {
+            throw new PageFormatException("No page " + pageId + " in a file of " + pageCount + " pages");
+        }
+        return pool.read(pageId);
+    }
+
+    /**
+     * Replaces the content of page {@code pageId} with {@code page}, which must not be modified afterwards.
+     */
+    void writePage(int pageId, byte[] page) throws IOException {
+        checkArgument(isPage(pageId), "No page " + pageId + " in a file of " + pageCount + " pages");
+        pool.write(pageId, page);
+    }
+
+    /**
+     * Returns the node in page {@code pageId}. The node may be modified, but must then be passed to
+     * {@link #writeNode(Node)}.
+     *
+     * @throws PageFormatException if the file has no such page, or the page does not hold a node.
+     */
+    Node readNode(int pageId) throws IOException {
+        if (!isPage(pageId)) {
+            throw new PageFormatException("No page " + pageId + " in a file of " + pageCount + " pages");
+        }
+        return pool.readNode(pageId);
+    }
+
+    /**
+     * Replaces the content of the page of {@code node} with {@code node}, which must fit in a page.
+     */
+    void writeNode(Node node) throws IOException {
+        checkArgument(isPage(node.pageId), "No page " + node.pageId + " in a file of " + pageCount + " pages");
+        pool.writeNode(node);
+    }
+
+    /**
+     * Returns a page that belongs to nothing, reusing a freed page if there is one.
+     */
+    int allocatePage() throws IOException {
+        if (freeListHead == NO_PAGE) {
+            return pageCount++;
+        }
+        int pageId = freeListHead;
+        freeListHead = ByteBuffer.wrap(readPage(pageId)).getInt();
+        return pageId;
+    }
+
+    /**
+     * Adds page {@code pageId} to the free list. The page must not be used until it is allocated again.
+     */
+    void freePage(int pageId) throws IOException {
+        byte[] page = new byte[PAGE_SIZE];
+        ByteBuffer.wrap(page).putInt(freeListHead);
+        writePage(pageId, page);
+        freeListHead = pageId;
+    }
+
+    /**
+     * Returns the root page of tree {@code tree}, or {@link #NO_PAGE} if the tree has not been created.
+     */
+    int getRoot(int tree) {
+        return roots[tree];
+    }
+
+    void setRoot(int tree, int pageId) {
+        roots[tree] = pageId;
+    }
+
+    /**
+     * Writes every changed page and the header to the file, and waits until they are on the storage device.
+     */
+    public void flush() throws IOException {
+        writeHeader();
+        pool.flush();
+        channel.force(false);
+        pool.setFlushedPageCount(pageCount);
+    }
+
+    /**
+     * Returns the number of pages in the file, including the header and the free pages.
+     */
+    public int getPageCount() {
+        return pageCount;
+    }
+
+    /**
+     * Returns the number of pages read from the file, as opposed to found in the cache, since it was opened.
+     */
+    public long getPagesRead() {
+        return pool.getPagesRead();
+    }
+
+    /**
+     * Returns the number of pages written to the file since it was opened.
+     */
+    public long getPagesWritten() {
+        return pool.getPagesWritten();
+    }
+
+    /**
+     * Flushes and closes the file.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Closes the file without writing the pages changed since the last flush, nor the header, e.g. after a change
+     * that failed halfway, which leaves the file as last flushed.
+     */
+    public void discardAndClose() throws IOException {
+        pool.discard();
+        channel.close();
+    }
+
+    private boolean isPage(int pageId) {
+        return pageId >= HEADER_PAGE && pageId < pageCount;
+    }
+
+    private void readHeader() throws IOException {
+        if (channel.size() < PAGE_SIZE) {
+            throw new PageFormatException("The file is shorter than its header");
+        }
+        ByteBuffer header = ByteBuffer.wrap(pool.read(HEADER_PAGE));
+        if (header.getInt() != MAGIC) {
+            throw new PageFormatException("Not a page file");
+        }
+        int version = header.getInt();
+        int pageSize = header.getInt();
+        if (version != VERSION || pageSize != PAGE_SIZE) {
+            throw new PageFormatException("Unsupported page file version " + version + " or page size " + pageSize);
+        }
+        pageCount = header.getInt();
+        freeListHead = header.getInt();
+        for (int i = 0; i < ROOT_COUNT; i++) {
+            roots[i] = header.getInt();
+        }
+        if (pageCount < 1) {
+            throw new PageFormatException("The header counts " + pageCount + " pages");
+        }
+        long size = (long) pageCount * PAGE_SIZE;
+        if (channel.size() > size) {
+            // Pages added by a change that was never flushed, which belong to nothing.
+            channel.truncate(size);
+        }
+        if (channel.size() % PAGE_SIZE != 0) {
+            throw new PageFormatException("The file size is not a multiple of the page size");
+        }
+    }
+
+    private void writeHeader() throws IOException {
+        byte[] page = new byte[PAGE_SIZE];
+        ByteBuffer header = ByteBuffer.wrap(page);
+        header.putInt(MAGIC).putInt(VERSION).putInt(PAGE_SIZE).putInt(pageCount).putInt(freeListHead);
+        for (int root : roots) {
+            header.putInt(root);
+        }
+        pool.write(HEADER_PAGE, page);
+    }
+}
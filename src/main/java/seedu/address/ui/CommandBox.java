@@ -1,34 +1,205 @@
 package seedu.address.ui;
 
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * Completions of the text typed so far are computed on a background thread and offered in a popup menu;
+ * pressing Tab accepts the first one.
+ * While a {@code find} command is being typed, the person list is filtered live: once typing pauses, the filter is
+ * evaluated on a background thread and only its result is applied on the FX thread.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
 
+    private static final Logger logger = LogsCenter.getLogger(CommandBox.class);
+
+    /** Computes completions off the FX thread; a single thread, so that requests are served in order. */
+    private static final ExecutorService completionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-completion");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** How long typing must pause before the live filter is evaluated. */
+    private static final long LIVE_FILTER_DELAY_MILLIS = 150;
+
+    /** Evaluates live filters off the FX thread; a single thread, so that a newer filter never runs concurrently. */
+    private static final ScheduledExecutorService liveFilterExecutor = Executors.newSingleThreadScheduledExecutor(
+        runnable -> {
+            Thread thread = new Thread(runnable, "live-filter");
+            thread.setDaemon(true);
+            return thread;
+        });
+
     private final CommandExecutor commandExecutor;
+    private final CommandCompleter commandCompleter;
+    private final FilterPreviewer filterPreviewer;
+    private final Consumer<Predicate<Person>> filterUpdater;
+    private final ContextMenu completionMenu = new ContextMenu();
+
+    /** The latest completion request, which is cancelled when the text changes again. Accessed on the FX thread. */
+    private Future<?> pendingCompletion;
+    private long latestCompletionRequest;
+
+    /** The latest live filter request, which is cancelled when the text changes again. Accessed on the FX thread. */
+    private Future<?> pendingLiveFilter;
+    private long latestLiveFilterRequest;
+    /** Whether the person list currently shows a live filter rather than the result of an executed command. */
+    private boolean isLiveFilterShown;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code CommandCompleter}.
+     * Live filters previewed by {@code filterPreviewer} are applied to the person list with {@code filterUpdater}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CommandCompleter commandCompleter,
+            FilterPreviewer filterPreviewer, Consumer<Predicate<Person>> filterUpdater) {
         super(FXML);
         this.commandExecutor = commandExecutor;
-        // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        this.commandCompleter = commandCompleter;
+        this.filterPreviewer = filterPreviewer;
+        this.filterUpdater = filterUpdater;
+        // calls #setStyleToDefault() and requests completions and a live filter whenever the text changes.
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> {
+            setStyleToDefault();
+            requestCompletions(newText);
+            requestLiveFilter(newText);
+        });
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, this::handleKeyPressed);
+    }
+
+    /**
+     * Accepts the first completion when Tab is pressed while completions are shown.
+     */
+    private void handleKeyPressed(KeyEvent event) {
+        if (event.getCode() != KeyCode.TAB || !completionMenu.isShowing() || completionMenu.getItems().isEmpty()) {
+            return;
+        }
+        completionMenu.getItems().get(0).fire();
+        event.consume();
+    }
+
+    /**
+     * Computes the completions of {@code commandText} in the background, cancelling any earlier request.
+     * The completions are only shown if the text has not changed again by the time they are ready.
+     */
+    private void requestCompletions(String commandText) {
+        long requestId = ++latestCompletionRequest;
+        if (pendingCompletion != null) {
+            pendingCompletion.cancel(true);
+        }
+        if (commandText.isEmpty()) {
+            pendingCompletion = null;
+            completionMenu.hide();
+            return;
+        }
+
+        pendingCompletion = completionExecutor.submit(() -> {
+            try {
+                List<String> completions = commandCompleter.complete(commandText);
+                Platform.runLater(() -> {
+                    if (requestId == latestCompletionRequest) {
+                        showCompletions(completions);
+                    }
+                });
+            } catch (RuntimeException e) {
+                logger.warning("Failed to complete " + commandText + ": " + StringUtil.getDetails(e));
+            }
+        });
+    }
+
+    private void showCompletions(List<String> completions) {
+        if (completions.isEmpty() || !commandTextField.isFocused()) {
+            completionMenu.hide();
+            return;
+        }
+
+        completionMenu.getItems().setAll(completions.stream().map(completion -> {
+            MenuItem item = new MenuItem(completion);
+            item.setOnAction(unused -> {
+                commandTextField.setText(completion);
+                commandTextField.positionCaret(completion.length());
+            });
+            return item;
+        }).collect(Collectors.toList()));
+        if (!completionMenu.isShowing()) {
+            completionMenu.show(commandTextField, Side.BOTTOM, 0, 0);
+        }
+    }
+
+    /**
+     * Evaluates the filter previewed for {@code commandText} in the background once typing pauses, cancelling any
+     * earlier request, including one that is still being evaluated.
+     * The filter is only applied if the text has not changed again by the time it is ready.
+     */
+    private void requestLiveFilter(String commandText) {
+        long requestId = ++latestLiveFilterRequest;
+        if (pendingLiveFilter != null) {
+            pendingLiveFilter.cancel(true);
+        }
+
+        pendingLiveFilter = liveFilterExecutor.schedule(() -> {
+            try {
+                Optional<Predicate<Person>> filter = filterPreviewer.preview(commandText);
+                Platform.runLater(() -> {
+                    if (requestId == latestLiveFilterRequest) {
+                        showLiveFilter(filter);
+                    }
+                });
+            } catch (InterruptedException e) {
+                // superseded by a newer request
+            } catch (RuntimeException e) {
+                logger.warning("Failed to filter for " + commandText + ": " + StringUtil.getDetails(e));
+            }
+        }, LIVE_FILTER_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Applies {@code filter} to the person list, or shows all persons again if there is no filter but a live filter
+     * is being shown.
+     */
+    private void showLiveFilter(Optional<Predicate<Person>> filter) {
+        if (filter.isPresent()) {
+            filterUpdater.accept(filter.get());
+            isLiveFilterShown = true;
+        } else if (isLiveFilterShown) {
+            filterUpdater.accept(PREDICATE_SHOW_ALL_PERSONS);
+            isLiveFilterShown = false;
+        }
     }
 
     /**
@@ -42,7 +213,10 @@ public class CommandBox extends UiPart<Region> {
         }
 
         try {
+            completionMenu.hide();
             commandExecutor.execute(commandText);
+            // the executed command has set the filter, which clearing the text must not undo
+            isLiveFilterShown = false;
             commandTextField.setText("");
         } catch (CommandException | ParseException e) {
             setStyleToIndicateCommandFailure();
@@ -82,4 +256,31 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that can complete partially typed commands. It is called off the FX thread.
+     */
+    @FunctionalInterface
+    public interface CommandCompleter {
+        /**
+         * Returns the completions of {@code commandText}.
+         *
+         * @see seedu.address.logic.Logic#getCompletions(String)
+         */
+        List<String> complete(String commandText);
+    }
+
+    /**
+     * Represents a function that can preview the filter a partially typed command would apply to the person list.
+     * It is called off the FX thread.
+     */
+    @FunctionalInterface
+    public interface FilterPreviewer {
+        /**
+         * Returns the filter {@code commandText} would apply, or an empty Optional if it would not filter persons.
+         *
+         * @see seedu.address.logic.Logic#previewFilter(String)
+         */
+        Optional<Predicate<Person>> preview(String commandText) throws InterruptedException;
+    }
+
 }
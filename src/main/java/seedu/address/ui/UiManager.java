@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -23,14 +25,25 @@ public class UiManager implements Ui {
     private static final String ICON_APPLICATION = "/images/address_book_32.png";
 
     private Logic logic;
+    private Future<?> modelLoader;
     private MainWindow mainWindow;
 
     /**
      * Creates a {@code UiManager} with the given {@code Logic}.
      */
     public UiManager(Logic logic) {
+        this(logic, CompletableFuture.completedFuture(null));
+    }
+
+    /**
+     * Creates a {@code UiManager} with the given {@code Logic}, whose model is still being loaded by
+     * {@code modelLoader}. The main window is built while the model is loaded, and only filled once
+     * {@code modelLoader} has completed.
+     */
+    public UiManager(Logic logic, Future<?> modelLoader) {
         super();
         this.logic = logic;
+        this.modelLoader = modelLoader;
     }
 
     @Override
@@ -42,6 +55,7 @@ public class UiManager implements Ui {
 
         try {
             mainWindow = new MainWindow(primaryStage, logic);
+            modelLoader.get();
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
 
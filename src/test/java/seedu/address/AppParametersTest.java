@@ -3,6 +3,7 @@ package seedu.address;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -37,8 +38,31 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_namedParametersMap_success() {
+        Map<String, String> namedParameters = new HashMap<>();
+        namedParameters.put("config", "config.json");
+        expected.setConfigPath(Paths.get("config.json"));
+        assertEquals(expected, AppParameters.parse(namedParameters));
+    }
+
+    @Test
+    public void parse_profileStartupFlag_success() {
+        parametersStub.unnamedParameters.add(AppParameters.FLAG_PROFILE_STARTUP);
+        expected.setStartupProfiled(true);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_otherParameters_flagsParsed() {
+        expected.setStartupProfiled(true);
+        assertEquals(expected, AppParameters.parse(new HashMap<>(),
+                List.of("--headless", AppParameters.FLAG_PROFILE_STARTUP)));
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
+        private List<String> unnamedParameters = new ArrayList<>();
 
         @Override
         public List<String> getRaw() {
@@ -47,7 +71,7 @@ public class AppParametersTest {
 
         @Override
         public List<String> getUnnamed() {
-            throw new AssertionError("should not be called");
+            return Collections.unmodifiableList(unnamedParameters);
         }
 
         @Override
@@ -0,0 +1,127 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.DeferredSaveStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+
+public class HeadlessAppTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    private Model model;
+    private Storage storage;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        storage = new StorageManager(new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+    }
+
+    @Test
+    public void run_validCommands_feedbackPrinted() throws Exception {
+        HeadlessApp app = new HeadlessApp(new LogicManager(model, storage), model, storage);
+        int failedCommands = run(app, "# comment\n\n" + ListCommand.COMMAND_WORD + "\n");
+
+        assertEquals(0, failedCommands);
+        assertEquals(ListCommand.MESSAGE_SUCCESS + System.lineSeparator(), out.toString());
+        assertEquals("", err.toString());
+    }
+
+    @Test
+    public void run_invalidCommand_errorPrintedAndCounted() throws Exception {
+        HeadlessApp app = new HeadlessApp(new LogicManager(model, storage), model, storage);
+        int failedCommands = run(app, "uicfhmowqewca\n" + ListCommand.COMMAND_WORD + "\n");
+
+        assertEquals(1, failedCommands);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND + System.lineSeparator(), err.toString());
+        assertEquals(ListCommand.MESSAGE_SUCCESS + System.lineSeparator(), out.toString());
+    }
+
+    @Test
+    public void run_unexpectedException_errorPrintedAndCountedAndRunContinues() throws Exception {
+        IllegalStateException exception = new IllegalStateException("broken");
+        Model failingModel = new ModelManager(getTypicalAddressBook(), new UserPrefs()) {
+            @Override
+            public void updateFilteredPersonList(Predicate<Person> predicate) {
+                throw exception;
+            }
+        };
+        HeadlessApp app = new HeadlessApp(new LogicManager(failingModel, storage), failingModel, storage);
+        int failedCommands = run(app, ListCommand.COMMAND_WORD + "\n" + ClearCommand.COMMAND_WORD + "\n");
+
+        assertEquals(1, failedCommands);
+        assertEquals(String.format(HeadlessApp.MESSAGE_UNEXPECTED_ERROR, ListCommand.COMMAND_WORD, exception)
+                + System.lineSeparator(), err.toString());
+        assertEquals(ClearCommand.MESSAGE_SUCCESS + System.lineSeparator(), out.toString());
+    }
+
+    @Test
+    public void run_exitCommand_remainingCommandsSkipped() throws Exception {
+        HeadlessApp app = new HeadlessApp(new LogicManager(model, storage), model, storage);
+        run(app, ExitCommand.COMMAND_WORD + "\n" + ClearCommand.COMMAND_WORD + "\n");
+
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void stop_deferredSave_dataFileWrittenOnce() throws Exception {
+        DeferredSaveStorage deferredStorage = new DeferredSaveStorage(storage);
+        HeadlessApp app = new HeadlessApp(new LogicManager(model, deferredStorage), model, deferredStorage);
+        run(app, ClearCommand.COMMAND_WORD + "\n");
+        assertFalse(Files.exists(storage.getAddressBookFilePath()));
+
+        app.stop();
+        assertTrue(Files.exists(storage.getAddressBookFilePath()));
+        assertEquals(model.getAddressBook(), new ModelManager(storage.readAddressBook().get(), new UserPrefs())
+                .getAddressBook());
+    }
+
+    @Test
+    public void parseNamedParameters() {
+        Map<String, String> namedParameters = HeadlessApp.parseNamedParameters(new String[] {
+            HeadlessApp.FLAG_HEADLESS, "--file=script.txt", "--save=exit", "unnamed", "--noValue"});
+
+        assertEquals(2, namedParameters.size());
+        assertEquals("script.txt", namedParameters.get("file"));
+        assertEquals("exit", namedParameters.get("save"));
+    }
+
+    private int run(HeadlessApp app, String script) throws Exception {
+        return app.run(new BufferedReader(new StringReader(script)), new PrintStream(out, true),
+                new PrintStream(err, true));
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class StartupProfilerTest {
+
+    @Test
+    public void format_phasesRecorded_listsPhasesInOrderWithThread() {
+        StartupProfiler profiler = new StartupProfiler();
+        long phaseStart = profiler.recordSince("config", System.nanoTime());
+        profiler.recordSince("prefs", phaseStart);
+
+        String report = profiler.format();
+        assertTrue(report.startsWith("Start-up phases:"));
+        assertTrue(report.indexOf("config") < report.indexOf("prefs"));
+        assertTrue(report.contains("[" + Thread.currentThread().getName() + "]"));
+    }
+
+    @Test
+    public void format_finished_includesTotal() {
+        StartupProfiler profiler = new StartupProfiler();
+        profiler.finish();
+
+        assertTrue(profiler.format().matches("Start-up took \\d+ ms:"));
+    }
+}
@@ -0,0 +1,149 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.AsyncLogHandler.OverflowPolicy;
+
+public class AsyncLogHandlerTest {
+
+    @Test
+    public void flush_recordsPublished_writesThemInOrderWithCaller() {
+        RecordingHandler delegate = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(16, OverflowPolicy.BLOCK, delegate);
+        Logger logger = Logger.getAnonymousLogger();
+        logger.setUseParentHandlers(false);
+        logger.addHandler(handler);
+        logger.info("first");
+        logger.info("second");
+        handler.flush();
+
+        assertEquals(List.of("first", "second"), delegate.getMessages());
+        assertEquals(AsyncLogHandlerTest.class.getName(), delegate.records.get(0).getSourceClassName());
+        assertEquals("flush_recordsPublished_writesThemInOrderWithCaller",
+                delegate.records.get(0).getSourceMethodName());
+        assertTrue(delegate.isFlushed);
+        handler.close();
+    }
+
+    @Test
+    public void publish_belowLevel_ignored() {
+        RecordingHandler delegate = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(16, OverflowPolicy.BLOCK, delegate);
+        handler.setLevel(Level.INFO);
+        handler.publish(new LogRecord(Level.FINE, "fine"));
+        handler.publish(new LogRecord(Level.WARNING, "warning"));
+        handler.flush();
+
+        assertEquals(List.of("warning"), delegate.getMessages());
+        handler.close();
+    }
+
+    @Test
+    public void publish_bufferFullWithDropPolicy_dropsRecordAndReportsCount() throws Exception {
+        RecordingHandler delegate = new RecordingHandler();
+        delegate.block();
+        AsyncLogHandler handler = new AsyncLogHandler(1, OverflowPolicy.DROP, delegate);
+        handler.publish(new LogRecord(Level.INFO, "written"));
+        delegate.entered.await();
+        handler.publish(new LogRecord(Level.INFO, "queued"));
+        handler.publish(new LogRecord(Level.INFO, "dropped"));
+        assertEquals(1, handler.getDroppedCount());
+
+        delegate.unblock();
+        handler.flush();
+        assertEquals(List.of("written", "1 log records dropped as the log queue was full", "queued"),
+                delegate.getMessages());
+        handler.close();
+    }
+
+    @Test
+    public void publish_bufferFullWithBlockPolicy_waitsForSpace() throws Exception {
+        RecordingHandler delegate = new RecordingHandler();
+        delegate.block();
+        AsyncLogHandler handler = new AsyncLogHandler(1, OverflowPolicy.BLOCK, delegate);
+        handler.publish(new LogRecord(Level.INFO, "written"));
+        delegate.entered.await();
+        handler.publish(new LogRecord(Level.INFO, "queued"));
+
+        Thread logger = new Thread(() -> handler.publish(new LogRecord(Level.INFO, "waiting")));
+        logger.start();
+        logger.join(200);
+        assertTrue(logger.isAlive());
+
+        delegate.unblock();
+        logger.join();
+        handler.flush();
+        assertEquals(List.of("written", "queued", "waiting"), delegate.getMessages());
+        handler.close();
+    }
+
+    @Test
+    public void close_recordsQueued_writesThemAndClosesHandlers() {
+        RecordingHandler delegate = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(16, OverflowPolicy.BLOCK, delegate);
+        handler.publish(new LogRecord(Level.INFO, "before close"));
+        handler.close();
+        handler.publish(new LogRecord(Level.INFO, "after close"));
+
+        assertEquals(List.of("before close"), delegate.getMessages());
+        assertTrue(delegate.isClosed);
+        assertFalse(delegate.isFlushed);
+    }
+
+    /**
+     * A handler that keeps the records it is given, and can be made to block until released.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<LogRecord> records = new CopyOnWriteArrayList<>();
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private CountDownLatch release = new CountDownLatch(0);
+        private volatile boolean isFlushed;
+        private volatile boolean isClosed;
+
+        void block() {
+            release = new CountDownLatch(1);
+        }
+
+        void unblock() {
+            release.countDown();
+        }
+
+        List<String> getMessages() {
+            return records.stream().map(LogRecord::getMessage).collect(Collectors.toList());
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            records.add(record);
+        }
+
+        @Override
+        public void flush() {
+            isFlushed = true;
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+    }
+}
@@ -11,7 +11,12 @@ public class ConfigTest {
     @Test
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Log overflow policy : DROP\n"
+                + "Preference file Location : preferences.json\n"
+                + "Metrics file Location : metrics.log\n"
+                + "Metrics dump interval (s) : 60\n"
+                + "Off-heap persons : false\n"
+                + "Data compression level : 0";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
@@ -0,0 +1,42 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.metrics.CommandMetrics.Phase;
+import seedu.address.commons.util.FileUtil;
+
+public class MetricsCenterTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void dump_newCommandsSinceLastDump_appendsSnapshot() throws Exception {
+        Path metricsFile = temporaryFolder.resolve("metrics.log");
+        Config config = new Config();
+        config.setMetricsFilePath(metricsFile);
+        config.setMetricsDumpIntervalSeconds(0);
+        MetricsCenter.init(config);
+
+        MetricsCenter.getCommandMetrics().recordDuration("dumpTest", Phase.PARSE, 1000);
+        MetricsCenter.dump();
+        String firstDump = FileUtil.readFromFile(metricsFile);
+        assertTrue(firstDump.contains("\ndumpTest: 1 parsed"));
+
+        // no commands since the last dump -> nothing appended
+        MetricsCenter.dump();
+        assertEquals(firstDump, FileUtil.readFromFile(metricsFile));
+
+        MetricsCenter.getCommandMetrics().recordDuration("dumpTest", Phase.PARSE, 1000);
+        MetricsCenter.dump();
+        String secondDump = FileUtil.readFromFile(metricsFile);
+        assertTrue(secondDump.startsWith(firstDump));
+        assertTrue(secondDump.contains("\ndumpTest: 2 parsed"));
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.commons.core.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.metrics.CommandMetrics.Phase;
+
+public class CommandMetricsTest {
+
+    private final CommandMetrics metrics = new CommandMetrics();
+
+    @Test
+    public void format_noCommands_showsNoCommandsMessage() {
+        assertEquals("No commands have been executed yet.", metrics.format());
+        assertEquals(0, metrics.getCommandCount());
+    }
+
+    @Test
+    public void format_recordedCommands_showsRecordedPhasesInCommandWordOrder() {
+        metrics.recordDuration("list", Phase.PARSE, 2_000_000);
+        metrics.recordDuration("list", Phase.EXECUTE, 3_000_000);
+        metrics.recordAllocation("list", 2048);
+        metrics.recordDuration("add", Phase.PARSE, 1_000_000);
+        metrics.recordFailure("add");
+
+        String report = metrics.format();
+        assertTrue(report.indexOf("\nadd: 1 parsed, 1 failed") < report.indexOf("\nlist: 1 parsed, 0 failed"));
+        assertTrue(report.contains("\n  parse 2.000 / 2.000 / 2.000"));
+        assertTrue(report.contains("\n  execute 3.000 / 3.000 / 3.000"));
+        assertTrue(report.contains("\n  allocated 2.0 KB median, 2.0 KB max"));
+        assertFalse(report.contains("save"));
+        assertEquals(3, metrics.getCommandCount());
+    }
+
+    @Test
+    public void recordSince_returnsEndOfRecordedPhase() {
+        long start = System.nanoTime();
+        long end = metrics.recordSince("list", Phase.SAVE, start);
+        assertTrue(end >= start);
+        assertTrue(metrics.format().contains("\n  save "));
+    }
+
+    @Test
+    public void format_skippedSaves_showsSkippedSaveCount() {
+        metrics.recordDuration("edit", Phase.SAVE, 1_000_000);
+        assertFalse(metrics.format().contains("skipped"));
+
+        metrics.recordSkippedSave();
+        metrics.recordSkippedSave();
+        assertEquals(2, metrics.getSkippedSaveCount());
+        assertTrue(metrics.format().endsWith("\n2 saves skipped, as nothing had changed"));
+    }
+
+    @Test
+    public void getAllocatedBytes_afterAllocating_increases() {
+        long before = CommandMetrics.getAllocatedBytes();
+        byte[][] garbage = new byte[16][];
+        for (int i = 0; i < garbage.length; i++) {
+            garbage[i] = new byte[1024];
+        }
+        long after = CommandMetrics.getAllocatedBytes();
+        assertTrue(before == -1 || after - before >= garbage.length * 1024);
+    }
+}
@@ -1,9 +1,13 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 
 import org.junit.jupiter.api.Test;
 
@@ -39,6 +43,21 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void saveJsonFileIfChanged_sameContent_fileNotRewritten() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{}");
+
+        assertTrue(JsonUtil.saveJsonFileIfChanged(serializableTestClass, SERIALIZATION_FILE));
+        assertEquals(SerializableTestClass.JSON_STRING_REPRESENTATION, FileUtil.readFromFile(SERIALIZATION_FILE));
+
+        FileTime lastModified = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(SERIALIZATION_FILE, lastModified);
+        assertFalse(JsonUtil.saveJsonFileIfChanged(serializableTestClass, SERIALIZATION_FILE));
+        assertEquals(lastModified, Files.getLastModifiedTime(SERIALIZATION_FILE));
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
@@ -0,0 +1,67 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.PersonBuilder;
+
+public class CommandCompleterTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final CommandCompleter completer =
+            new CommandCompleter(new AddressBookParser().getCommandWords(), model);
+
+    @Test
+    public void complete_partialCommandWord_returnsCommandWords() {
+        assertEquals(List.of("delete"), completer.complete("del"));
+        assertTrue(completer.complete("e").contains("edit"));
+
+        // complete command word -> no completions
+        assertEquals(List.of(), completer.complete("list"));
+        assertEquals(List.of(), completer.complete(""));
+    }
+
+    @Test
+    public void complete_nameValue_returnsPersonNames() {
+        assertEquals(List.of("find n/Alice Pauline"), completer.complete("find n/ali"));
+        assertEquals(List.of("add n/Daniel Meier"), completer.complete("add n/daniel"));
+    }
+
+    @Test
+    public void complete_tagValue_returnsTagNames() {
+        assertEquals(List.of("add n/Amy t/friends"), completer.complete("add n/Amy t/fr"));
+        assertEquals(List.of("add n/Amy t/owesMoney"), completer.complete("add n/Amy t/o"));
+
+        // tag value containing whitespace -> completes prefixes of the last word only
+        assertEquals(List.of(), completer.complete("add t/fr x"));
+    }
+
+    @Test
+    public void complete_partialPrefix_returnsPrefixes() {
+        assertEquals(List.of("add n/Amy t/"), completer.complete("add n/Amy t"));
+    }
+
+    @Test
+    public void complete_changedPersons_followsModel() {
+        model.addPerson(new PersonBuilder().withName("Zelda Tan").withTags("rival").build());
+        assertEquals(List.of("find n/Zelda Tan"), completer.complete("find n/Z"));
+        assertEquals(List.of("edit 1 t/rival"), completer.complete("edit 1 t/ri"));
+    }
+
+    @Test
+    public void complete_manyMatches_returnsAtMostMaxCompletions() {
+        for (int i = 0; i < 2 * CommandCompleter.MAX_COMPLETIONS; i++) {
+            model.addPerson(new PersonBuilder().withName("Zed " + i).build());
+        }
+        assertEquals(CommandCompleter.MAX_COMPLETIONS, completer.complete("find n/zed").size());
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -8,15 +9,26 @@ import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.commons.core.metrics.CommandMetrics;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
@@ -68,6 +80,19 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_validCommand_recordsMetrics() throws Exception {
+        CommandMetrics metrics = MetricsCenter.getCommandMetrics();
+        long commandCount = metrics.getCommandCount();
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+        assertEquals(commandCount + 2, metrics.getCommandCount());
+
+        String report = metrics.format();
+        assertTrue(report.contains("\n" + ListCommand.COMMAND_WORD + ": "));
+        assertTrue(report.contains("\n" + LogicManager.UNKNOWN_COMMAND_METRICS_KEY + ": "));
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         // Setup LogicManager with JsonAddressBookIoExceptionThrowingStub
@@ -88,11 +113,58 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_whileRecording_recordsFlightRecorderEvents() throws Exception {
+        Path recordingFile = temporaryFolder.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("seedu.address.CommandExecution");
+            recording.enable("seedu.address.AddressBookSave");
+            recording.enable("seedu.address.PersonListChange");
+            recording.start();
+            logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                    + ADDRESS_DESC_AMY);
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        Map<String, RecordedEvent> events = new HashMap<>();
+        RecordingFile.readAllEvents(recordingFile).forEach(event -> events.put(event.getEventType().getName(), event));
+        RecordedEvent command = events.get("seedu.address.CommandExecution");
+        assertEquals(AddCommand.COMMAND_WORD, command.getString("commandWord"));
+        assertTrue(command.getBoolean("succeeded"));
+        assertEquals(1, command.getInt("recordCount"));
+
+        RecordedEvent save = events.get("seedu.address.AddressBookSave");
+        assertEquals(1, save.getInt("recordCount"));
+        assertTrue(save.getLong("byteCount") > 0);
+        assertEquals("add", events.get("seedu.address.PersonListChange").getString("operation"));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void previewFilter_findCommand_returnsFilterWithoutExecuting() throws Exception {
+        model.addPerson(ALICE);
+        model.addPerson(BENSON);
+
+        Predicate<Person> filter = logic.previewFilter("find alice").get();
+        assertEquals(List.of(ALICE, BENSON), logic.getFilteredPersonList());
+
+        logic.updateFilteredPersonList(filter);
+        assertEquals(List.of(ALICE), logic.getFilteredPersonList());
+    }
+
+    @Test
+    public void previewFilter_notFindCommand_returnsEmpty() throws Exception {
+        assertTrue(logic.previewFilter("list").isEmpty());
+        assertTrue(logic.previewFilter("find").isEmpty());
+        assertTrue(logic.previewFilter("fin").isEmpty());
+        assertTrue(logic.previewFilter("").isEmpty());
+    }
+
     /**
      * Executes the command and confirms that
      * - no exceptions are thrown <br>
@@ -0,0 +1,196 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.PersonArchive;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.storage.ArchiveFile;
+import seedu.address.testutil.EditPersonDescriptorBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model and the archive file) and unit tests for
+ * {@code ArchiveCommand} and {@code UnarchiveCommand}.
+ */
+public class ArchiveCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_archiveThenUnarchive_movesPersonThroughArchiveFile() throws Exception {
+        Path archiveFilePath = testFolder.resolve("addressbook" + ArchiveFile.FILE_ENDING);
+        ModelManager model = createModel(archiveFilePath);
+
+        CommandResult result = new ArchiveCommand(INDEX_FIRST_PERSON).execute(model);
+        assertEquals(String.format(ArchiveCommand.MESSAGE_ARCHIVE_PERSON_SUCCESS, ALICE), result.getFeedbackToUser());
+        assertFalse(model.hasPerson(ALICE));
+        assertTrue(Files.exists(archiveFilePath));
+
+        // a new model reads the archive only when asked to
+        model = createModel(archiveFilePath);
+        model.deletePerson(ALICE);
+        result = new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("alice", "benson")), true)
+                .execute(model);
+        assertEquals(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, 1)
+                + String.format(FindCommand.MESSAGE_ARCHIVED_PERSONS_FOUND, 1, ALICE.getName()),
+                result.getFeedbackToUser());
+
+        // names that differ only in case are different persons
+        assertCommandFailure(new UnarchiveCommand(new Name("ALICE pauline")), model,
+                String.format(UnarchiveCommand.MESSAGE_NOT_ARCHIVED, "ALICE pauline"));
+        result = new UnarchiveCommand(ALICE.getName()).execute(model);
+        assertEquals(String.format(UnarchiveCommand.MESSAGE_UNARCHIVE_PERSON_SUCCESS, ALICE),
+                result.getFeedbackToUser());
+        assertTrue(model.hasPerson(ALICE));
+        assertEquals(List.of(), model.getArchivedPersons());
+
+        // the archive file still has the person until the archive is saved
+        assertEquals(List.of(ALICE), new ArchiveFile(archiveFilePath).read());
+        model.saveArchive();
+        assertEquals(List.of(), new ArchiveFile(archiveFilePath).read());
+    }
+
+    @Test
+    public void execute_identicalPersonInArchiveAndAddressBook_leftOutOfArchive() throws Exception {
+        // as left by a crash between archiving a person and saving the address book
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        new ArchiveCommand(INDEX_SECOND_PERSON).execute(model);
+        model.addPerson(BENSON);
+
+        assertEquals(List.of(), model.getArchivedPersons());
+        assertCommandFailure(new UnarchiveCommand(BENSON.getName()), model,
+                String.format(UnarchiveCommand.MESSAGE_NOT_ARCHIVED, BENSON.getName()));
+    }
+
+    @Test
+    public void execute_differentPersonWithSameNameInAddressBook_keptInArchive() throws Exception {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        new ArchiveCommand(INDEX_SECOND_PERSON).execute(model);
+        Person otherBenson = new PersonBuilder(BENSON).withPhone("99999999").build();
+        model.addPerson(otherBenson);
+
+        assertEquals(List.of(BENSON), model.getArchivedPersons());
+        assertCommandFailure(new UnarchiveCommand(BENSON.getName()), model,
+                String.format(UnarchiveCommand.MESSAGE_DUPLICATE_PERSON, BENSON.getName()));
+        assertEquals(List.of(BENSON), model.getArchivedPersons());
+    }
+
+    @Test
+    public void execute_addOrRenameToArchivedName_throwsCommandException() throws Exception {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        new ArchiveCommand(INDEX_SECOND_PERSON).execute(model);
+        String expectedMessage = String.format(Messages.MESSAGE_ARCHIVED_PERSON, BENSON.getName());
+
+        assertCommandFailure(new AddCommand(new PersonBuilder(BENSON).withPhone("99999999").build()), model,
+                expectedMessage);
+        assertCommandFailure(new EditCommand(INDEX_FIRST_PERSON,
+                new EditPersonDescriptorBuilder().withName(BENSON.getName().fullName).build()), model,
+                expectedMessage);
+        assertEquals(List.of(BENSON), model.getArchivedPersons());
+    }
+
+    @Test
+    public void execute_sameNameArchivedTwice_unarchivesLatest() throws Exception {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        new ArchiveCommand(INDEX_FIRST_PERSON).execute(model);
+        model.addPerson(new PersonBuilder(ALICE).withPhone("99999999").build());
+        new ArchiveCommand(Index.fromOneBased(model.getFilteredPersonList().size())).execute(model);
+
+        new UnarchiveCommand(ALICE.getName()).execute(model);
+        assertEquals("99999999", model.getFilteredPersonList().get(model.getFilteredPersonList().size() - 1)
+                .getPhone().value);
+        assertEquals(List.of(), model.getArchivedPersons());
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        assertCommandFailure(new ArchiveCommand(outOfBoundIndex), model,
+                Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_notArchived_throwsCommandException() {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        assertCommandFailure(new UnarchiveCommand(ALICE.getName()), model,
+                String.format(UnarchiveCommand.MESSAGE_NOT_ARCHIVED, ALICE.getName()));
+    }
+
+    @Test
+    public void execute_damagedArchive_throwsCommandException() throws Exception {
+        Path archiveFilePath = testFolder.resolve("damaged" + ArchiveFile.FILE_ENDING);
+        Files.writeString(archiveFilePath, "not compressed");
+        ModelManager model = createModel(archiveFilePath);
+        new ArchiveCommand(INDEX_FIRST_PERSON).execute(model);
+
+        assertThrows(CommandException.class, () -> new UnarchiveCommand(ALICE.getName()).execute(model));
+        assertThrows(CommandException.class, () ->
+                new FindCommand(new NameContainsKeywordsPredicate(List.of("alice")), true).execute(model));
+    }
+
+    @Test
+    public void execute_archiveCutShort_addChecksArchivedNames() throws Exception {
+        // as left by a crash in the middle of archiving a person
+        Path archiveFilePath = testFolder.resolve("addressbook" + ArchiveFile.FILE_ENDING);
+        ModelManager model = createModel(archiveFilePath);
+        new ArchiveCommand(INDEX_FIRST_PERSON).execute(model);
+        byte[] content = Files.readAllBytes(archiveFilePath);
+        Files.write(archiveFilePath, Arrays.copyOf(content, content.length - 1));
+
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        PersonArchive personArchive = new PersonArchive(new ArchiveFile(archiveFilePath));
+        model.setPersonArchive(personArchive);
+        model.deletePerson(ALICE);
+        Person newPerson = new PersonBuilder().withName("Someone New").build();
+        new AddCommand(newPerson).execute(model);
+        assertTrue(model.hasPerson(newPerson));
+        assertCommandFailure(new AddCommand(ALICE), model,
+                String.format(Messages.MESSAGE_ARCHIVED_PERSON, ALICE.getName()));
+        assertFalse(personArchive.isLoaded());
+    }
+
+    @Test
+    public void equals() {
+        ArchiveCommand archiveFirstCommand = new ArchiveCommand(INDEX_FIRST_PERSON);
+        assertTrue(archiveFirstCommand.equals(new ArchiveCommand(INDEX_FIRST_PERSON)));
+        assertFalse(archiveFirstCommand.equals(new ArchiveCommand(INDEX_SECOND_PERSON)));
+        assertFalse(archiveFirstCommand.equals(new DeleteCommand(INDEX_FIRST_PERSON)));
+
+        UnarchiveCommand unarchiveAliceCommand = new UnarchiveCommand(ALICE.getName());
+        assertTrue(unarchiveAliceCommand.equals(new UnarchiveCommand(ALICE.getName())));
+        assertFalse(unarchiveAliceCommand.equals(new UnarchiveCommand(BENSON.getName())));
+        assertFalse(unarchiveAliceCommand.equals(null));
+    }
+
+    private static ModelManager createModel(Path archiveFilePath) {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.setPersonArchive(new PersonArchive(new ArchiveFile(archiveFilePath)));
+        return model;
+    }
+}
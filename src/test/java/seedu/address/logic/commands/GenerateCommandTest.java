@@ -0,0 +1,51 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class GenerateCommandTest {
+
+    @Test
+    public void execute_keepsExistingPersonsAndAddsGeneratedPersons() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        int existingCount = model.getAddressBook().getPersonList().size();
+
+        CommandResult result = new GenerateCommand(200, 1).execute(model);
+
+        assertEquals(String.format(GenerateCommand.MESSAGE_SUCCESS, 200, 1), result.getFeedbackToUser());
+        assertEquals(existingCount + 200, model.getAddressBook().getPersonList().size());
+        assertTrue(model.getAddressBook().getPersonList().containsAll(getTypicalAddressBook().getPersonList()));
+    }
+
+    @Test
+    public void execute_sameSeedTwice_skipsPersonsAlreadyGenerated() {
+        Model model = new ModelManager(new AddressBook(), new UserPrefs());
+        new GenerateCommand(50, 1).execute(model);
+
+        CommandResult result = new GenerateCommand(60, 1).execute(model);
+
+        assertEquals(String.format(GenerateCommand.MESSAGE_SUCCESS, 10, 1)
+                + String.format(GenerateCommand.MESSAGE_SKIPPED_DUPLICATES, 50), result.getFeedbackToUser());
+        assertEquals(60, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void equals() {
+        GenerateCommand generateCommand = new GenerateCommand(10, 1);
+
+        assertTrue(generateCommand.equals(generateCommand));
+        assertTrue(generateCommand.equals(new GenerateCommand(10, 1)));
+        assertFalse(generateCommand.equals(new GenerateCommand(11, 1)));
+        assertFalse(generateCommand.equals(new GenerateCommand(10, 2)));
+        assertFalse(generateCommand.equals(null));
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.testutil.PersonBuilder;
+
+public class ReportCommandTest {
+
+    private static final Clock CLOCK = Clock.fixed(
+            LocalDateTime.of(2022, 3, 1, 12, 0).toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+    @Test
+    public void execute_tagsReport_listsTagsByDecreasingCount() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        CommandResult result = ReportCommand.tags().execute(model);
+
+        assertEquals(ReportCommand.MESSAGE_TAGS_HEADER
+                + String.format(ReportCommand.MESSAGE_ROW, "friends", 3)
+                + String.format(ReportCommand.MESSAGE_ROW, "owesMoney", 1), result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_tagsReportWithoutTags_showsNoTags() {
+        CommandResult result = ReportCommand.tags().execute(new ModelManager(new AddressBook(), new UserPrefs()));
+
+        assertEquals(ReportCommand.MESSAGE_NO_TAGS, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_meetingsReport_listsEveryDayFromToday() {
+        Model model = new ModelManager();
+        model.addPerson(new PersonBuilder(ALICE).withAppointment(new Appointment("01-Mar-2022 09:00")).build());
+        model.addPerson(new PersonBuilder(BENSON).withAppointment(new Appointment("03-Mar-2022 14:30")).build());
+        model.addPerson(new PersonBuilder(CARL).withAppointment(new Appointment("04-Mar-2022 10:00")).build());
+
+        CommandResult result = new ReportCommand(ReportCommand.Report.MEETINGS, 3, CLOCK).execute(model);
+
+        assertEquals(String.format(ReportCommand.MESSAGE_MEETINGS_HEADER, "Tue 01-Mar-2022", "Thu 03-Mar-2022", 2)
+                + String.format(ReportCommand.MESSAGE_ROW, "Tue 01-Mar-2022", 1)
+                + String.format(ReportCommand.MESSAGE_ROW, "Wed 02-Mar-2022", 0)
+                + String.format(ReportCommand.MESSAGE_ROW, "Thu 03-Mar-2022", 1), result.getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        ReportCommand meetingsCommand = ReportCommand.meetings(7);
+
+        assertTrue(meetingsCommand.equals(meetingsCommand));
+        assertTrue(meetingsCommand.equals(new ReportCommand(ReportCommand.Report.MEETINGS, 7, CLOCK)));
+        assertTrue(ReportCommand.tags().equals(ReportCommand.tags()));
+        assertFalse(meetingsCommand.equals(ReportCommand.meetings(8)));
+        assertFalse(meetingsCommand.equals(ReportCommand.tags()));
+        assertFalse(meetingsCommand.equals(null));
+    }
+}
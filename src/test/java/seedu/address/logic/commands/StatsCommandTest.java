@@ -0,0 +1,35 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.metrics.CommandMetrics;
+import seedu.address.commons.core.metrics.CommandMetrics.Phase;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+
+    @Test
+    public void execute_showsCommandMetrics() {
+        CommandMetrics metrics = new CommandMetrics();
+        metrics.recordDuration(ListCommand.COMMAND_WORD, Phase.EXECUTE, 1_500_000);
+
+        CommandResult result = new StatsCommand(metrics).execute(new ModelManager());
+        assertEquals(metrics.format(), result.getFeedbackToUser());
+        assertTrue(result.getFeedbackToUser().contains("\n  execute 1.500 / 1.500 / 1.500"));
+    }
+
+    @Test
+    public void equals() {
+        CommandMetrics metrics = new CommandMetrics();
+        StatsCommand statsCommand = new StatsCommand(metrics);
+
+        assertTrue(statsCommand.equals(statsCommand));
+        assertTrue(statsCommand.equals(new StatsCommand(metrics)));
+        assertFalse(statsCommand.equals(new StatsCommand(new CommandMetrics())));
+        assertFalse(statsCommand.equals(null));
+    }
+}
@@ -9,20 +9,27 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ArchiveCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.GenerateCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ReportCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UnarchiveCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
@@ -53,6 +60,20 @@ public class AddressBookParserTest {
         assertEquals(new DeleteCommand(INDEX_FIRST_PERSON), command);
     }
 
+    @Test
+    public void parseCommand_archive() throws Exception {
+        ArchiveCommand command = (ArchiveCommand) parser.parseCommand(
+                ArchiveCommand.COMMAND_WORD + " " + INDEX_FIRST_PERSON.getOneBased());
+        assertEquals(new ArchiveCommand(INDEX_FIRST_PERSON), command);
+    }
+
+    @Test
+    public void parseCommand_unarchive() throws Exception {
+        UnarchiveCommand command = (UnarchiveCommand) parser.parseCommand(
+                UnarchiveCommand.COMMAND_WORD + " Alice Pauline ");
+        assertEquals(new UnarchiveCommand(new Name("Alice Pauline")), command);
+    }
+
     @Test
     public void parseCommand_edit() throws Exception {
         Person person = new PersonBuilder().build();
@@ -76,6 +97,16 @@ public class AddressBookParserTest {
         assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_generate() throws Exception {
+        assertEquals(new GenerateCommand(100, 7), parser.parseCommand(GenerateCommand.COMMAND_WORD + " 100 7"));
+    }
+
+    @Test
+    public void parseCommand_report() throws Exception {
+        assertEquals(ReportCommand.meetings(14), parser.parseCommand(ReportCommand.COMMAND_WORD + " meetings 14"));
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
@@ -98,4 +129,34 @@ public class AddressBookParserTest {
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
     }
+
+    @Test
+    public void parseCommand_whitespaceAroundCommandWord_success() throws Exception {
+        String userInput = "  " + DeleteCommand.COMMAND_WORD + "\t" + INDEX_FIRST_PERSON.getOneBased() + "  ";
+        assertEquals(new DeleteCommand(INDEX_FIRST_PERSON), parser.parseCommand(userInput));
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+    }
+
+    @Test
+    public void getCommandWord() {
+        assertEquals(Optional.of(DeleteCommand.COMMAND_WORD), parser.getCommandWord(" delete 1 "));
+        assertEquals(Optional.of(ListCommand.COMMAND_WORD), parser.getCommandWord(ListCommand.COMMAND_WORD));
+        assertEquals(Optional.empty(), parser.getCommandWord("unknownCommand 1"));
+        assertEquals(Optional.empty(), parser.getCommandWord(""));
+    }
+
+    @Test
+    public void parseCommand_registeredCommand_usesRegisteredParser() throws Exception {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register("bye", arguments -> new ExitCommand());
+        AddressBookParser customParser = new AddressBookParser(registry);
+
+        assertTrue(customParser.parseCommand("bye now") instanceof ExitCommand);
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> customParser.parseCommand(
+                ListCommand.COMMAND_WORD));
+    }
 }
@@ -136,6 +136,30 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesSharingStart_longestPrefixMatched() {
+        Prefix dashTag = new Prefix("-tag");
+        String argsString = "preamble -tag tag value -t dashT value";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, dashT, dashTag);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, dashTag, "tag value");
+        assertArgumentPresent(argMultimap, dashT, "dashT value");
+    }
+
+    @Test
+    public void tokenize_manyRepeatedArguments_allValuesInOrder() {
+        StringBuilder argsString = new StringBuilder("preamble");
+        String[] expectedValues = new String[1000];
+        for (int i = 0; i < expectedValues.length; i++) {
+            expectedValues[i] = "value" + i;
+            argsString.append(" -t ").append(expectedValues[i]);
+        }
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString.toString(), dashT, pSlash);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, dashT, expectedValues);
+        assertArgumentAbsent(argMultimap, pSlash);
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -0,0 +1,51 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ListCommand;
+
+public class CommandRegistryTest {
+
+    private final CommandRegistry registry = new CommandRegistry();
+
+    @Test
+    public void register_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> registry.register(null, arguments -> new ListCommand()));
+        assertThrows(NullPointerException.class, () -> registry.register(ListCommand.COMMAND_WORD, null));
+    }
+
+    @Test
+    public void register_duplicateCommandWord_throwsIllegalArgumentException() {
+        registry.register(ListCommand.COMMAND_WORD, arguments -> new ListCommand());
+        Parser<Command> otherParser = arguments -> new ClearCommand();
+        assertThrows(IllegalArgumentException.class, () -> registry.register(ListCommand.COMMAND_WORD, otherParser));
+    }
+
+    @Test
+    public void getParser_registeredCommandWord_returnsSameParser() {
+        Parser<Command> parser = arguments -> new ListCommand();
+        registry.register(ListCommand.COMMAND_WORD, parser);
+        assertSame(parser, registry.getParser(ListCommand.COMMAND_WORD).get());
+        assertSame(parser, registry.getParser(ListCommand.COMMAND_WORD).get());
+    }
+
+    @Test
+    public void getParser_unregisteredCommandWord_returnsEmpty() {
+        assertFalse(registry.getParser(ListCommand.COMMAND_WORD).isPresent());
+    }
+
+    @Test
+    public void createDefault_builtInCommandsRegistered() {
+        CommandRegistry defaultRegistry = CommandRegistry.createDefault();
+        assertTrue(defaultRegistry.getParser(AddCommand.COMMAND_WORD).get() instanceof AddCommandParser);
+        assertTrue(defaultRegistry.getParser(ListCommand.COMMAND_WORD).isPresent());
+    }
+}
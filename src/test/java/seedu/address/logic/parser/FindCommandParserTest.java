@@ -31,4 +31,18 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_archivedFlag_returnsFindCommandSearchingArchive() {
+        assertParseSuccess(parser, FindCommand.ARCHIVED_FLAG + " Alice Bob",
+                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob")), true));
+
+        // only a flag before the keywords
+        assertParseSuccess(parser, "Alice " + FindCommand.ARCHIVED_FLAG,
+                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Alice", FindCommand.ARCHIVED_FLAG))));
+
+        // no keywords
+        assertParseFailure(parser, FindCommand.ARCHIVED_FLAG + "  ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
 }
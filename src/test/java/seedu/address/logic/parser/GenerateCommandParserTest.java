@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.GenerateCommand;
+import seedu.address.model.util.SyntheticPersonGenerator;
+
+public class GenerateCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, GenerateCommand.MESSAGE_USAGE);
+
+    private GenerateCommandParser parser = new GenerateCommandParser();
+
+    @Test
+    public void parse_countOnly_usesDefaultSeed() {
+        assertParseSuccess(parser, " 500",
+                new GenerateCommand(500, new SyntheticPersonGenerator.Settings().getSeed()));
+    }
+
+    @Test
+    public void parse_countAndSeed_returnsGenerateCommand() {
+        assertParseSuccess(parser, " 500  -3 ", new GenerateCommand(500, -3));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 0", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " many", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " " + (GenerateCommand.MAX_COUNT + 1), MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 10 seed", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 10 1 2", MESSAGE_INVALID_FORMAT);
+    }
+}
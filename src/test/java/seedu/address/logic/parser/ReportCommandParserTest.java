@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ReportCommand;
+
+public class ReportCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ReportCommand.MESSAGE_USAGE);
+
+    private ReportCommandParser parser = new ReportCommandParser();
+
+    @Test
+    public void parse_tags_returnsTagsReport() {
+        assertParseSuccess(parser, " tags ", ReportCommand.tags());
+    }
+
+    @Test
+    public void parse_meetings_returnsMeetingsReport() {
+        assertParseSuccess(parser, " meetings", ReportCommand.meetings(ReportCommand.DEFAULT_DAYS));
+        assertParseSuccess(parser, " meetings  7 ", ReportCommand.meetings(7));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " clients", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " tags 7", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " meetings 0", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " meetings " + (ReportCommand.MAX_DAYS + 1), MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " meetings week", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " meetings 7 7", MESSAGE_INVALID_FORMAT);
+    }
+}
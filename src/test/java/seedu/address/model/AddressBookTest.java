@@ -7,6 +7,8 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
@@ -18,8 +20,11 @@ import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.OffHeapPerson;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.util.OffHeapStore;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -54,6 +59,33 @@ public class AddressBookTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void offHeapStore_changes_keepsEqualPersonsOffHeap() {
+        OffHeapStore store = new OffHeapStore();
+        AddressBook offHeapBook = new AddressBook(store);
+        offHeapBook.resetData(getTypicalAddressBook());
+        assertEquals(getTypicalAddressBook(), offHeapBook);
+
+        List<Person> before = List.copyOf(offHeapBook.getPersonList());
+
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        offHeapBook.setPerson(ALICE, editedAlice);
+        offHeapBook.removePerson(BENSON);
+        offHeapBook.addPerson(BOB);
+        assertThrows(DuplicatePersonException.class, () -> offHeapBook.addPerson(BOB));
+
+        assertTrue(offHeapBook.getPersonList().stream().allMatch(person -> person instanceof OffHeapPerson));
+        assertEquals(editedAlice, offHeapBook.getPersonList().get(0));
+        assertFalse(offHeapBook.hasPerson(BENSON));
+        assertTrue(offHeapBook.hasPerson(BOB));
+        // the replaced and removed persons were released, but can still be read
+        assertEquals(getTypicalAddressBook().getPersonList(), before);
+
+        offHeapBook.resetData(new AddressBook());
+        assertEquals(0, store.getUsedBytes());
+        assertEquals(getTypicalAddressBook().getPersonList(), before);
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
@@ -78,6 +110,42 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getVersion_changes_incremented() {
+        long version = addressBook.getVersion();
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build());
+        assertTrue(addressBook.getVersion() > version);
+
+        // appointments are not compared by Person#equals, but are a change
+        Person editedAlice = addressBook.getPersonList().get(0);
+        version = addressBook.getVersion();
+        addressBook.setPerson(editedAlice, new PersonBuilder(editedAlice).withAppointment(
+                new Appointment("03-Jan-2022 10:00")).build());
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.resetData(getTypicalAddressBook());
+        assertTrue(addressBook.getVersion() > version);
+    }
+
+    @Test
+    public void getVersion_identicalReplacements_unchanged() {
+        addressBook.resetData(getTypicalAddressBook());
+        long version = addressBook.getVersion();
+
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).build());
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(version, addressBook.getVersion());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -97,6 +165,11 @@ public class AddressBookTest {
         public ObservableList<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 
 }
@@ -0,0 +1,57 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+
+public class EvaluatedPersonPredicateTest {
+
+    private static final List<Person> SNAPSHOT = List.of(ALICE, BENSON, CARL);
+
+    private final AtomicInteger originalTests = new AtomicInteger();
+    private final Predicate<Person> original = person -> {
+        originalTests.incrementAndGet();
+        return person.getName().fullName.contains("e");
+    };
+
+    private EvaluatedPersonPredicate evaluated() {
+        BitSet matches = new BitSet();
+        for (int i = 0; i < SNAPSHOT.size(); i++) {
+            matches.set(i, SNAPSHOT.get(i).getName().fullName.contains("e"));
+        }
+        return new EvaluatedPersonPredicate(original, SNAPSHOT, matches);
+    }
+
+    private static List<Person> filter(List<Person> persons, Predicate<Person> predicate) {
+        return persons.stream().filter(predicate).collect(Collectors.toList());
+    }
+
+    @Test
+    public void test_snapshotInOrder_usesPrecomputedResults() {
+        EvaluatedPersonPredicate predicate = evaluated();
+        assertEquals(List.of(ALICE, BENSON), filter(SNAPSHOT, predicate));
+
+        // filtering again from the start
+        assertEquals(List.of(ALICE, BENSON), filter(SNAPSHOT, predicate));
+        assertEquals(0, originalTests.get());
+    }
+
+    @Test
+    public void test_changedList_fallsBackToOriginalPredicate() {
+        EvaluatedPersonPredicate predicate = evaluated();
+        assertEquals(List.of(DANIEL, BENSON), filter(List.of(CARL, DANIEL, BENSON), predicate));
+        assertEquals(3, originalTests.get());
+    }
+}
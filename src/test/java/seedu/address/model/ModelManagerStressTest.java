@@ -0,0 +1,89 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Stress-tests {@code ModelManager} with concurrent writers and snapshot readers.
+ */
+public class ModelManagerStressTest {
+
+    private static final int WRITER_COUNT = 6;
+    private static final int READER_COUNT = 3;
+    private static final int PERSONS_PER_WRITER = 150;
+    private static final String EDITED_PHONE = "99999999";
+
+    private final ModelManager model = new ModelManager();
+
+    @Test
+    public void concurrentWritersAndReaders_noLostUpdates() throws Exception {
+        ExecutorService threads = Executors.newFixedThreadPool(WRITER_COUNT + READER_COUNT);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        AtomicBoolean writersDone = new AtomicBoolean(false);
+
+        List<Future<?>> writers = new ArrayList<>();
+        for (int w = 0; w < WRITER_COUNT; w++) {
+            int writer = w;
+            writers.add(threads.submit(() -> {
+                startSignal.await();
+                List<Person> added = new ArrayList<>();
+                for (int i = 0; i < PERSONS_PER_WRITER; i++) {
+                    Person person = new PersonBuilder().withName("Writer " + writer + " Person " + i).build();
+                    model.addPerson(person);
+                    added.add(person);
+                }
+                for (Person person : added) {
+                    model.setPerson(person, new PersonBuilder(person).withPhone(EDITED_PHONE).build());
+                }
+                return null;
+            }));
+        }
+
+        List<Future<Boolean>> readers = new ArrayList<>();
+        for (int r = 0; r < READER_COUNT; r++) {
+            readers.add(threads.submit((Callable<Boolean>) () -> {
+                startSignal.await();
+                int lastSize = 0;
+                while (!writersDone.get()) {
+                    List<Person> snapshot = model.getPersonSnapshot();
+                    // persons are only ever added, so a later snapshot can never be smaller
+                    if (snapshot.size() < lastSize) {
+                        return false;
+                    }
+                    lastSize = snapshot.size();
+                    snapshot.forEach(Person::getName);
+                }
+                return true;
+            }));
+        }
+
+        startSignal.countDown();
+        for (Future<?> writer : writers) {
+            writer.get(1, TimeUnit.MINUTES);
+        }
+        writersDone.set(true);
+        for (Future<Boolean> reader : readers) {
+            assertTrue(reader.get(1, TimeUnit.MINUTES));
+        }
+        threads.shutdown();
+
+        List<Person> persons = model.getPersonSnapshot();
+        assertEquals(WRITER_COUNT * PERSONS_PER_WRITER, persons.size());
+        assertTrue(persons.stream().allMatch(person -> person.getPhone().value.equals(EDITED_PHONE)));
+    }
+}
@@ -1,22 +1,40 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.LazyPerson;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -88,6 +106,162 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void getPersonSnapshot_afterChange_reflectsChangeAndOldSnapshotUnchanged() {
+        modelManager.addPerson(ALICE);
+        List<Person> snapshot = modelManager.getPersonSnapshot();
+        assertEquals(List.of(ALICE), snapshot);
+        assertSame(snapshot, modelManager.getPersonSnapshot());
+
+        modelManager.addPerson(BENSON);
+        assertEquals(List.of(ALICE), snapshot);
+        assertEquals(List.of(ALICE, BENSON), modelManager.getPersonSnapshot());
+    }
+
+    @Test
+    public void getPersonSnapshot_modifySnapshot_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> modelManager.getPersonSnapshot().add(ALICE));
+    }
+
+    @Test
+    public void endBatch_severalChanges_firesSingleChangeEvent() {
+        modelManager.addPerson(ALICE);
+        AtomicInteger changeEvents = new AtomicInteger();
+        modelManager.getFilteredPersonList().addListener((ListChangeListener<Person>) change -> {
+            changeEvents.incrementAndGet();
+        });
+
+        modelManager.beginBatch();
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        modelManager.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("99999999").build());
+        modelManager.deletePerson(BENSON);
+        assertEquals(0, changeEvents.get());
+        modelManager.endBatch();
+
+        assertEquals(1, changeEvents.get());
+        assertEquals(modelManager.getAddressBook().getPersonList(), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_duringBatch_filtersLatestPersons() {
+        modelManager.beginBatch();
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Benson")));
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.addPerson(CARL);
+        modelManager.endBatch();
+        assertEquals(List.of(ALICE, BENSON, CARL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void findNameCompletions_afterChanges_returnsLatestNames() {
+        modelManager.addPerson(ALICE);
+        assertEquals(List.of("Alice Pauline"), modelManager.findNameCompletions("al", 10));
+
+        modelManager.beginBatch();
+        modelManager.addPerson(BENSON);
+        assertEquals(List.of(), modelManager.findNameCompletions("", 10));
+        modelManager.deletePerson(ALICE);
+        modelManager.endBatch();
+
+        assertEquals(List.of(), modelManager.findNameCompletions("al", 10));
+        assertEquals(List.of("Benson Meier"), modelManager.findNameCompletions("b", 10));
+        assertEquals(List.of("friends", "owesMoney"), modelManager.findTagCompletions("", 10));
+    }
+
+    @Test
+    public void findNameCompletions_personsGivenAtConstructionOrReset_returnsTheirNames() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        ModelManager model = new ModelManager(addressBook, new UserPrefs());
+        assertEquals(List.of("Alice Pauline", "Benson Meier"), model.findNameCompletions("", 10));
+        assertEquals(List.of("friends", "owesMoney"), model.findTagCompletions("", 10));
+
+        model.setAddressBook(new AddressBookBuilder().withPerson(CARL).build());
+        assertEquals(List.of("Carl Kurz"), model.findNameCompletions("", 10));
+        assertEquals(List.of(), model.findTagCompletions("", 10));
+    }
+
+    @Test
+    public void countPersonsByTag_afterChanges_returnsLatestCounts() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        assertEquals(Map.of("friends", 2L, "owesMoney", 1L), modelManager.countPersonsByTag());
+
+        modelManager.beginBatch();
+        modelManager.setPerson(BENSON, new PersonBuilder(BENSON).withTags("vip").build());
+        modelManager.addPerson(new PersonBuilder(CARL).withTags("vip").build());
+        // the batch is caught up with before counting
+        assertEquals(Map.of("friends", 1L, "vip", 2L), modelManager.countPersonsByTag());
+        modelManager.deletePerson(ALICE);
+        modelManager.endBatch();
+
+        assertEquals(Map.of("vip", 2L), modelManager.countPersonsByTag());
+    }
+
+    @Test
+    public void countPersonsByTag_moreTagsThanFitInOneWord_countsEveryTag() {
+        Map<String, Long> expected = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            modelManager.addPerson(new PersonBuilder().withName("Person " + i).withTags("tag" + i, "common").build());
+            expected.put("tag" + i, 1L);
+        }
+        modelManager.countPersonsByTag();
+        modelManager.addPerson(new LazyPerson(new Name("Lazy Person"), "91234567", "lazy@example.com", "Lazy Street",
+                List.of("tag99", "extra"), ""));
+        expected.put("tag99", 2L);
+        expected.put("common", 100L);
+        expected.put("extra", 1L);
+
+        assertEquals(expected, modelManager.countPersonsByTag());
+    }
+
+    @Test
+    public void countMeetingsPerDay_meetingsInAndOutOfRange_countsMeetingsInRange() {
+        modelManager.addPerson(new PersonBuilder(ALICE).withAppointment(new Appointment("02-Mar-2022 09:00")).build());
+        modelManager.addPerson(new PersonBuilder(BENSON).withAppointment(new Appointment("02-Mar-2022 23:59")).build());
+        modelManager.addPerson(new PersonBuilder(CARL).withAppointment(new Appointment("04-Mar-2022 00:00")).build());
+        modelManager.addPerson(new PersonBuilder(DANIEL).withAppointment(new Appointment("05-Mar-2022 10:00")).build());
+        modelManager.addPerson(new PersonBuilder(ELLE).withAppointment(new Appointment("28-Feb-2022 10:00")).build());
+        modelManager.addPerson(new PersonBuilder(FIONA).build());
+
+        assertArrayEquals(new long[] {0, 2, 0, 1}, modelManager.countMeetingsPerDay(LocalDate.of(2022, 3, 1), 4));
+
+        modelManager.setPerson(CARL, new PersonBuilder(CARL).withAppointment(new Appointment("01-Mar-2022 08:00"))
+                .build());
+        modelManager.deletePerson(ALICE);
+        assertArrayEquals(new long[] {1, 1, 0, 0}, modelManager.countMeetingsPerDay(LocalDate.of(2022, 3, 1), 4));
+    }
+
+    @Test
+    public void evaluatePredicate_matchingPersons_acceptsOnlyMatchedPersons() throws Exception {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        Predicate<Person> evaluated = modelManager.evaluatePredicate(
+                new NameContainsKeywordsPredicate(Arrays.asList("Benson")));
+        assertFalse(evaluated.test(ALICE));
+        assertTrue(evaluated.test(BENSON));
+
+        // persons added after evaluation -> tested with the original predicate
+        Person otherBenson = new PersonBuilder(BENSON).withName("Benson Tan").build();
+        modelManager.addPerson(otherBenson);
+        assertTrue(evaluated.test(otherBenson));
+        assertFalse(evaluated.test(new PersonBuilder(ALICE).withName("Alice Tan").build()));
+
+        modelManager.updateFilteredPersonList(evaluated);
+        assertEquals(List.of(BENSON, otherBenson), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void evaluatePredicate_interrupted_throwsInterruptedException() {
+        modelManager.addPerson(ALICE);
+        Thread.currentThread().interrupt();
+        assertThrows(InterruptedException.class, () -> modelManager.evaluatePredicate(PREDICATE_SHOW_ALL_PERSONS));
+        assertFalse(Thread.interrupted());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
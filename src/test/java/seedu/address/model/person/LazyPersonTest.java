@@ -0,0 +1,99 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class LazyPersonTest {
+
+    private static final String MEETING = "01-Jan-2020 10:00";
+    private static final String LONG_ADDRESS = "Blk 123, Ünïcödé Street ".repeat(100);
+
+    private static LazyPerson lazyBenson() {
+        return new LazyPerson(BENSON.getName(), BENSON.getPhone().value, BENSON.getEmail().value,
+                BENSON.getAddress().value, List.of("owesMoney", "friends"), BENSON.getAppointment().getValue());
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new LazyPerson(BENSON.getName(), null,
+                BENSON.getEmail().value, BENSON.getAddress().value, List.of(), ""));
+    }
+
+    @Test
+    public void getName_doesNotUnpackDetails() {
+        LazyPerson person = lazyBenson();
+        assertEquals(BENSON.getName(), person.getName());
+        assertTrue(person.isSamePerson(BENSON));
+        assertFalse(person.isUnpacked());
+    }
+
+    @Test
+    public void getRawDetails_doesNotUnpackDetails() {
+        LazyPerson person = lazyBenson();
+        LazyPerson.RawDetails details = person.getRawDetails();
+        assertEquals(BENSON.getPhone().value, details.phone);
+        assertEquals(BENSON.getEmail().value, details.email);
+        assertEquals(BENSON.getAddress().value, details.address);
+        assertEquals(Set.of("owesMoney", "friends"), details.tagNames);
+        assertFalse(person.isUnpacked());
+    }
+
+    @Test
+    public void getters_unpackDetailsOnFirstUse() {
+        LazyPerson person = lazyBenson();
+        assertEquals(BENSON.getPhone(), person.getPhone());
+        assertTrue(person.isUnpacked());
+        assertEquals(BENSON.getEmail(), person.getEmail());
+        assertEquals(BENSON.getAddress(), person.getAddress());
+        assertEquals(BENSON.getTags(), person.getTags());
+        assertEquals(BENSON.getAppointment().getValue(), person.getAppointment().getValue());
+
+        // raw details are still available after unpacking
+        assertEquals(BENSON.getPhone().value, person.getRawDetails().phone);
+    }
+
+    @Test
+    public void getters_longNonAsciiDetails_roundTrip() {
+        LazyPerson person = new LazyPerson(BENSON.getName(), BENSON.getPhone().value, BENSON.getEmail().value,
+                LONG_ADDRESS, List.of(), MEETING);
+        assertEquals(LONG_ADDRESS, person.getRawDetails().address);
+        assertEquals(new Address(LONG_ADDRESS), person.getAddress());
+        assertEquals(MEETING, person.getAppointment().getValue());
+        assertTrue(person.getTags().isEmpty());
+    }
+
+    @Test
+    public void getTags_modifyTags_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> lazyBenson().getTags().add(new Tag("extra")));
+    }
+
+    @Test
+    public void equals() {
+        // same details as an eager person -> equal in both directions, with the same hash code
+        LazyPerson person = lazyBenson();
+        assertTrue(person.equals(BENSON));
+        assertTrue(BENSON.equals(person));
+        assertEquals(BENSON.hashCode(), person.hashCode());
+
+        // different details -> returns false
+        assertFalse(person.equals(new PersonBuilder(BENSON).withPhone("11111111").build()));
+    }
+
+    @Test
+    public void hashCode_doesNotUnpackDetails() {
+        LazyPerson person = lazyBenson();
+        assertEquals(BENSON.hashCode(), person.hashCode());
+        assertFalse(person.isUnpacked());
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.util.OffHeapStore;
+import seedu.address.testutil.PersonBuilder;
+
+public class OffHeapPersonTest {
+
+    private final OffHeapStore store = new OffHeapStore();
+
+    @Test
+    public void of_person_keepsEqualDetailsOffHeap() {
+        Person benson = new PersonBuilder(BENSON).withAppointment(new Appointment("01-Jan-2020 10:00")).build();
+        OffHeapPerson person = OffHeapPerson.of(benson, store);
+
+        assertEquals(benson, person);
+        assertEquals(benson.hashCode(), person.hashCode());
+        assertEquals(benson.getAppointment(), person.getAppointment());
+        assertEquals(Set.of("owesMoney", "friends"), person.getRawDetails().tagNames);
+        assertTrue(store.getUsedBytes() > 0);
+    }
+
+    @Test
+    public void of_lazyPerson_copiesRawDetails() {
+        LazyPerson lazyPerson = new LazyPerson(BENSON.getName(), BENSON.getPhone().value, BENSON.getEmail().value,
+                BENSON.getAddress().value, List.of("owesMoney", "friends"), "");
+        OffHeapPerson person = OffHeapPerson.of(lazyPerson, store);
+
+        assertEquals(BENSON, person);
+        assertTrue(!lazyPerson.isUnpacked());
+    }
+
+    @Test
+    public void of_offHeapPerson_reusesPersonOfSameStore() {
+        OffHeapPerson person = OffHeapPerson.of(BENSON, store);
+
+        assertSame(person, OffHeapPerson.of(person, store));
+        assertNotSame(person, OffHeapPerson.of(person, new OffHeapStore()));
+    }
+
+    @Test
+    public void getters_materializeNewDetailsOnEveryUse() {
+        OffHeapPerson person = OffHeapPerson.of(BENSON, store);
+
+        assertEquals(person.getAddress(), person.getAddress());
+        assertNotSame(person.getAddress(), person.getAddress());
+        assertTrue(!person.isUnpacked());
+    }
+
+    @Test
+    public void release_slotReused_keepsDetailsReadable() {
+        OffHeapPerson person = OffHeapPerson.of(BENSON, store);
+        long usedBytes = store.getUsedBytes();
+
+        person.release();
+        person.release();
+        assertEquals(0, store.getUsedBytes());
+        // the freed slot is reused for the details of another person
+        OffHeapPerson other = OffHeapPerson.of(new PersonBuilder(BENSON).withName("Benson Tan").build(), store);
+        assertEquals(usedBytes, store.getUsedBytes());
+
+        assertEquals(BENSON, person);
+        assertEquals(BENSON.getAddress(), other.getAddress());
+        assertTrue(person.isReleased());
+        assertNotSame(person, OffHeapPerson.of(person, store));
+    }
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> OffHeapPerson.of(null, store));
+        assertThrows(NullPointerException.class, () -> OffHeapPerson.of(BENSON, null));
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -13,6 +15,7 @@ import static seedu.address.testutil.TypicalPersons.BOB;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.appointment.Appointment;
 import seedu.address.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -23,6 +26,16 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getTags().remove(0));
     }
 
+    @Test
+    public void constructor_equalTagsAndAppointments_sharesInstances() {
+        Person person = new PersonBuilder(ALICE).withAppointment(new Appointment("01-Jan-2022 10:00")).build();
+        Person other = new PersonBuilder(BOB).withAppointment(new Appointment("01-Jan-2022 10:00")).build();
+
+        assertSame(person.getAppointment(), other.getAppointment());
+        assertSame(person.getTags().iterator().next(), ALICE.getTags().iterator().next());
+        assertEquals(new PersonBuilder(ALICE).build().hashCode(), person.hashCode());
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
@@ -0,0 +1,68 @@
+package seedu.address.model.sync;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class MerkleTreeTest {
+
+    @Test
+    public void constructor_anyOrder_sameHashes() {
+        List<Person> persons = new ArrayList<>(getTypicalPersons());
+        MerkleTree tree = new MerkleTree(persons);
+        Collections.reverse(persons);
+        MerkleTree reversedTree = new MerkleTree(persons);
+
+        assertEquals(persons.size(), tree.size());
+        for (int level = 0; level <= MerkleTree.LEVELS; level++) {
+            for (int node = 0; node < MerkleTree.getNodeCount(level); node++) {
+                assertEquals(tree.getHash(level, node), reversedTree.getHash(level, node));
+            }
+        }
+    }
+
+    @Test
+    public void addAndRemove_restoresHashes() {
+        MerkleTree tree = new MerkleTree(getTypicalPersons());
+        long rootHash = tree.getHash(0, 0);
+        long leafHash = tree.getHash(MerkleTree.LEVELS, MerkleTree.getLeaf(ALICE.getName()));
+
+        tree.remove(ALICE.getName());
+        assertNotEquals(rootHash, tree.getHash(0, 0));
+        assertNotEquals(leafHash, tree.getHash(MerkleTree.LEVELS, MerkleTree.getLeaf(ALICE.getName())));
+        assertNull(tree.remove(ALICE.getName()));
+
+        tree.add(ALICE);
+        assertEquals(rootHash, tree.getHash(0, 0));
+        assertEquals(getTypicalPersons().size(), tree.size());
+    }
+
+    @Test
+    public void getPersons_personInItsLeaf() {
+        MerkleTree tree = new MerkleTree(getTypicalPersons());
+        assertTrue(tree.getPersons(MerkleTree.getLeaf(BENSON.getName())).contains(BENSON));
+    }
+
+    @Test
+    public void hash_anyFieldChanged_differentHash() {
+        long hash = MerkleTree.hash(ALICE);
+        assertEquals(hash, MerkleTree.hash(new PersonBuilder(ALICE).build()));
+        assertNotEquals(hash, MerkleTree.hash(new PersonBuilder(ALICE).withPhone("99999999").build()));
+        assertNotEquals(hash, MerkleTree.hash(new PersonBuilder(ALICE).withEmail("other@example.com").build()));
+        assertNotEquals(hash, MerkleTree.hash(new PersonBuilder(ALICE).withAddress("Elsewhere").build()));
+        assertNotEquals(hash, MerkleTree.hash(new PersonBuilder(ALICE).withTags("other").build()));
+    }
+}
@@ -0,0 +1,153 @@
+package seedu.address.model.sync;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class SynchronizerTest {
+
+    private AddressBook localBook;
+    private AddressBook remoteBook;
+    private SyncBase base;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        localBook = getTypicalAddressBook();
+        remoteBook = getTypicalAddressBook();
+        base = new SyncBase();
+        sync();
+    }
+
+    @Test
+    public void sync_firstSyncOfSameAddressBooks_nothingExchanged() throws Exception {
+        SyncResult result = sync();
+        assertEquals(0, result.getDifferingLeafCount());
+        assertEquals(1, result.getComparedNodeCount());
+        assertFalse(base.isEmpty());
+        assertEquals(MerkleTree.hash(ALICE), base.getHash(ALICE.getName()).getAsLong());
+    }
+
+    @Test
+    public void sync_firstSyncOfDifferentAddressBooks_unionOfBoth() throws Exception {
+        localBook = new AddressBook();
+        localBook.setPersons(List.of(ALICE, HOON));
+        remoteBook = new AddressBook();
+        remoteBook.setPersons(List.of(BENSON));
+        base = new SyncBase();
+
+        SyncResult result = sync();
+        assertEquals(1, result.getReceivedCount());
+        assertEquals(2, result.getSentCount());
+        assertSamePersons(localBook, remoteBook);
+        assertEquals(3, localBook.getPersonList().size());
+    }
+
+    @Test
+    public void sync_changesInEither_copiedToTheOther() throws Exception {
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("91234567").build();
+        localBook.setPerson(ALICE, editedAlice);
+        localBook.addPerson(HOON);
+        remoteBook.removePerson(BENSON);
+        remoteBook.addPerson(IDA);
+
+        SyncResult result = sync();
+        assertEquals(2, result.getSentCount());
+        assertEquals(2, result.getReceivedCount());
+        assertTrue(result.getConflicts().isEmpty());
+        assertSamePersons(localBook, remoteBook);
+        assertTrue(localBook.hasPerson(editedAlice));
+        assertFalse(localBook.hasPerson(BENSON));
+
+        // Nothing is left to exchange
+        result = sync();
+        assertEquals(0, result.getDifferingLeafCount());
+    }
+
+    @Test
+    public void sync_changedInBoth_conflictLeftAsItIs() throws Exception {
+        Person localCarl = new PersonBuilder(CARL).withPhone("91234567").build();
+        Person remoteCarl = new PersonBuilder(CARL).withPhone("97654321").build();
+        localBook.setPerson(CARL, localCarl);
+        remoteBook.setPerson(CARL, remoteCarl);
+        remoteBook.removePerson(DANIEL);
+
+        SyncResult result = sync();
+        assertEquals(List.of(CARL.getName()), result.getConflicts());
+        assertEquals(1, result.getReceivedCount());
+        assertTrue(localBook.getPersonList().contains(localCarl));
+        assertTrue(remoteBook.getPersonList().contains(remoteCarl));
+        assertFalse(localBook.hasPerson(DANIEL));
+
+        // The conflict is reported until it is settled
+        result = sync();
+        assertEquals(List.of(CARL.getName()), result.getConflicts());
+        assertEquals(0, result.getSentCount());
+        assertEquals(0, result.getReceivedCount());
+        assertTrue(remoteBook.getPersonList().contains(remoteCarl));
+
+        // Once settled, later changes are copied over again
+        remoteBook.setPerson(remoteCarl, localCarl);
+        result = sync();
+        assertTrue(result.getConflicts().isEmpty());
+        Person editedCarl = new PersonBuilder(CARL).withPhone("90000000").build();
+        localBook.setPerson(localCarl, editedCarl);
+        result = sync();
+        assertTrue(result.getConflicts().isEmpty());
+        assertEquals(1, result.getSentCount());
+        assertTrue(remoteBook.getPersonList().contains(editedCarl));
+    }
+
+    @Test
+    public void sync_editedInOneDeletedInOther_conflictLeftAsItIs() throws Exception {
+        Person localCarl = new PersonBuilder(CARL).withPhone("91234567").build();
+        localBook.setPerson(CARL, localCarl);
+        remoteBook.removePerson(CARL);
+
+        for (int i = 0; i < 2; i++) {
+            SyncResult result = sync();
+            assertEquals(List.of(CARL.getName()), result.getConflicts());
+            assertEquals(0, result.getSentCount());
+            assertTrue(localBook.getPersonList().contains(localCarl));
+            assertFalse(remoteBook.hasPerson(CARL));
+        }
+    }
+
+    @Test
+    public void sync_sameChangeInBoth_nothingExchanged() throws Exception {
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("91234567").build();
+        localBook.setPerson(ALICE, editedAlice);
+        remoteBook.setPerson(ALICE, editedAlice);
+
+        SyncResult result = sync();
+        assertEquals(0, result.getDifferingLeafCount());
+        assertSamePersons(localBook, remoteBook);
+    }
+
+    /**
+     * Asserts that both address books have the same persons, in any order.
+     */
+    private static void assertSamePersons(AddressBook first, AddressBook second) {
+        assertEquals(new HashSet<>(first.getPersonList()), new HashSet<>(second.getPersonList()));
+    }
+
+    private SyncResult sync() throws Exception {
+        return Synchronizer.sync(new AddressBookSyncPeer(localBook), new AddressBookSyncPeer(remoteBook), base);
+    }
+}
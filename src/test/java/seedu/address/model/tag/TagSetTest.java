@@ -0,0 +1,57 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    @Test
+    public void of_tags_sortedWithoutDuplicates() {
+        TagSet tags = TagSet.of(List.of(new Tag("friends"), new Tag("colleagues"), new Tag("friends")));
+
+        assertEquals(List.of(new Tag("colleagues"), new Tag("friends")), new ArrayList<>(tags));
+        assertTrue(tags.contains(new Tag("friends")));
+        assertFalse(tags.contains(new Tag("family")));
+        assertFalse(tags.contains("friends"));
+    }
+
+    @Test
+    public void of_equalTags_sharesInstances() {
+        Tag first = TagSet.of(Set.of(new Tag("friends"))).iterator().next();
+        Tag second = TagSet.of(Set.of(new Tag("friends"))).iterator().next();
+        assertSame(first, second);
+    }
+
+    @Test
+    public void equals_otherSetsWithSameTags_equalWithSameHashCode() {
+        Set<Tag> hashSet = new HashSet<>(List.of(new Tag("friends"), new Tag("colleagues")));
+        TagSet tags = TagSet.of(hashSet);
+
+        assertEquals(hashSet, tags);
+        assertEquals(tags, hashSet);
+        assertEquals(hashSet.hashCode(), tags.hashCode());
+        assertEquals(TagSet.of(hashSet), tags);
+        assertFalse(tags.equals(TagSet.of(Set.of(new Tag("friends")))));
+        assertEquals(Set.of(), TagSet.of(Set.of()));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        TagSet tags = TagSet.of(Set.of(new Tag("friends")));
+
+        assertThrows(UnsupportedOperationException.class, () -> tags.add(new Tag("family")));
+        assertThrows(UnsupportedOperationException.class, () -> tags.remove(new Tag("friends")));
+        assertThrows(UnsupportedOperationException.class, () -> tags.clear());
+        assertThrows(UnsupportedOperationException.class, () -> tags.iterator().remove());
+    }
+}
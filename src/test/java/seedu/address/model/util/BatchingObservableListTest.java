@@ -0,0 +1,159 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.transformation.FilteredList;
+
+public class BatchingObservableListTest {
+
+    private static final int LARGE_SIZE = 10_000;
+
+    private final BatchingObservableList<Integer> list = new BatchingObservableList<>();
+    private final List<ListChangeListener.Change<? extends Integer>> changes = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        list.addListener((ListChangeListener<Integer>) changes::add);
+    }
+
+    @Test
+    public void add_outsideBatch_firesChangePerModification() {
+        list.add(1);
+        list.add(2);
+        list.remove(0);
+        assertEquals(3, changes.size());
+    }
+
+    @Test
+    public void endBatch_manyModifications_firesSingleChange() {
+        list.beginBatch();
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            list.add(i);
+        }
+        list.set(0, -1);
+        list.remove(Integer.valueOf(1));
+        assertTrue(list.isBatching());
+        assertTrue(changes.isEmpty());
+        list.endBatch();
+
+        assertFalse(list.isBatching());
+        assertEquals(1, changes.size());
+        assertEquals(LARGE_SIZE - 1, list.size());
+    }
+
+    @Test
+    public void endBatch_nestedBatches_firesOnlyAtOutermostEnd() {
+        list.beginBatch();
+        list.beginBatch();
+        list.add(1);
+        list.endBatch();
+        assertTrue(changes.isEmpty());
+        list.add(2);
+        list.endBatch();
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void endBatch_withoutBeginBatch_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, list::endBatch);
+    }
+
+    @Test
+    public void flushBatch_duringBatch_firesChangesSoFarAndKeepsBatchOpen() {
+        list.beginBatch();
+        list.add(1);
+        list.flushBatch();
+        assertEquals(1, changes.size());
+
+        list.add(2);
+        assertEquals(1, changes.size());
+        list.endBatch();
+        assertEquals(2, changes.size());
+    }
+
+    @Test
+    public void setAll_largeList_firesSingleReplacement() {
+        list.setAll(range(0, LARGE_SIZE));
+        changes.clear();
+
+        list.setAll(range(LARGE_SIZE, 2 * LARGE_SIZE));
+        assertEquals(1, changes.size());
+        assertEquals(range(LARGE_SIZE, 2 * LARGE_SIZE), list);
+    }
+
+    @Test
+    public void endBatch_fewModifications_reportedModificationWise() {
+        list.setAll(range(0, 10));
+        changes.clear();
+
+        list.beginBatch();
+        list.add(3, -1);
+        list.remove(0);
+        list.endBatch();
+
+        ListChangeListener.Change<? extends Integer> change = changes.get(0);
+        assertTrue(change.next());
+        assertTrue(change.getTo() - change.getFrom() < list.size());
+    }
+
+    @Test
+    public void endBatch_manyModifications_reportedAsReplacement() {
+        list.setAll(range(0, LARGE_SIZE));
+        changes.clear();
+
+        list.beginBatch();
+        for (int i = 0; i <= BatchingObservableList.MAX_PENDING_MODIFICATIONS; i++) {
+            list.set(i * 2, -i);
+        }
+        list.endBatch();
+
+        ListChangeListener.Change<? extends Integer> change = changes.get(0);
+        assertTrue(change.next());
+        assertEquals(0, change.getFrom());
+        assertEquals(LARGE_SIZE, change.getTo());
+        assertEquals(LARGE_SIZE, change.getRemovedSize());
+        assertFalse(change.next());
+    }
+
+    @Test
+    public void endBatch_filteredView_matchesSource() {
+        assertFilteredViewMatchesSourceAfterBatch(BatchingObservableList.MAX_PENDING_MODIFICATIONS / 3);
+        assertFilteredViewMatchesSourceAfterBatch(BatchingObservableList.MAX_PENDING_MODIFICATIONS * 10);
+    }
+
+    /**
+     * Asserts that a filtered view of a large list is correct after {@code rounds} rounds of
+     * removing, adding and replacing elements in one batch.
+     */
+    private void assertFilteredViewMatchesSourceAfterBatch(int rounds) {
+        BatchingObservableList<Integer> source = new BatchingObservableList<>();
+        FilteredList<Integer> evens = new FilteredList<>(source, i -> i % 2 == 0);
+        source.setAll(range(0, LARGE_SIZE));
+
+        source.beginBatch();
+        for (int i = 0; i < rounds; i++) {
+            source.remove(0);
+            source.add(source.size() / 2, LARGE_SIZE + i);
+            source.set(i * 7, -i * 2);
+        }
+        source.endBatch();
+
+        assertEquals(source.stream().filter(i -> i % 2 == 0).collect(Collectors.toList()), evens);
+    }
+
+    private static List<Integer> range(int from, int to) {
+        return IntStream.range(from, to).boxed().collect(Collectors.toList());
+    }
+}
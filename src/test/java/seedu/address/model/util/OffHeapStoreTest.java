@@ -0,0 +1,60 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+public class OffHeapStoreTest {
+
+    private final OffHeapStore store = new OffHeapStore();
+
+    @Test
+    public void store_records_loadsEqualCopies() {
+        byte[] empty = new byte[0];
+        byte[] small = "Alex Yeoh".getBytes(StandardCharsets.UTF_8);
+        byte[] large = new byte[OffHeapStore.SEGMENT_SIZE + 1]; // larger than a segment
+        large[large.length - 1] = 42;
+
+        long emptyHandle = store.store(empty);
+        long smallHandle = store.store(small);
+        long largeHandle = store.store(large);
+
+        assertArrayEquals(empty, store.load(emptyHandle));
+        assertArrayEquals(small, store.load(smallHandle));
+        assertArrayEquals(large, store.load(largeHandle));
+    }
+
+    @Test
+    public void free_slotOfSameSize_reusesSlot() {
+        long first = store.store(new byte[20]);
+        long second = store.store(new byte[20]);
+        assertNotEquals(first, second);
+        assertEquals(2 * 32, store.getUsedBytes());
+
+        store.free(first);
+        assertEquals(32, store.getUsedBytes());
+        // a record of another slot size gets another slot
+        assertNotEquals(first, store.store(new byte[100]));
+        assertEquals(first, store.store(new byte[28]));
+        assertEquals(OffHeapStore.SEGMENT_SIZE * 2, store.getReservedBytes());
+    }
+
+    @Test
+    public void slotSizeFor_lengths_returnsSmallestFittingPowerOfTwo() {
+        assertEquals(OffHeapStore.MIN_SLOT_SIZE, OffHeapStore.slotSizeFor(0));
+        assertEquals(16, OffHeapStore.slotSizeFor(12));
+        assertEquals(32, OffHeapStore.slotSizeFor(13));
+        assertEquals(1 << 30, OffHeapStore.slotSizeFor((1 << 30) - 4));
+        assertThrows(IllegalArgumentException.class, () -> OffHeapStore.slotSizeFor((1 << 30) - 3));
+    }
+
+    @Test
+    public void store_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> store.store(null));
+    }
+}
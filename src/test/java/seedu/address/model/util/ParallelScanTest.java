@@ -0,0 +1,94 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ParallelScanTest {
+
+    private static final Predicate<Integer> IS_MULTIPLE_OF_THREE = i -> i % 3 == 0;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    private static List<Integer> range(int size) {
+        return IntStream.range(0, size).boxed().collect(Collectors.toList());
+    }
+
+    private static BitSet multiplesOfThree(int size) {
+        BitSet expected = new BitSet();
+        for (int i = 0; i < size; i += 3) {
+            expected.set(i);
+        }
+        return expected;
+    }
+
+    @Test
+    public void scan_smallList_setsMatchingIndexes() throws Exception {
+        assertEquals(multiplesOfThree(100), ParallelScan.scan(range(100), IS_MULTIPLE_OF_THREE, pool));
+        assertTrue(ParallelScan.scan(List.<Integer>of(), IS_MULTIPLE_OF_THREE, pool).isEmpty());
+    }
+
+    @Test
+    public void scan_largeListInParallel_setsMatchingIndexes() throws Exception {
+        // not a multiple of the chunk size, so that the last chunk is partial
+        int size = 10 * ParallelScan.CHUNK_SIZE + 123;
+        Predicate<Integer> multipleOfThreeOffCallingThread = i -> {
+            assertFalse(Thread.currentThread().getName().equals("main"));
+            return i % 3 == 0;
+        };
+        assertEquals(multiplesOfThree(size), ParallelScan.scan(range(size), multipleOfThreeOffCallingThread, pool));
+    }
+
+    @Test
+    public void count_smallAndLargeRanges_addsUpCountsOfEveryRow() {
+        ParallelScan.RangeCounter countByRemainder = (from, to, counts) -> {
+            for (int i = from; i < to; i++) {
+                counts[i % 3]++;
+            }
+        };
+        assertArrayEquals(new long[] {34, 33, 33}, ParallelScan.count(100, 3, countByRemainder, pool));
+        assertArrayEquals(new long[3], ParallelScan.count(0, 3, countByRemainder, pool));
+
+        // large enough to be counted in parallel, with a partial last chunk
+        int size = 9 * ParallelScan.COLUMN_CHUNK_SIZE + 1;
+        assertArrayEquals(new long[] {size / 3 + 1, size / 3, size / 3},
+                ParallelScan.count(size, 3, countByRemainder, pool));
+    }
+
+    @Test
+    public void scan_interrupted_throwsInterruptedException() {
+        Thread.currentThread().interrupt();
+        assertThrows(InterruptedException.class, () -> ParallelScan.scan(range(100), IS_MULTIPLE_OF_THREE, pool));
+
+        Thread.currentThread().interrupt();
+        assertThrows(InterruptedException.class, () ->
+                ParallelScan.scan(range(ParallelScan.PARALLEL_THRESHOLD), IS_MULTIPLE_OF_THREE, pool));
+        assertFalse(Thread.interrupted());
+    }
+
+    @Test
+    public void scan_predicateThrows_rethrowsOnCallingThread() {
+        Predicate<Integer> failing = i -> {
+            throw new IllegalArgumentException();
+        };
+        assertThrows(IllegalArgumentException.class, () ->
+                ParallelScan.scan(range(ParallelScan.PARALLEL_THRESHOLD), failing, pool));
+    }
+}
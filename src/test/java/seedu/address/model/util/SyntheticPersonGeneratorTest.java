@@ -0,0 +1,95 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+public class SyntheticPersonGeneratorTest {
+
+    @Test
+    public void next_sameSettings_sameSequence() {
+        assertEquals(generate(100, settingsWithSeed(3)), generate(100, settingsWithSeed(3)));
+        assertNotEquals(generate(100, settingsWithSeed(3)), generate(100, settingsWithSeed(4)));
+    }
+
+    @Test
+    public void next_beyondAllNameCombinations_namesStayUnique() {
+        // Enough persons for several rounds of middle initials.
+        List<Person> persons = generate(10_000, new SyntheticPersonGenerator.Settings());
+
+        Set<Name> names = new HashSet<>();
+        persons.forEach(person -> assertTrue(names.add(person.getName()), person.getName().fullName));
+    }
+
+    @Test
+    public void next_settings_followDistributions() {
+        SyntheticPersonGenerator.Settings settings = new SyntheticPersonGenerator.Settings();
+        settings.setMeanTagCount(0);
+        settings.setMeetingRatio(1);
+        List<Person> persons = generate(200, settings);
+
+        assertTrue(persons.stream().allMatch(person -> person.getTags().isEmpty()));
+        assertTrue(persons.stream().noneMatch(person -> person.getAppointment().getValue().isEmpty()));
+
+        settings.setMeanTagCount(2);
+        settings.setMeetingRatio(0);
+        persons = generate(2000, settings);
+
+        assertTrue(persons.stream().allMatch(person -> person.getAppointment().getValue().isEmpty()));
+        double meanTagCount = persons.stream().mapToInt(person -> person.getTags().size()).average().getAsDouble();
+        assertTrue(meanTagCount > 1.8 && meanTagCount < 2.2, "mean tag count " + meanTagCount);
+    }
+
+    @Test
+    public void next_exhausted_throwsNoSuchElementException() {
+        SyntheticPersonGenerator generator = new SyntheticPersonGenerator(1, new SyntheticPersonGenerator.Settings());
+        generator.next();
+
+        assertFalse(generator.hasNext());
+        assertThrows(NoSuchElementException.class, generator::next);
+    }
+
+    @Test
+    public void settings_invalidValues_throwIllegalArgumentException() {
+        SyntheticPersonGenerator.Settings settings = new SyntheticPersonGenerator.Settings();
+
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticPersonGenerator(-1, settings));
+        assertThrows(IllegalArgumentException.class, () -> settings.setMeanTagCount(-1));
+        assertThrows(IllegalArgumentException.class, () -> settings.setMeetingRatio(1.5));
+        assertThrows(IllegalArgumentException.class, () -> settings.setMeetingWindowDays(0));
+    }
+
+    @Test
+    public void toLetters() {
+        assertEquals("A", SyntheticPersonGenerator.toLetters(1));
+        assertEquals("Z", SyntheticPersonGenerator.toLetters(26));
+        assertEquals("AA", SyntheticPersonGenerator.toLetters(27));
+        assertEquals("ZZ", SyntheticPersonGenerator.toLetters(702));
+        assertEquals("AAA", SyntheticPersonGenerator.toLetters(703));
+    }
+
+    private static SyntheticPersonGenerator.Settings settingsWithSeed(long seed) {
+        SyntheticPersonGenerator.Settings settings = new SyntheticPersonGenerator.Settings();
+        settings.setSeed(seed);
+        return settings;
+    }
+
+    private static List<Person> generate(int count, SyntheticPersonGenerator.Settings settings) {
+        List<Person> persons = new ArrayList<>();
+        new SyntheticPersonGenerator(count, settings).forEachRemaining(persons::add);
+        return persons;
+    }
+}
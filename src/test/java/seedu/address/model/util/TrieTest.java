@@ -0,0 +1,96 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TrieTest {
+
+    private final Trie trie = new Trie();
+
+    @BeforeEach
+    public void setUp() {
+        trie.add("Alex Yeoh");
+        trie.add("Alice Pauline");
+        trie.add("Al");
+        trie.add("Bernice Yu");
+    }
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> trie.add(null));
+    }
+
+    @Test
+    public void contains_ignoresCase() {
+        assertTrue(trie.contains("alice pauline"));
+        assertTrue(trie.contains("AL"));
+        assertFalse(trie.contains("Ali"));
+        assertFalse(trie.contains("Alice Pauline Tan"));
+        assertFalse(trie.contains(""));
+    }
+
+    @Test
+    public void findStartingWith_prefix_returnsMatchesInOrder() {
+        assertEquals(List.of("Al", "Alex Yeoh", "Alice Pauline"), trie.findStartingWith("al", 10));
+
+        // prefix ends inside an edge label
+        assertEquals(List.of("Alice Pauline"), trie.findStartingWith("ALIC", 10));
+
+        // empty prefix -> all strings
+        assertEquals(List.of("Al", "Alex Yeoh", "Alice Pauline", "Bernice Yu"), trie.findStartingWith("", 10));
+
+        // no match
+        assertEquals(List.of(), trie.findStartingWith("Alx", 10));
+        assertEquals(List.of(), trie.findStartingWith("Alex Yeoh Tan", 10));
+    }
+
+    @Test
+    public void findStartingWith_limit_returnsFirstMatches() {
+        assertEquals(List.of("Al", "Alex Yeoh"), trie.findStartingWith("a", 2));
+        assertEquals(List.of(), trie.findStartingWith("a", 0));
+    }
+
+    @Test
+    public void add_differentCase_keepsFirstSpelling() {
+        trie.add("alex yeoh");
+        assertEquals(4, trie.size());
+        assertEquals(List.of("Alex Yeoh"), trie.findStartingWith("alex", 10));
+    }
+
+    @Test
+    public void remove_addedSeveralTimes_keptUntilRemovedAsManyTimes() {
+        trie.add("Alex Yeoh");
+        assertTrue(trie.remove("Alex Yeoh"));
+        assertTrue(trie.contains("Alex Yeoh"));
+        assertTrue(trie.remove("Alex Yeoh"));
+        assertFalse(trie.contains("Alex Yeoh"));
+        assertFalse(trie.remove("Alex Yeoh"));
+        assertEquals(3, trie.size());
+    }
+
+    @Test
+    public void remove_absentString_returnsFalse() {
+        assertFalse(trie.remove("Ali"));
+        assertFalse(trie.remove("Charlotte"));
+        assertEquals(4, trie.size());
+    }
+
+    @Test
+    public void remove_branchingStrings_remainingStringsStillFound() {
+        assertTrue(trie.remove("Al"));
+        assertTrue(trie.remove("Alex Yeoh"));
+        assertEquals(List.of("Alice Pauline"), trie.findStartingWith("al", 10));
+        assertEquals(List.of("Alice Pauline"), trie.findStartingWith("alice p", 10));
+
+        // strings can be added again after the tree has been compacted
+        trie.add("Alex Yeoh");
+        assertEquals(List.of("Alex Yeoh", "Alice Pauline"), trie.findStartingWith("al", 10));
+    }
+}
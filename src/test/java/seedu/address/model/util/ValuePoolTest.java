@@ -0,0 +1,35 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class ValuePoolTest {
+
+    @Test
+    public void intern_equalValues_returnsFirstInstance() {
+        ValuePool<String> pool = new ValuePool<>();
+        String first = new String("Blk 30 Geylang Street 29");
+        String second = new String("Blk 30 Geylang Street 29");
+
+        assertSame(first, pool.intern(first));
+        assertSame(first, pool.intern(second));
+        assertSame(first, pool.intern(first));
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    public void intern_differentValues_keepsBoth() {
+        ValuePool<String> pool = new ValuePool<>();
+        pool.intern("a");
+        pool.intern("b");
+        assertEquals(2, pool.size());
+    }
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ValuePool<String>().intern(null));
+    }
+}
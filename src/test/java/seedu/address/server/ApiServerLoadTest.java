@@ -0,0 +1,116 @@
+package seedu.address.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+/**
+ * Load-test harness for {@code ApiServer}.
+ * Concurrent clients mix person queries with add commands, and the p50/p99 latency of each kind of request is logged.
+ * Raise {@code CLIENT_COUNT} and {@code REQUESTS_PER_CLIENT} locally for a longer run.
+ */
+public class ApiServerLoadTest {
+
+    private static final int CLIENT_COUNT = 8;
+    private static final int REQUESTS_PER_CLIENT = 40;
+    private static final int WRITE_EVERY = 4;
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServerLoadTest.class);
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void concurrentReadersAndWriter_noLostUpdates() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        ApiServer server = new ApiServer(new LogicManager(model, storage), 0,
+                ApiServer.DEFAULT_THREAD_COUNT, ApiServer.DEFAULT_QUEUE_CAPACITY);
+        server.start();
+
+        HttpClient client = HttpClient.newHttpClient();
+        String baseUri = "http://127.0.0.1:" + server.getPort();
+        List<Long> readLatencies = Collections.synchronizedList(new ArrayList<>());
+        List<Long> writeLatencies = Collections.synchronizedList(new ArrayList<>());
+
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENT_COUNT);
+        List<Future<Integer>> failures = new ArrayList<>();
+        for (int c = 0; c < CLIENT_COUNT; c++) {
+            String clientName = "Client " + (char) ('A' + c);
+            failures.add(clients.submit(() -> {
+                int failed = 0;
+                for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+                    boolean isWrite = i % WRITE_EVERY == 0;
+                    HttpRequest request = isWrite
+                            ? HttpRequest.newBuilder(URI.create(baseUri + ApiServer.COMMANDS_PATH))
+                                    .POST(HttpRequest.BodyPublishers.ofString(addCommandJson(clientName, i))).build()
+                            : HttpRequest.newBuilder(URI.create(baseUri + ApiServer.PERSONS_PATH)).GET().build();
+                    long start = System.nanoTime();
+                    int status = client.send(request, HttpResponse.BodyHandlers.ofString()).statusCode();
+                    List<Long> latencies = isWrite ? writeLatencies : readLatencies;
+                    latencies.add(System.nanoTime() - start);
+                    if (status != 200) {
+                        failed++;
+                    }
+                }
+                return failed;
+            }));
+        }
+
+        int failed = 0;
+        for (Future<Integer> future : failures) {
+            failed += future.get();
+        }
+        clients.shutdown();
+        clients.awaitTermination(1, TimeUnit.MINUTES);
+        server.stop();
+
+        logger.info(String.format("API load test: reads p50=%.2fms p99=%.2fms, writes p50=%.2fms p99=%.2fms",
+                percentileMillis(readLatencies, 50), percentileMillis(readLatencies, 99),
+                percentileMillis(writeLatencies, 50), percentileMillis(writeLatencies, 99)));
+
+        int writesPerClient = (REQUESTS_PER_CLIENT + WRITE_EVERY - 1) / WRITE_EVERY;
+        assertEquals(0, failed);
+        assertEquals(getTypicalAddressBook().getPersonList().size() + CLIENT_COUNT * writesPerClient,
+                model.getAddressBook().getPersonList().size());
+    }
+
+    private static String addCommandJson(String clientName, int requestNumber) {
+        return "{\"command\": \"add n/" + clientName + " " + requestNumber
+                + " p/91234567 e/client@example.com a/1 Load Test Street\"}";
+    }
+
+    private static double percentileMillis(List<Long> latencies, int percentile) {
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(index, 0)) / 1_000_000.0;
+    }
+}
@@ -0,0 +1,117 @@
+package seedu.address.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class ApiServerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private Model model;
+    private ApiServer server;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        server = new ApiServer(new LogicManager(model, storage), 0, 2, 8);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    public void postCommand_validCommand_feedbackReturned() throws Exception {
+        HttpResponse<String> response = postCommand("{\"command\": \"" + ListCommand.COMMAND_WORD + "\"}");
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains(ListCommand.MESSAGE_SUCCESS));
+    }
+
+    @Test
+    public void postCommand_unknownCommand_badRequest() throws Exception {
+        HttpResponse<String> response = postCommand("{\"command\": \"uicfhmowqewca\"}");
+        assertEquals(400, response.statusCode());
+        assertTrue(response.body().contains(MESSAGE_UNKNOWN_COMMAND));
+    }
+
+    @Test
+    public void postCommand_invalidBody_badRequest() throws Exception {
+        assertEquals(400, postCommand("not json").statusCode());
+        assertEquals(400, postCommand("{}").statusCode());
+    }
+
+    @Test
+    public void getCommands_methodNotAllowed() throws Exception {
+        assertEquals(405, get(ApiServer.COMMANDS_PATH).statusCode());
+    }
+
+    @Test
+    public void getPersons_allPersonsReturned() throws Exception {
+        HttpResponse<String> response = get(ApiServer.PERSONS_PATH);
+        assertEquals(200, response.statusCode());
+        model.getAddressBook().getPersonList()
+                .forEach(person -> assertTrue(response.body().contains(person.getName().fullName)));
+    }
+
+    @Test
+    public void getPersons_nameQuery_matchingPersonsReturnedAndFilterUnchanged() throws Exception {
+        HttpResponse<String> response = get(ApiServer.PERSONS_PATH + "?name=Kurz%20Elle");
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains("Carl Kurz"));
+        assertTrue(response.body().contains("Elle Meyer"));
+        assertTrue(!response.body().contains("Alice Pauline"));
+        assertEquals(getTypicalAddressBook().getPersonList().size(), model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void parseNameKeywords() {
+        assertEquals(List.of(), ApiServer.parseNameKeywords(null));
+        assertEquals(List.of(), ApiServer.parseNameKeywords("other=1"));
+        assertEquals(List.of(), ApiServer.parseNameKeywords("name=%20"));
+        assertEquals(List.of("alice", "bob"), ApiServer.parseNameKeywords("other=1&name=alice+bob"));
+    }
+
+    private HttpResponse<String> postCommand(String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri(ApiServer.COMMANDS_PATH))
+                .POST(HttpRequest.BodyPublishers.ofString(body)).build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        return client.send(HttpRequest.newBuilder(uri(path)).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://127.0.0.1:" + server.getPort() + path);
+    }
+}
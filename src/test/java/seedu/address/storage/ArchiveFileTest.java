@@ -0,0 +1,116 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SyntheticPersonGenerator;
+import seedu.address.testutil.PersonBuilder;
+
+public class ArchiveFileTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getArchiveFilePath_replacesExtension() {
+        assertEquals(Paths.get("data", "addressbook.archive.gz"),
+                ArchiveFile.getArchiveFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("large.archive.gz"), ArchiveFile.getArchiveFilePath(Paths.get("large.db")));
+        assertEquals(Paths.get("book.archive.gz"), ArchiveFile.getArchiveFilePath(Paths.get("book")));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws IOException {
+        assertTrue(new ArchiveFile(testFolder.resolve("missing.archive.gz")).read().isEmpty());
+    }
+
+    @Test
+    public void appendAndWrite_allInOrder_success() throws IOException {
+        ArchiveFile archiveFile = new ArchiveFile(testFolder.resolve("folder").resolve("book.archive.gz"));
+        Person meeting = new PersonBuilder(CARL).withAppointment(new Appointment("03-Jan-2022 10:00")).build();
+
+        // appended persons are read in order, with all their details
+        archiveFile.append(List.of(ALICE));
+        archiveFile.append(List.of(BENSON, meeting));
+        List<Person> persons = archiveFile.read();
+        assertEquals(List.of(ALICE, BENSON, meeting), persons);
+        assertEquals(meeting.getAppointment(), persons.get(2).getAppointment());
+        assertEquals(BENSON.getTags(), persons.get(1).getTags());
+
+        archiveFile.write(List.of(BENSON));
+        assertEquals(List.of(BENSON), archiveFile.read());
+        archiveFile.append(List.of(ALICE));
+        assertEquals(List.of(BENSON, ALICE), archiveFile.read());
+    }
+
+    @Test
+    public void write_manyPersons_compressed() throws IOException {
+        List<Person> persons = new ArrayList<>();
+        new SyntheticPersonGenerator(2000, new SyntheticPersonGenerator.Settings()).forEachRemaining(persons::add);
+        Path archiveFilePath = testFolder.resolve("large.archive.gz");
+        new ArchiveFile(archiveFilePath).write(persons);
+        Path jsonFilePath = testFolder.resolve("large.json");
+        JsonAddressBookStorage.savePersons(persons.iterator(), jsonFilePath);
+
+        assertEquals(persons, new ArchiveFile(archiveFilePath).read());
+        assertTrue(Files.size(archiveFilePath) * 4 < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readNames_afterAppendAndWrite_namesOfArchivedPersons() throws IOException {
+        ArchiveFile archiveFile = new ArchiveFile(testFolder.resolve("names.archive.gz"));
+        assertEquals(List.of(), archiveFile.readNames());
+
+        archiveFile.append(List.of(ALICE));
+        archiveFile.append(List.of(BENSON, CARL));
+        assertEquals(List.of(ALICE.getName(), BENSON.getName(), CARL.getName()), archiveFile.readNames());
+        archiveFile.write(List.of(BENSON));
+        assertEquals(List.of(BENSON.getName()), archiveFile.readNames());
+
+        // a missing names file is rebuilt from the archive
+        Files.delete(archiveFile.getNamesFilePath());
+        archiveFile.append(List.of(ALICE));
+        assertEquals(List.of(BENSON.getName(), ALICE.getName()), archiveFile.readNames());
+    }
+
+    @Test
+    public void readNames_damagedArchiveOrNamesCutShort_readsWholeNames() throws IOException {
+        Path archiveFilePath = testFolder.resolve("damaged.archive.gz");
+        ArchiveFile archiveFile = new ArchiveFile(archiveFilePath);
+        archiveFile.append(List.of(ALICE, BENSON));
+        byte[] content = Files.readAllBytes(archiveFilePath);
+        Files.write(archiveFilePath, Arrays.copyOf(content, content.length / 2));
+        assertEquals(List.of(ALICE.getName(), BENSON.getName()), archiveFile.readNames());
+
+        // as left by a crash in the middle of appending a name
+        Files.writeString(archiveFile.getNamesFilePath(), "Carl", StandardOpenOption.APPEND);
+        assertEquals(List.of(ALICE.getName(), BENSON.getName()), archiveFile.readNames());
+    }
+
+    @Test
+    public void read_truncatedFile_throwsIoException() throws IOException {
+        Path archiveFilePath = testFolder.resolve("truncated.archive.gz");
+        new ArchiveFile(archiveFilePath).append(List.of(ALICE, BENSON));
+        byte[] content = Files.readAllBytes(archiveFilePath);
+        Files.write(archiveFilePath, Arrays.copyOf(content, content.length / 2));
+        assertThrows(IOException.class, () -> new ArchiveFile(archiveFilePath).read());
+    }
+}
@@ -0,0 +1,182 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SyntheticPersonGenerator;
+import seedu.address.storage.btree.BTree;
+import seedu.address.testutil.PersonBuilder;
+
+public class BTreeAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.db");
+        assertFalse(new BTreeAddressBookStorage(filePath).readAddressBook().isPresent());
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void read_notPageFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("notPageFile.db");
+        Files.writeString(filePath, "{ \"persons\": [] }");
+        assertThrows(DataConversionException.class, () -> new BTreeAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.db");
+        AddressBook original = getTypicalAddressBook();
+        try (BTreeAddressBookStorage storage = new BTreeAddressBookStorage(filePath)) {
+            // Save in new file and read back
+            storage.saveAddressBook(original);
+            assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+            // Modify data, overwrite existing file, and read back
+            original.addPerson(HOON);
+            original.removePerson(ALICE);
+            original.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("99999999").build());
+            storage.saveAddressBook(original);
+        }
+        try (BTreeAddressBookStorage storage = new BTreeAddressBookStorage(filePath)) {
+            assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        }
+    }
+
+    @Test
+    public void saveAddressBook_renameWithMeeting_readBack() throws Exception {
+        Path filePath = testFolder.resolve("data.db");
+        Person meeting = new PersonBuilder(DANIEL).withAppointment(new Appointment("03-Jan-2022 10:00")).build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(Arrays.asList(ALICE, BENSON, meeting));
+        try (BTreeAddressBookStorage storage = new BTreeAddressBookStorage(filePath)) {
+            storage.saveAddressBook(addressBook);
+            Person renamed = new PersonBuilder(meeting).withName("Daniel Tan").build();
+            addressBook.setPerson(meeting, renamed);
+            storage.saveAddressBook(addressBook);
+        }
+        try (BTreeAddressBookStorage storage = new BTreeAddressBookStorage(filePath)) {
+            List<Person> readBack = storage.readAddressBook().get().getPersonList();
+            assertEquals(List.of("Alice Pauline", "Benson Meier", "Daniel Tan"), readBack.stream()
+                    .map(person -> person.getName().fullName).collect(Collectors.toList()));
+            assertEquals(meeting.getAppointment(), readBack.get(2).getAppointment());
+        }
+    }
+
+    @Test
+    public void saveAddressBook_failsHalfway_fileLeftAsLastSaved() throws Exception {
+        Path filePath = testFolder.resolve("data.db");
+        AddressBook original = getTypicalAddressBook();
+        try (BTreeAddressBookStorage storage = new BTreeAddressBookStorage(filePath)) {
+            storage.saveAddressBook(original);
+        }
+
+        AddressBook changed = new AddressBook(original);
+        changed.addPerson(HOON);
+        changed.addPerson(new PersonBuilder().withName("A".repeat(BTree.MAX_KEY_SIZE + 1)).build());
+        try (BTreeAddressBookStorage storage = new BTreeAddressBookStorage(filePath)) {
+            assertThrows(IOException.class, () -> storage.saveAddressBook(changed));
+        }
+
+        try (BTreeAddressBookStorage storage = new BTreeAddressBookStorage(filePath)) {
+            assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        }
+    }
+
+    @Test
+    public void saveAddressBook_failsAfterEvictions_fileReopenedAsLastSaved() throws Exception {
+        Path filePath = testFolder.resolve("data.db");
+        AddressBook original = new AddressBook();
+        new SyntheticPersonGenerator(500, new SyntheticPersonGenerator.Settings())
+                .forEachRemaining(original::addPerson);
+        AddressBook saved;
+        try (BTreeAddressBookStorage storage = new BTreeAddressBookStorage(filePath, 4)) {
+            storage.saveAddressBook(original);
+            saved = new AddressBook(storage.readAddressBook().get());
+        }
+        long fileSize = Files.size(filePath);
+
+        // enough changes to evict pages, both changed ones and new ones, before the save fails
+        AddressBook changed = new AddressBook();
+        for (Person person : original.getPersonList()) {
+            changed.addPerson(new PersonBuilder(person).withEmail("changed@example.com").build());
+            changed.addPerson(new PersonBuilder(person).withName(person.getName().fullName + " New").build());
+        }
+        changed.addPerson(new PersonBuilder().withName("A".repeat(BTree.MAX_KEY_SIZE + 1)).build());
+        try (BTreeAddressBookStorage storage = new BTreeAddressBookStorage(filePath, 4)) {
+            assertThrows(IOException.class, () -> storage.saveAddressBook(changed));
+        }
+        assertTrue(Files.size(filePath) > fileSize);
+
+        try (BTreeAddressBookStorage storage = new BTreeAddressBookStorage(filePath, 4)) {
+            assertEquals(saved, new AddressBook(storage.readAddressBook().get()));
+        }
+        assertEquals(fileSize, Files.size(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_oneChangeToLargeBook_writesFewPages() throws Exception {
+        Path filePath = testFolder.resolve("large.db");
+        BTreeAddressBookStorage.savePersons(
+                new SyntheticPersonGenerator(20_000, new SyntheticPersonGenerator.Settings()), filePath);
+        long fileSize = Files.size(filePath);
+
+        try (BTreeAddressBookStorage storage = new BTreeAddressBookStorage(filePath, 64)) {
+            AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+            assertEquals(20_000, addressBook.getPersonList().size());
+
+            // compared with the persons read
+            Person person = addressBook.getPersonList().get(10_000);
+            addressBook.setPerson(person, new PersonBuilder(person).withEmail("changed@example.com").build());
+            long pagesWrittenBefore = storage.getPagesWritten();
+            storage.saveAddressBook(addressBook);
+            // the leaf of the person and the header
+            assertEquals(2, storage.getPagesWritten() - pagesWrittenBefore);
+
+            // followed from the first save
+            person = addressBook.getPersonList().get(15_000);
+            addressBook.setPerson(person, new PersonBuilder(person).withEmail("changed@example.com").build());
+            pagesWrittenBefore = storage.getPagesWritten();
+            storage.saveAddressBook(addressBook);
+            assertEquals(2, storage.getPagesWritten() - pagesWrittenBefore);
+            assertEquals(fileSize, Files.size(filePath));
+        }
+
+        try (BTreeAddressBookStorage storage = new BTreeAddressBookStorage(filePath, 64)) {
+            ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+            assertEquals("changed@example.com", readBack.getPersonList().get(10_000).getEmail().value);
+            assertEquals("changed@example.com", readBack.getPersonList().get(15_000).getEmail().value);
+        }
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BTreeAddressBookStorage(testFolder.resolve("data.db")).saveAddressBook(null));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,13 +10,17 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.CompressionUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -86,6 +91,60 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void savePersons_streamedPersons_readBackAsSameAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("StreamedAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+
+        assertEquals(original.getPersonList().size(),
+                JsonAddressBookStorage.savePersons(original.getPersonList().iterator(), filePath));
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_compressed_readBackByAnyStorage() throws Exception {
+        Path compressedFilePath = testFolder.resolve("Compressed.json");
+        Path plainFilePath = testFolder.resolve("Plain.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(compressedFilePath, 6).saveAddressBook(original);
+        new JsonAddressBookStorage(plainFilePath).saveAddressBook(original);
+
+        assertTrue(CompressionUtil.isCompressed(compressedFilePath));
+        assertFalse(CompressionUtil.isCompressed(plainFilePath));
+        assertTrue(Files.size(compressedFilePath) < Files.size(plainFilePath));
+        // the format is detected when reading, whatever the storage's own level
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(compressedFilePath).readAddressBook().get()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(plainFilePath, 9).readAddressBook().get()));
+
+        // streamed persons too
+        JsonAddressBookStorage.savePersons(original.getPersonList().iterator(), compressedFilePath, 1);
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(compressedFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_truncatedCompressedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("Truncated.json");
+        new JsonAddressBookStorage(filePath, 6).saveAddressBook(getTypicalAddressBook());
+        byte[] content = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(content, content.length / 2));
+        assertThrows(DataConversionException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void constructor_invalidCompressionLevel_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new JsonAddressBookStorage(testFolder, 10));
+        assertThrows(IllegalArgumentException.class, () -> new JsonAddressBookStorage(testFolder, -1));
+    }
+
+    @Test
+    public void savePersons_noPersons_readBackAsEmptyAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("EmptyAddressBook.json");
+
+        assertEquals(0, JsonAddressBookStorage.savePersons(Collections.emptyIterator(), filePath));
+        assertEquals(new AddressBook(), new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
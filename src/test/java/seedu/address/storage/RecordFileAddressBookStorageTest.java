@@ -0,0 +1,139 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class RecordFileAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.rec");
+        assertFalse(new RecordFileAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void read_notRecordFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("notRecordFile.rec");
+        Files.writeString(filePath, "{ \"persons\": [] }");
+        assertThrows(DataConversionException.class, () -> new RecordFileAddressBookStorage(filePath)
+                .readAddressBook());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.rec");
+        RecordFileAddressBookStorage storage = new RecordFileAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        // Save in new file and read back
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // Modify data, overwrite existing file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("99999999").build());
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertEquals(0, storage.getQuarantinedCount());
+        assertFalse(Files.exists(RecordFileAddressBookStorage.getQuarantineFilePath(filePath)));
+    }
+
+    @Test
+    public void read_damagedRecord_otherPersonsReadAndDamageQuarantined() throws Exception {
+        Path filePath = testFolder.resolve("damaged.rec");
+        RecordFileAddressBookStorage storage = new RecordFileAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        int bensonStart = RecordFileAddressBookStorage.FILE_HEADER.length + toFrame(ALICE).length;
+        byte[] bensonFrame = Arrays.copyOfRange(bytes, bensonStart, bensonStart + toFrame(BENSON).length);
+        bytes[bensonStart + RecordFileAddressBookStorage.FRAME_HEADER_SIZE + 2] ^= 1;
+        Files.write(filePath, bytes);
+
+        List<Person> expectedPersons = new ArrayList<>(getTypicalPersons());
+        expectedPersons.remove(BENSON);
+        assertEquals(expectedPersons, storage.readAddressBook().get().getPersonList());
+        assertEquals(1, storage.getQuarantinedCount());
+
+        // the damaged frame is kept in the quarantine file
+        bensonFrame[RecordFileAddressBookStorage.FRAME_HEADER_SIZE + 2] ^= 1;
+        assertArrayEquals(bensonFrame, Files.readAllBytes(
+                RecordFileAddressBookStorage.getQuarantineFilePath(filePath)));
+
+        // the data file was rewritten without it, so reading again quarantines nothing more
+        assertEquals(expectedPersons, storage.readAddressBook().get().getPersonList());
+        assertEquals(0, storage.getQuarantinedCount());
+        assertArrayEquals(bensonFrame, Files.readAllBytes(
+                RecordFileAddressBookStorage.getQuarantineFilePath(filePath)));
+    }
+
+    @Test
+    public void read_truncatedFile_completePersonsRead() throws Exception {
+        Path filePath = testFolder.resolve("truncated.rec");
+        RecordFileAddressBookStorage storage = new RecordFileAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+
+        List<Person> expectedPersons = getTypicalPersons();
+        assertEquals(expectedPersons.subList(0, expectedPersons.size() - 1),
+                storage.readAddressBook().get().getPersonList());
+        assertEquals(1, storage.getQuarantinedCount());
+    }
+
+    @Test
+    public void read_invalidAndRepeatedPersons_skipped() throws Exception {
+        Path filePath = testFolder.resolve("invalid.rec");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write(RecordFileAddressBookStorage.FILE_HEADER);
+        bytes.write(toFrame(ALICE));
+        bytes.write(RecordFileAddressBookStorage.toFrame(PersonRecords.toKey("R@chel"),
+                PersonRecords.toRecord(new JsonAdaptedPerson(BENSON))));
+        bytes.write(toFrame(new PersonBuilder(ALICE).withPhone("99999999").build()));
+        bytes.write(toFrame(CARL));
+        Files.write(filePath, bytes.toByteArray());
+
+        RecordFileAddressBookStorage storage = new RecordFileAddressBookStorage(filePath);
+        assertEquals(List.of(ALICE, CARL), storage.readAddressBook().get().getPersonList());
+        assertEquals(2, storage.getQuarantinedCount());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new RecordFileAddressBookStorage(testFolder.resolve("data.rec")).saveAddressBook(null));
+    }
+
+    private static byte[] toFrame(Person person) {
+        return RecordFileAddressBookStorage.toFrame(PersonRecords.toKey(person.getName().fullName),
+                PersonRecords.toRecord(new JsonAdaptedPerson(person)));
+    }
+}
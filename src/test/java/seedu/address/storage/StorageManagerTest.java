@@ -1,9 +1,13 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -11,9 +15,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.commons.core.metrics.CommandMetrics;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.testutil.PersonBuilder;
 
 public class StorageManagerTest {
 
@@ -60,6 +67,50 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBook_unchangedAddressBook_skipsSave() throws Exception {
+        CommandMetrics metrics = MetricsCenter.getCommandMetrics();
+        long skippedSaveCount = metrics.getSkippedSaveCount();
+        AddressBook addressBook = getTypicalAddressBook();
+        storageManager.saveAddressBook(addressBook);
+        Path filePath = storageManager.getAddressBookFilePath();
+        Files.delete(filePath);
+
+        // an identical edit is not a change
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).build());
+        storageManager.saveAddressBook(addressBook);
+        assertFalse(Files.exists(filePath));
+        assertEquals(skippedSaveCount + 1, metrics.getSkippedSaveCount());
+
+        // an equal address book is saved, as it may be changed without the saved one
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        assertTrue(Files.exists(filePath));
+
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("99999999").build());
+        storageManager.saveAddressBook(addressBook);
+        assertEquals(addressBook, new AddressBook(storageManager.readAddressBook().get()));
+        assertEquals(skippedSaveCount + 1, metrics.getSkippedSaveCount());
+    }
+
+    @Test
+    public void markSaved_loadedAddressBook_skipsSaveUntilChanged() throws Exception {
+        CommandMetrics metrics = MetricsCenter.getCommandMetrics();
+        long skippedSaveCount = metrics.getSkippedSaveCount();
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        AddressBook addressBook = new AddressBook(storageManager.readAddressBook().get());
+        storageManager.markSaved(addressBook);
+        Path filePath = storageManager.getAddressBookFilePath();
+        Files.delete(filePath);
+
+        storageManager.saveAddressBook(addressBook);
+        assertFalse(Files.exists(filePath));
+        assertEquals(skippedSaveCount + 1, metrics.getSkippedSaveCount());
+
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("99999999").build());
+        storageManager.saveAddressBook(addressBook);
+        assertEquals(addressBook, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -0,0 +1,126 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.sync.AddressBookSyncPeer;
+import seedu.address.model.sync.MerkleTree;
+import seedu.address.model.sync.SyncBase;
+import seedu.address.model.sync.SyncResult;
+import seedu.address.model.sync.Synchronizer;
+import seedu.address.testutil.PersonBuilder;
+
+public class StreamSyncPeerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private AddressBook remoteBook;
+    private AddressBookSyncPeer remotePeer;
+    private StreamSyncPeer streamPeer;
+    private CompletableFuture<Void> server;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        remoteBook = getTypicalAddressBook();
+        remotePeer = new AddressBookSyncPeer(remoteBook);
+        PipedInputStream requests = new PipedInputStream(1 << 16);
+        PipedInputStream answers = new PipedInputStream(1 << 16);
+        PipedOutputStream requestsOut = new PipedOutputStream(requests);
+        PipedOutputStream answersOut = new PipedOutputStream(answers);
+        streamPeer = new StreamSyncPeer(answers, requestsOut);
+        server = CompletableFuture.runAsync(() -> {
+            try {
+                StreamSyncPeer.serve(remotePeer, requests, answersOut);
+                answersOut.close();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        streamPeer.close();
+        server.get();
+    }
+
+    @Test
+    public void getHashesAndPersons_sameAsServedPeer() throws Exception {
+        int[] nodes = {0, 3, MerkleTree.FANOUT - 1};
+        assertArrayEquals(remotePeer.getHashes(1, nodes), streamPeer.getHashes(1, nodes));
+        int[] leaves = {MerkleTree.getLeaf(ALICE.getName()), MerkleTree.getLeaf(BENSON.getName())};
+        assertEquals(remotePeer.getPersons(leaves), streamPeer.getPersons(leaves));
+    }
+
+    @Test
+    public void apply_changesServedAddressBook() throws Exception {
+        streamPeer.apply(List.of(HOON, new PersonBuilder(ALICE).withPhone("91234567").build()),
+                List.of(BENSON.getName()));
+        assertTrue(remoteBook.hasPerson(HOON));
+        assertEquals("91234567", remoteBook.getPersonList().stream()
+                .filter(ALICE::isSamePerson).findFirst().get().getPhone().value);
+        assertFalse(remoteBook.hasPerson(BENSON));
+    }
+
+    @Test
+    public void getHashes_invalidLevel_errorAndSessionContinues() throws Exception {
+        assertThrows(IOException.class, () -> streamPeer.getHashes(MerkleTree.LEVELS + 1, new int[] {0}));
+        assertArrayEquals(remotePeer.getHashes(0, new int[] {0}), streamPeer.getHashes(0, new int[] {0}));
+    }
+
+    @Test
+    public void sync_throughStream_sameAsInProcess() throws Exception {
+        AddressBook localBook = getTypicalAddressBook();
+        localBook.removePerson(ALICE);
+        localBook.addPerson(HOON);
+
+        SyncResult result = Synchronizer.sync(new AddressBookSyncPeer(localBook), streamPeer, new SyncBase());
+        assertEquals(1, result.getReceivedCount());
+        assertEquals(1, result.getSentCount());
+        assertEquals(new HashSet<>(localBook.getPersonList()), new HashSet<>(remoteBook.getPersonList()));
+    }
+
+    @Test
+    public void syncBaseFile_writeAndRead_sameEntries() throws Exception {
+        SyncBaseFile baseFile = new SyncBaseFile(SyncBaseFile.getSyncBaseFilePath(testFolder.resolve("book.json")));
+        assertTrue(baseFile.read().isEmpty());
+
+        SyncBase base = new SyncBase();
+        Synchronizer.sync(new AddressBookSyncPeer(getTypicalAddressBook()), streamPeer, base);
+        baseFile.write(base);
+        base.setConflictLeaves(new int[] {7, 3});
+        baseFile.write(base);
+        SyncBase readBase = baseFile.read();
+        assertArrayEquals(new int[] {3, 7}, readBase.getConflictLeaves());
+        for (int leaf = 0; leaf < MerkleTree.LEAF_COUNT; leaf++) {
+            assertArrayEquals(base.getLeafEntries(leaf), readBase.getLeafEntries(leaf));
+        }
+
+        Files.writeString(baseFile.getFilePath(), "not a sync base");
+        assertThrows(DataConversionException.class, baseFile::read);
+    }
+}
@@ -0,0 +1,161 @@
+package seedu.address.storage.btree;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BTreeTest {
+
+    private static final int KEY_COUNT = 5000;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void put_manyKeysInSmallCache_getsEveryValueAfterReopening() throws IOException {
+        Path filePath = testFolder.resolve("tree.db");
+        try (PageStore store = PageStore.open(filePath, 4)) {
+            BTree tree = new BTree(store, 0);
+            // inserted out of order, so that splits happen all over the tree
+            for (int i = 0; i < KEY_COUNT; i++) {
+                int k = (i * 7919) % KEY_COUNT;
+                tree.put(key(k), value(k));
+            }
+            assertTrue(store.getPageCount() > 10);
+        }
+
+        try (PageStore store = PageStore.open(filePath, 4)) {
+            BTree tree = new BTree(store, 0);
+            for (int k = 0; k < KEY_COUNT; k++) {
+                assertArrayEquals(value(k), tree.get(key(k)));
+            }
+            assertNull(tree.get(key(KEY_COUNT)));
+            assertNull(new BTree(store, 1).get(key(0)));
+        }
+    }
+
+    @Test
+    public void scan_range_visitsKeysInOrder() throws IOException {
+        try (PageStore store = PageStore.open(testFolder.resolve("tree.db"), 16)) {
+            BTree tree = new BTree(store, 0);
+            for (int k = KEY_COUNT - 1; k >= 0; k--) {
+                tree.put(key(k), value(k));
+            }
+
+            List<byte[]> keys = new ArrayList<>();
+            tree.scan(key(1000), key(3000), (key, value) -> {
+                assertArrayEquals(value(Integer.parseInt(new String(key, StandardCharsets.UTF_8))), value);
+                return keys.add(key);
+            });
+            assertEquals(2000, keys.size());
+            for (int i = 0; i < keys.size(); i++) {
+                assertArrayEquals(key(1000 + i), keys.get(i));
+            }
+
+            // stops when asked to
+            keys.clear();
+            tree.scan(null, null, (key, value) -> keys.add(key) && keys.size() < 3);
+            assertEquals(3, keys.size());
+            assertArrayEquals(key(0), keys.get(0));
+        }
+    }
+
+    @Test
+    public void delete_keys_removesThemAndKeepsOthers() throws IOException {
+        try (PageStore store = PageStore.open(testFolder.resolve("tree.db"), 16)) {
+            BTree tree = new BTree(store, 0);
+            for (int k = 0; k < KEY_COUNT; k++) {
+                tree.put(key(k), value(k));
+            }
+            for (int k = 0; k < KEY_COUNT; k += 2) {
+                assertTrue(tree.delete(key(k)));
+            }
+            assertFalse(tree.delete(key(0)));
+
+            for (int k = 0; k < KEY_COUNT; k++) {
+                assertEquals(k % 2 == 0 ? null : new String(value(k), StandardCharsets.UTF_8),
+                        tree.get(key(k)) == null ? null : new String(tree.get(key(k)), StandardCharsets.UTF_8));
+            }
+            int[] count = new int[1];
+            tree.scan(null, null, (key, value) -> ++count[0] > 0);
+            assertEquals(KEY_COUNT / 2, count[0]);
+        }
+    }
+
+    @Test
+    public void put_largeValues_keepsThemInOverflowPagesAndReusesFreedPages() throws IOException {
+        try (PageStore store = PageStore.open(testFolder.resolve("tree.db"), 16)) {
+            BTree tree = new BTree(store, 0);
+            byte[] large = new byte[3 * PageStore.PAGE_SIZE];
+            large[large.length - 1] = 42;
+            tree.put(key(1), large);
+            tree.put(key(2), value(2));
+            assertArrayEquals(large, tree.get(key(1)));
+            int pageCount = store.getPageCount();
+
+            // replacing the value frees its overflow pages, which the next large value reuses
+            tree.put(key(1), value(1));
+            assertArrayEquals(value(1), tree.get(key(1)));
+            tree.put(key(3), large);
+            assertEquals(pageCount, store.getPageCount());
+            assertArrayEquals(large, tree.get(key(3)));
+        }
+    }
+
+    @Test
+    public void put_changeToLargeTree_writesOnlyTouchedPages() throws IOException {
+        Path filePath = testFolder.resolve("tree.db");
+        try (PageStore store = PageStore.open(filePath, 64)) {
+            BTree tree = new BTree(store, 0);
+            for (int k = 0; k < KEY_COUNT; k++) {
+                tree.put(key(k), value(k));
+            }
+        }
+
+        try (PageStore store = PageStore.open(filePath, 64)) {
+            BTree tree = new BTree(store, 0);
+            tree.put(key(1234), value(4321));
+            long pagesWrittenBefore = store.getPagesWritten();
+            store.flush();
+            // the changed leaf and the header
+            assertEquals(2, store.getPagesWritten() - pagesWrittenBefore);
+            assertTrue(store.getPagesRead() < 5);
+        }
+    }
+
+    @Test
+    public void put_keyTooLong_throwsIllegalArgumentException() throws IOException {
+        try (PageStore store = PageStore.open(testFolder.resolve("tree.db"), 16)) {
+            assertThrows(IllegalArgumentException.class, () ->
+                    new BTree(store, 0).put(new byte[BTree.MAX_KEY_SIZE + 1], value(0)));
+        }
+    }
+
+    @Test
+    public void open_notPageFile_throwsPageFormatException() throws IOException {
+        Path filePath = testFolder.resolve("notPageFile.db");
+        Files.write(filePath, new byte[PageStore.PAGE_SIZE]);
+        assertThrows(PageFormatException.class, () -> PageStore.open(filePath, 16));
+    }
+
+    private static byte[] key(int k) {
+        return String.format("%08d", k).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] value(int k) {
+        return ("value of " + k).getBytes(StandardCharsets.UTF_8);
+    }
+}